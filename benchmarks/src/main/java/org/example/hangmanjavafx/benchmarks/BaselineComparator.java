@@ -0,0 +1,140 @@
+package org.example.hangmanjavafx.benchmarks;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+/**
+ * Compares a JMH result file with a stored baseline and fails if a benchmark got slower than the tolerance allows.
+ * Benchmarks are matched by name and parameters. Throughput scores must not drop, and time scores must not rise,
+ * by more than the tolerance. Benchmarks missing from either file are reported but do not fail the comparison.
+ * <p>
+ * Usage: {@code BaselineComparator result.json baseline.json [tolerance]}, the tolerance a fraction such as 0.10.
+ * Exits with status 1 if any benchmark regressed or the baseline file does not exist.
+ */
+public class BaselineComparator {
+    private static final Logger LOGGER = Logger.getLogger(BaselineComparator.class.getName());
+
+    /**
+     * The score of one benchmark.
+     * @param mode  The JMH mode, e.g. "thrpt" or "avgt".
+     * @param score The primary score.
+     * @param unit  The unit of the score.
+     */
+    record Score(String mode, double score, String unit) {
+
+        boolean isHigherBetter() {
+            return mode.equals("thrpt");
+        }
+    }
+
+    /**
+     * Reads the scores of a JMH result file written with {@code -rf json}.
+     * @param path The result file.
+     * @return The scores by benchmark name and parameters, in the order of the file.
+     * @throws IOException If the file cannot be read.
+     */
+    static Map<String, Score> readScores(Path path) throws IOException {
+        JsonArray results;
+        try (Reader reader = Files.newBufferedReader(path)) {
+            results = JsonParser.parseReader(reader).getAsJsonArray();
+        }
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonElement element : results) {
+            JsonObject result = element.getAsJsonObject();
+            JsonObject metric = result.getAsJsonObject("primaryMetric");
+            scores.put(key(result), new Score(result.get("mode").getAsString(), metric.get("score").getAsDouble(),
+                    metric.get("scoreUnit").getAsString()));
+        }
+        return scores;
+    }
+
+    /**
+     * Builds the key of a result from its benchmark name and its parameters sorted by name.
+     */
+    private static String key(JsonObject result) {
+        StringBuilder key = new StringBuilder(result.get("benchmark").getAsString());
+        JsonObject params = result.getAsJsonObject("params");
+        if (params != null) {
+            Map<String, String> sorted = new TreeMap<>();
+            for (Map.Entry<String, JsonElement> param : params.entrySet())
+                sorted.put(param.getKey(), param.getValue().getAsString());
+            key.append(sorted);
+        }
+        return key.toString();
+    }
+
+    /**
+     * Compares the scores with the baseline and logs one line per benchmark.
+     * @param current   The scores of this run.
+     * @param baseline  The scores of the baseline.
+     * @param tolerance The fraction by which a score may be worse than the baseline.
+     * @return The number of benchmarks that regressed.
+     */
+    static int compare(Map<String, Score> current, Map<String, Score> baseline, double tolerance) {
+        int regressions = 0;
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score score = entry.getValue();
+            Score base = baseline.get(entry.getKey());
+            if (base == null) {
+                LOGGER.info(entry.getKey() + ": not in the baseline");
+                continue;
+            }
+            if (!base.mode().equals(score.mode()) || !base.unit().equals(score.unit())) {
+                LOGGER.warning(entry.getKey() + ": measured in " + score.mode() + " " + score.unit()
+                        + " but the baseline in " + base.mode() + " " + base.unit() + ", skipped");
+                continue;
+            }
+
+            // Positive change means slower, whatever the mode
+            double change = score.isHigherBetter()
+                    ? (base.score() - score.score()) / base.score()
+                    : (score.score() - base.score()) / base.score();
+            boolean regressed = change > tolerance;
+            String line = String.format(Locale.ROOT, "%s: %.3f %s, baseline %.3f, %+.1f%% %s",
+                    entry.getKey(), score.score(), score.unit(), base.score(), change * 100,
+                    regressed ? "REGRESSION" : "ok");
+            if (regressed) {
+                regressions++;
+                LOGGER.severe(line);
+            } else
+                LOGGER.info(line);
+        }
+        for (String name : baseline.keySet())
+            if (!current.containsKey(name))
+                LOGGER.info(name + ": in the baseline but not measured");
+        return regressions;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2)
+            throw new IllegalArgumentException("Usage: BaselineComparator result.json baseline.json [tolerance]");
+        Path resultPath = Path.of(args[0]);
+        Path baselinePath = Path.of(args[1]);
+        double tolerance = args.length > 2 ? Double.parseDouble(args[2]) : 0.10;
+
+        if (!Files.exists(baselinePath)) {
+            // Passing without a baseline would let every regression through unnoticed
+            LOGGER.severe("No baseline at " + baselinePath + ", nothing to compare against. Copy " + resultPath
+                    + " there to make this run the baseline.");
+            System.exit(1);
+        }
+        int regressions = compare(readScores(resultPath), readScores(baselinePath), tolerance);
+        if (regressions > 0) {
+            LOGGER.severe(String.format(Locale.ROOT, "%d benchmarks are more than %.0f%% slower than the baseline",
+                    regressions, tolerance * 100));
+            System.exit(1);
+        }
+        LOGGER.info(String.format(Locale.ROOT, "No benchmark is more than %.0f%% slower than the baseline", tolerance * 100));
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.hangmanjavafx.benchmarks;
+
+import org.example.hangmanjavafx.dictionary.ArrayDictionary;
+import org.example.hangmanjavafx.dictionary.DictionaryConverter;
+import org.example.hangmanjavafx.dictionary.MappedDictionary;
+import org.example.hangmanjavafx.dictionary.WordDictionary;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the startup cost of the two dictionaries on a large generated word list: the time from opening
+ * the dictionary to its first random pick, and the heap the open dictionary retains.
+ * {@code mapped} maps a file written by {@link DictionaryConverter}; {@code array} reads the plain word list
+ * onto the heap into an {@link ArrayDictionary}.
+ * <p>
+ * The {@code retainedBytes} counter of the results is the heap still used with the dictionary open,
+ * measured after a full GC once per iteration. Running with {@code -prof gc} adds the bytes allocated per open.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class DictionaryBenchmark {
+    private static final int GC_ROUNDS = 3;
+
+    @Param({"1000000"})
+    public int wordCount;
+
+    @Param({"mapped", "array"})
+    public String dictionaryType;
+
+    private Path directory;
+    private Path wordList;
+    private Path dictionaryFile;
+    private final SplittableRandom random = new SplittableRandom(HeadlessGame.SEED);
+
+    /**
+     * The heap the open dictionary retains, measured once per iteration.
+     * JMH clears the counter when the iteration starts, so the benchmark copies the measurement into it.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapFootprint {
+        public long retainedBytes;
+        private long measuredBytes;
+
+        @Setup(Level.Iteration)
+        public void measure(DictionaryBenchmark benchmark) throws IOException {
+            long before = usedHeap();
+            WordDictionary dictionary = benchmark.open();
+            dictionary.randomWord(benchmark.random);
+            measuredBytes = usedHeap() - before;
+            Reference.reachabilityFence(dictionary);
+        }
+
+        private static long usedHeap() {
+            Runtime runtime = Runtime.getRuntime();
+            for (int i = 0; i < GC_ROUNDS; i++)
+                System.gc();
+            return runtime.totalMemory() - runtime.freeMemory();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        String[] words = SyntheticWords.generate(wordCount, HeadlessGame.SEED);
+        directory = Files.createTempDirectory("hangman-dictionary-benchmark");
+        wordList = directory.resolve("words.txt");
+        dictionaryFile = directory.resolve("words.dict");
+        Files.write(wordList, Arrays.asList(words), StandardCharsets.UTF_8);
+        DictionaryConverter.write(Arrays.asList(words), dictionaryFile);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(wordList);
+        Files.deleteIfExists(dictionaryFile);
+        Files.deleteIfExists(directory);
+    }
+
+    private WordDictionary open() throws IOException {
+        if (dictionaryType.equals("mapped"))
+            return new MappedDictionary(dictionaryFile);
+        return new ArrayDictionary(Files.readAllLines(wordList, StandardCharsets.UTF_8).toArray(new String[0]));
+    }
+
+    /**
+     * Opens the dictionary and picks the first word, as a game does at startup.
+     * @param footprint The heap footprint to report with this benchmark.
+     */
+    @Benchmark
+    public String firstPick(HeapFootprint footprint) throws IOException {
+        footprint.retainedBytes = footprint.measuredBytes;
+        return open().randomWord(random);
+    }
+}
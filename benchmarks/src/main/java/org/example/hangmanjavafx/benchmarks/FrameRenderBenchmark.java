@@ -0,0 +1,83 @@
+package org.example.hangmanjavafx.benchmarks;
+
+import org.example.hangmanjavafx.Hangman;
+import org.example.hangmanjavafx.graphics.BitmapFont;
+import org.example.hangmanjavafx.graphics.RasterSurface;
+import org.example.hangmanjavafx.main.GameStates;
+import org.example.hangmanjavafx.main.Render;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many frames per second each scene paints into a {@link RasterSurface}, without a toolkit or a display:
+ * full repaints, and on-demand repaints of the regions a hover change marks dirty.
+ * <p>
+ * Also the allocation check of the render path: run with {@code -prof gc}, every benchmark should report
+ * a {@code gc.alloc.rate.norm} close to 0 B/op, since scenes keep their texts and measured sizes between frames.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FrameRenderBenchmark {
+    // Points over a button of every scene: the play and exit buttons, or the letter buttons E and I
+    private static final int HOVER_X1 = 300, HOVER_X2 = 460, HOVER_Y = 475;
+
+    @Param({"MENU", "PLAYING", "GAME_OVER"})
+    public String scene;
+
+    private Hangman hangman;
+    private Render render;
+    private RasterSurface surface;
+    private boolean hoverFirst;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        hangman = HeadlessGame.create();
+        hangman.setTextMeasurer(new BitmapFont());
+        render = new Render(hangman);
+        surface = new RasterSurface(hangman.getGameWindow().getWindowWidth(), hangman.getGameWindow().getWindowHeight());
+        hangman.getGameStateMachine().setGameState(GameStates.valueOf(scene));
+        hangman.update();
+        render.render(surface);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        hangman.getGameStore().delete();
+    }
+
+    @Benchmark
+    public RasterSurface fullFrame() {
+        hangman.getDirtyRegions().markAllDirty();
+        render.render(surface);
+        return surface;
+    }
+
+    /**
+     * Moves the mouse between two buttons and repaints only the two buttons whose hover state changed.
+     */
+    @Benchmark
+    public RasterSurface hoverFrame() {
+        hoverFirst = !hoverFirst;
+        hangman.getInputQueue().mouseMoved(hoverFirst ? HOVER_X1 : HOVER_X2, HOVER_Y);
+        hangman.getInputQueue().dispatch();
+        render.render(surface);
+        return surface;
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.hangmanjavafx.benchmarks;
+
+import javafx.scene.canvas.Canvas;
+import org.example.hangmanjavafx.Hangman;
+import org.example.hangmanjavafx.graphics.BitmapFont;
+import org.example.hangmanjavafx.graphics.CanvasSurface;
+import org.example.hangmanjavafx.graphics.DrawingSurface;
+import org.example.hangmanjavafx.graphics.RasterSurface;
+import org.example.hangmanjavafx.inputs.InputQueue;
+import org.example.hangmanjavafx.main.GameStateMachine;
+import org.example.hangmanjavafx.main.GameStates;
+import org.example.hangmanjavafx.main.Render;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plays whole games through the scenes like the game loop does, without a window:
+ * every frame delivers one key press through the {@link InputQueue}, runs an update and repaints the whole frame.
+ * A game ends in the won or lost scene, which is painted once before the next game starts, as its replay button would.
+ * <p>
+ * Frames are painted on a JavaFX canvas, which needs the native libraries of the JavaFX graphics module
+ * but no display, or into a {@link RasterSurface}, which needs neither.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class FullGameBenchmark {
+    private static final String LETTERS_BY_FREQUENCY = "ETAOINSHRDLCUMWFGYPBVKJXQZ";
+
+    @Param({"canvas", "raster"})
+    public String surfaceType;
+
+    private Hangman hangman;
+    private Render render;
+    private DrawingSurface surface;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        hangman = HeadlessGame.create();
+        render = new Render(hangman);
+        render.setOnDemand(false);
+        int width = hangman.getGameWindow().getWindowWidth(), height = hangman.getGameWindow().getWindowHeight();
+        if (surfaceType.equals("raster")) {
+            hangman.setTextMeasurer(new BitmapFont());
+            surface = new RasterSurface(width, height);
+        } else
+            surface = new CanvasSurface(new Canvas(width, height).getGraphicsContext2D());
+        hangman.getGameStateMachine().setGameState(GameStates.PLAYING);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        hangman.getGameStore().delete();
+    }
+
+    /**
+     * Plays one game and starts the next.
+     * @return The number of frames the game took.
+     */
+    @Benchmark
+    public int playGame() {
+        GameStateMachine gameStateMachine = hangman.getGameStateMachine();
+        InputQueue inputQueue = hangman.getInputQueue();
+        int frames = 0;
+        for (int i = 0; i < LETTERS_BY_FREQUENCY.length() && gameStateMachine.isIn(GameStates.PLAYING); i++) {
+            inputQueue.keyPressed(LETTERS_BY_FREQUENCY.charAt(i));
+            inputQueue.dispatch();
+            hangman.update();
+            render.render(surface);
+            frames++;
+        }
+        render.render(surface);
+
+        hangman.getPlaying().resetEverything();
+        gameStateMachine.setGameState(GameStates.PLAYING);
+        return frames + 1;
+    }
+}
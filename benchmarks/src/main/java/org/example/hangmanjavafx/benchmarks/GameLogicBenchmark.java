@@ -0,0 +1,100 @@
+package org.example.hangmanjavafx.benchmarks;
+
+import org.example.hangmanjavafx.Hangman;
+import org.example.hangmanjavafx.dictionary.Difficulty;
+import org.example.hangmanjavafx.engine.GameSession;
+import org.example.hangmanjavafx.engine.GuessResult;
+import org.example.hangmanjavafx.simulation.FrequencyStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the game logic behind the playing scene, without JavaFX:
+ * the guesses of {@code Playing.updateGuessedWord}, picking the word of a new game with {@link Hangman#chooseWord()},
+ * and whole games played by a {@link FrequencyStrategy}, reported as games per second.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameLogicBenchmark {
+    private static final String LETTERS_BY_FREQUENCY = "ETAOINSHRDLCUMWFGYPBVKJXQZ";
+
+    @State(Scope.Thread)
+    public static class WordState {
+        @Param({"CAT", "WATERMELON"})
+        public String word;
+    }
+
+    @State(Scope.Thread)
+    public static class GameState {
+        @Param({"NONE", "EASY", "HARD"})
+        public String difficulty;
+
+        Hangman hangman;
+        final FrequencyStrategy strategy = new FrequencyStrategy();
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            hangman = HeadlessGame.create();
+            hangman.setDifficulty(difficulty.equals("NONE") ? null : Difficulty.valueOf(difficulty));
+            hangman.getWordIndex();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            hangman.getGameStore().delete();
+        }
+    }
+
+    /**
+     * Guesses letters in frequency order until the game is over, taking the dotted word after every hit
+     * like {@code Playing.updateGuessedWord} does.
+     */
+    @Benchmark
+    public GameSession guessWord(WordState state, Blackhole blackhole) {
+        GameSession session = new GameSession(state.word);
+        for (int i = 0; i < LETTERS_BY_FREQUENCY.length() && !session.isFinished(); i++) {
+            GuessResult result = session.guess(LETTERS_BY_FREQUENCY.charAt(i));
+            if (result.isHit())
+                blackhole.consume(session.getGuessedWord());
+        }
+        return session;
+    }
+
+    @Benchmark
+    public String chooseWord(GameState state) {
+        return state.hangman.chooseWord();
+    }
+
+    /**
+     * Plays a whole game with a word picked for the difficulty.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public GameSession fullGame(GameState state) {
+        GameSession session = new GameSession(state.hangman.chooseWord());
+        state.strategy.newGame(session);
+        while (!session.isFinished()) {
+            char guess = state.strategy.nextGuess(session);
+            state.strategy.onGuess(session, guess, session.guess(guess));
+        }
+        return session;
+    }
+}
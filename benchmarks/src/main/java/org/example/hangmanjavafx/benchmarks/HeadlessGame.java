@@ -0,0 +1,26 @@
+package org.example.hangmanjavafx.benchmarks;
+
+import org.example.hangmanjavafx.Hangman;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * Creates games for benchmarks without a stage or a game loop.
+ */
+final class HeadlessGame {
+    static final long SEED = 42;
+
+    private HeadlessGame() {
+    }
+
+    /**
+     * Creates a game with a fixed seed that keeps its saved games and statistics in a temporary directory,
+     * so benchmarks neither read nor change the player's files. Tear it down with {@code hangman.getGameStore().delete()},
+     * which removes the directory again.
+     * @return The game, not started.
+     * @throws IOException If the temporary directory cannot be created.
+     */
+    static Hangman create() throws IOException {
+        return new Hangman(Files.createTempDirectory("hangman-benchmark"), SEED, null);
+    }
+}
@@ -0,0 +1,140 @@
+package org.example.hangmanjavafx.benchmarks;
+
+import org.example.hangmanjavafx.graphics.DrawingSurface;
+import org.example.hangmanjavafx.helperMethods.GameData;
+import org.example.hangmanjavafx.inputs.InputQueue;
+import org.example.hangmanjavafx.main.GameStateMachine;
+import org.example.hangmanjavafx.main.GameStates;
+import org.example.hangmanjavafx.main.GameWindow;
+import org.example.hangmanjavafx.main.SceneRegistry;
+import org.example.hangmanjavafx.scenes.SceneMethods;
+import org.example.hangmanjavafx.ui.CustomButton;
+import org.example.hangmanjavafx.ui.HitTestGrid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the hit-testing behind {@code mouseMoved} and {@code mouseClicked} on the buttons of the playing scene,
+ * against the linear scan over all buttons it replaced, and the delivery of a frame's input through the {@link InputQueue}.
+ * The buttons are laid out like in {@code Playing}; nothing is drawn, so no JavaFX toolkit is needed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HitTestBenchmark {
+    private static final int POINT_COUNT = 1024;
+    private static final int MOVES_PER_FRAME = 16;
+    private final List<CustomButton> buttons = new ArrayList<>();
+    private final int[] xs = new int[POINT_COUNT];
+    private final int[] ys = new int[POINT_COUNT];
+    private HitTestGrid hitTestGrid;
+    private InputQueue inputQueue;
+    private int next = 0;
+
+    @Setup
+    public void setUp() {
+        GameWindow gameWindow = new GameWindow();
+        hitTestGrid = new HitTestGrid(gameWindow.getWindowWidth(), gameWindow.getWindowHeight());
+        CustomButton menuButton = new CustomButton("Menu", 670, 30, 100, 30);
+        buttons.add(menuButton);
+        hitTestGrid.register(menuButton);
+
+        int buttonWidth = 47, buttonHeight = buttonWidth / 2;
+        int x = 37, y = 470;
+        for (int i = 0; i < GameData.LETTERS.length(); i++) {
+            CustomButton letterButton = new CustomButton(String.valueOf(GameData.LETTERS.charAt(i)), x, y, buttonWidth, buttonHeight);
+            buttons.add(letterButton);
+            hitTestGrid.register(letterButton);
+            x += buttonWidth + 10;
+            if ((i + 1) % 13 == 0) {
+                x = 37;
+                y += buttonHeight + 10;
+            }
+        }
+
+        // Half of the points lie in the button area at the bottom, where the mouse spends its time while playing
+        SplittableRandom random = new SplittableRandom(HeadlessGame.SEED);
+        for (int i = 0; i < POINT_COUNT; i++) {
+            xs[i] = random.nextInt(gameWindow.getWindowWidth());
+            ys[i] = i % 2 == 0 ? random.nextInt(gameWindow.getWindowHeight()) : 460 + random.nextInt(80);
+        }
+
+        SceneRegistry sceneRegistry = new SceneRegistry(new GameStateMachine());
+        sceneRegistry.register(GameStates.MENU, () -> new HitTestScene(hitTestGrid));
+        inputQueue = new InputQueue(sceneRegistry);
+    }
+
+    private int nextPoint() {
+        return next = (next + 1) & (POINT_COUNT - 1);
+    }
+
+    @Benchmark
+    public CustomButton gridFind() {
+        int i = nextPoint();
+        return hitTestGrid.find(xs[i], ys[i]);
+    }
+
+    @Benchmark
+    public CustomButton linearScan() {
+        int i = nextPoint();
+        for (CustomButton button : buttons)
+            if (button.getBounds().contains(xs[i], ys[i]))
+                return button;
+        return null;
+    }
+
+    @Benchmark
+    public CustomButton gridHover() {
+        int i = nextPoint();
+        return hitTestGrid.hover(xs[i], ys[i]);
+    }
+
+    /**
+     * Queues the moves of a high-polling mouse and a click, and delivers them like one frame of the game loop.
+     */
+    @Benchmark
+    public long dispatchFrame() {
+        for (int m = 0; m < MOVES_PER_FRAME; m++) {
+            int i = nextPoint();
+            inputQueue.mouseMoved(xs[i], ys[i]);
+        }
+        int i = nextPoint();
+        inputQueue.mouseClicked(xs[i], ys[i]);
+        inputQueue.dispatch();
+        return inputQueue.getEventsApplied();
+    }
+
+    /**
+     * A scene that only hit-tests its buttons, like the playing scene without guessing.
+     */
+    private record HitTestScene(HitTestGrid hitTestGrid) implements SceneMethods {
+        @Override
+        public void render(DrawingSurface surface) {
+        }
+
+        @Override
+        public void mouseClicked(int x, int y) {
+            hitTestGrid.find(x, y);
+        }
+
+        @Override
+        public void mouseMoved(int x, int y) {
+            hitTestGrid.hover(x, y);
+        }
+    }
+}
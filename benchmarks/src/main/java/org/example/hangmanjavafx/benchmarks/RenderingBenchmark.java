@@ -0,0 +1,101 @@
+package org.example.hangmanjavafx.benchmarks;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import org.example.hangmanjavafx.graphics.CanvasSurface;
+import org.example.hangmanjavafx.helperMethods.DownloadSave;
+import org.example.hangmanjavafx.helperMethods.GameData;
+import org.example.hangmanjavafx.main.GameWindow;
+import org.example.hangmanjavafx.ui.CustomButton;
+import org.example.hangmanjavafx.ui.TextMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the rendering helpers of the scenes: text measuring for {@link CustomButton#draw}, with and without
+ * the {@link TextMetrics} cache, drawing the letter buttons, and image lookups through {@link DownloadSave}.
+ * <p>
+ * Needs the native libraries of the JavaFX graphics module for fonts and image decoding, but no display:
+ * the canvas is never shown, and the toolkit is not started.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RenderingBenchmark {
+    private final CustomButton[] letterButtons = new CustomButton[GameData.LETTERS.length()];
+    private final Font font = Font.getDefault();
+    private GraphicsContext gc;
+    private CanvasSurface surface;
+    private int width, height;
+    private int next = 0;
+
+    @Setup
+    public void setUp() {
+        GameWindow gameWindow = new GameWindow();
+        width = gameWindow.getWindowWidth();
+        height = gameWindow.getWindowHeight();
+        gc = new Canvas(width, height).getGraphicsContext2D();
+        surface = new CanvasSurface(gc);
+        for (int i = 0; i < letterButtons.length; i++)
+            letterButtons[i] = new CustomButton(String.valueOf(GameData.LETTERS.charAt(i)), 37 + (i % 13) * 57, 470 + (i / 13) * 33, 47, 23);
+        DownloadSave.preloadImages().join();
+    }
+
+    private String nextLabel() {
+        next = next + 1 == letterButtons.length ? 0 : next + 1;
+        return letterButtons[next].getText();
+    }
+
+    @Benchmark
+    public TextMetrics.TextBounds measureTextCached() {
+        return TextMetrics.measure(nextLabel(), font);
+    }
+
+    /**
+     * Measures a label with a new text node, as every button did on every frame before the cache.
+     */
+    @Benchmark
+    public double measureTextNode() {
+        Text text = new Text(nextLabel());
+        text.setFont(font);
+        return text.getLayoutBounds().getWidth();
+    }
+
+    /**
+     * Draws all letter buttons. Clearing the whole canvas first lets it drop the commands of the previous call,
+     * so its command buffer does not grow while nobody paints it.
+     */
+    @Benchmark
+    public GraphicsContext drawLetterButtons() {
+        gc.clearRect(0, 0, width, height);
+        for (CustomButton button : letterButtons)
+            button.draw(surface);
+        return gc;
+    }
+
+    @Benchmark
+    public Image getImage() {
+        return DownloadSave.getImage("menu.jpg");
+    }
+
+    @Benchmark
+    public Image getHangmanImage() {
+        next = next == GameData.MAX_MISS ? 0 : next + 1;
+        return DownloadSave.getHangmanImage(next);
+    }
+}
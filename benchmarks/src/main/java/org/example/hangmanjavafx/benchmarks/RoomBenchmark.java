@@ -0,0 +1,133 @@
+package org.example.hangmanjavafx.benchmarks;
+
+import org.example.hangmanjavafx.dictionary.ArrayDictionary;
+import org.example.hangmanjavafx.dictionary.WordDictionary;
+import org.example.hangmanjavafx.engine.GuessResult;
+import org.example.hangmanjavafx.helperMethods.GameData;
+import org.example.hangmanjavafx.rooms.GameRoom;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures how many guesses per second {@link GameRoom}s take while several threads guess in the same rooms
+ * and many spectators follow them. Every benchmark thread is a guesser; run with {@code -t} to change their number.
+ * Guessers pick random letters and start the next round when one is over, unless the room refuses because its
+ * broadcasts are too many rounds behind. The {@code applied} and {@code rounds} counters of the results are the
+ * guesses applied and the rounds started per second; CAS retries per guess and delivered events per second
+ * are printed at the end of each trial.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class RoomBenchmark {
+    @Param({"1", "16"})
+    public int rooms;
+
+    @Param({"0", "10000"})
+    public int spectators;
+
+    @Param({"2"})
+    public int broadcasters;
+
+    private final WordDictionary dictionary = new ArrayDictionary();
+    private final AtomicInteger nextGuesser = new AtomicInteger();
+    private final LongAdder appliedGuesses = new LongAdder();
+    private final LongAdder deliveredEvents = new LongAdder();
+    private ExecutorService broadcastExecutor;
+    private GameRoom[] gameRooms;
+    private long startTime;
+
+    /**
+     * The random letters of one guesser and the counts of its guesses.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Guesser {
+        public long applied;
+        public long rounds;
+        SplittableRandom random;
+
+        @Setup(Level.Trial)
+        public void setUp(RoomBenchmark benchmark) {
+            random = new SplittableRandom(benchmark.nextGuesser.getAndIncrement());
+        }
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            applied = 0;
+            rounds = 0;
+        }
+
+        @TearDown(Level.Iteration)
+        public void addTotal(RoomBenchmark benchmark) {
+            benchmark.appliedGuesses.add(applied);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        broadcastExecutor = Executors.newFixedThreadPool(broadcasters);
+        gameRooms = new GameRoom[rooms];
+        for (int i = 0; i < rooms; i++) {
+            gameRooms[i] = new GameRoom(dictionary.getWord(i % dictionary.size()), GameData.MAX_MISS, broadcastExecutor);
+            for (int s = 0; s < spectators / rooms; s++)
+                gameRooms[i].subscribe(events -> deliveredEvents.add(events.size()));
+        }
+        startTime = System.nanoTime();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        broadcastExecutor.shutdown();
+        broadcastExecutor.awaitTermination(1, TimeUnit.MINUTES);
+        double seconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+
+        long retries = 0;
+        long throttledStarts = 0;
+        for (GameRoom room : gameRooms) {
+            retries += room.getCasRetries();
+            throttledStarts += room.getThrottledStarts();
+        }
+        System.out.printf(Locale.ROOT, "%n%.3f CAS retries per guess, %d round starts throttled, %.0f events delivered/s%n",
+                (double) retries / Math.max(appliedGuesses.sum(), 1), throttledStarts, deliveredEvents.sum() / seconds);
+    }
+
+    /**
+     * Guesses a random letter in a random room, and starts the next round of the room when its round is over.
+     */
+    @Benchmark
+    public GuessResult guess(Guesser guesser) {
+        GameRoom room = gameRooms[guesser.random.nextInt(gameRooms.length)];
+        GuessResult result = room.guess((char) ('A' + guesser.random.nextInt(26)));
+        if (result == GuessResult.REJECTED) {
+            if (room.startRound(dictionary.randomWord(guesser.random)))
+                guesser.rounds++;
+        } else if (result != GuessResult.REPEATED)
+            guesser.applied++;
+        return result;
+    }
+}
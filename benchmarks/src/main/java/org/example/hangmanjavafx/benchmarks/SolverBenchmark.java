@@ -0,0 +1,89 @@
+package org.example.hangmanjavafx.benchmarks;
+
+import org.example.hangmanjavafx.dictionary.ArrayDictionary;
+import org.example.hangmanjavafx.dictionary.WordFilter;
+import org.example.hangmanjavafx.dictionary.WordIndex;
+import org.example.hangmanjavafx.solver.HangmanSolver;
+import org.example.hangmanjavafx.solver.LetterScore;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many candidate words per second the {@link HangmanSolver} scores, on synthetic dictionaries
+ * of different sizes. The {@code candidates} counter of the results is the candidates scored per second,
+ * and {@code wordsFiltered} the words of the pattern's length checked per second by {@link HangmanSolver#findCandidates}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class SolverBenchmark {
+    private static final int WORD_LENGTH = 7;
+    // A game after guessing E, which is in the word twice, and missing A and T
+    private static final String PATTERN = ".E....E";
+    private static final int MISSED_MASK = WordFilter.letterMask("AT");
+
+    @Param({"1000", "100000", "1000000"})
+    public int dictionarySize;
+
+    private HangmanSolver solver;
+    private int[] sameLength;
+
+    /**
+     * Counts the words checked and scored; JMH reports the counts per second next to the benchmark.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ScoredCandidates {
+        public long candidates;
+        public long wordsFiltered;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            candidates = 0;
+            wordsFiltered = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        WordIndex wordIndex = new WordIndex(new ArrayDictionary(SyntheticWords.generate(dictionarySize, HeadlessGame.SEED)));
+        solver = new HangmanSolver(wordIndex);
+        sameLength = wordIndex.getCandidates(WordFilter.lengthBetween(WORD_LENGTH, WORD_LENGTH));
+    }
+
+    /**
+     * Ranks the letters for the first guess, when every word of the length is a candidate.
+     */
+    @Benchmark
+    public List<LetterScore> scoreFirstGuess(ScoredCandidates scored) {
+        scored.candidates += sameLength.length;
+        return solver.rankLetters(sameLength, 0);
+    }
+
+    /**
+     * Filters the candidates of a game in progress and ranks the letters for them, like a hint does.
+     */
+    @Benchmark
+    public List<LetterScore> hint(ScoredCandidates scored) {
+        int[] candidates = solver.findCandidates(PATTERN, MISSED_MASK);
+        scored.wordsFiltered += sameLength.length;
+        scored.candidates += candidates.length;
+        return solver.rankLetters(candidates, MISSED_MASK | WordFilter.letterMask(PATTERN));
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.hangmanjavafx.benchmarks;
+
+import java.util.SplittableRandom;
+
+/**
+ * Generates word lists of any size for benchmarks of large dictionaries.
+ * Letters are drawn with their frequency in English text, so the words split into letter partitions
+ * roughly like a real word list does.
+ */
+final class SyntheticWords {
+    static final int MIN_LENGTH = 4, MAX_LENGTH = 10;
+    private static final String LETTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    // Relative frequencies of A-Z in English text, in tenths of a percent
+    private static final int[] FREQUENCIES = {82, 15, 28, 43, 127, 22, 20, 61, 70, 2, 8, 40, 24, 67, 75, 19, 1, 60, 63, 91, 28, 10, 24, 2, 20, 1};
+
+    private SyntheticWords() {
+    }
+
+    /**
+     * Generates a word list; the same seed always gives the same words.
+     * @param count The number of words.
+     * @param seed  The random seed.
+     * @return The words, upper case letters A-Z, {@link #MIN_LENGTH} to {@link #MAX_LENGTH} letters long.
+     */
+    static String[] generate(int count, long seed) {
+        int[] cumulative = new int[FREQUENCIES.length];
+        int total = 0;
+        for (int i = 0; i < FREQUENCIES.length; i++)
+            cumulative[i] = total += FREQUENCIES[i];
+
+        SplittableRandom random = new SplittableRandom(seed);
+        String[] words = new String[count];
+        char[] letters = new char[MAX_LENGTH];
+        for (int i = 0; i < count; i++) {
+            int length = random.nextInt(MIN_LENGTH, MAX_LENGTH + 1);
+            for (int j = 0; j < length; j++) {
+                int pick = random.nextInt(total), letter = 0;
+                while (cumulative[letter] <= pick)
+                    letter++;
+                letters[j] = LETTERS.charAt(letter);
+            }
+            words[i] = new String(letters, 0, length);
+        }
+        return words;
+    }
+}
@@ -1,12 +1,15 @@
 module org.example.hangmanjavafx {
     requires javafx.controls;
     requires javafx.fxml;
-    requires java.desktop;
     requires java.logging;
+    requires static java.desktop;
+    requires java.management;
+    requires jdk.jfr;
 
 
     opens org.example.hangmanjavafx to javafx.fxml;
     exports org.example.hangmanjavafx;
     exports org.example.hangmanjavafx.main;
     opens org.example.hangmanjavafx.main to javafx.fxml;
+    exports org.example.hangmanjavafx.metrics;
 }
\ No newline at end of file
@@ -1,20 +1,43 @@
 package org.example.hangmanjavafx;
 
-import javafx.animation.AnimationTimer;
 import javafx.application.Application;
 import javafx.scene.Scene;
 import javafx.scene.canvas.Canvas;
-import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.layout.Pane;
 import javafx.stage.Stage;
+import org.example.hangmanjavafx.dictionary.ArrayDictionary;
+import org.example.hangmanjavafx.dictionary.Difficulty;
+import org.example.hangmanjavafx.dictionary.MappedDictionary;
+import org.example.hangmanjavafx.dictionary.WordDictionary;
+import org.example.hangmanjavafx.dictionary.WordIndex;
+import org.example.hangmanjavafx.graphics.CanvasSurface;
+import org.example.hangmanjavafx.graphics.FxTextMeasurer;
+import org.example.hangmanjavafx.graphics.TextMeasurer;
+import org.example.hangmanjavafx.helperMethods.DownloadSave;
+import org.example.hangmanjavafx.helperMethods.GameStore;
+import org.example.hangmanjavafx.inputs.InputQueue;
+import org.example.hangmanjavafx.inputs.InputReplayer;
+import org.example.hangmanjavafx.inputs.MyKeyboardListener;
 import org.example.hangmanjavafx.inputs.MyMouseListener;
+import org.example.hangmanjavafx.main.DirtyRegions;
+import org.example.hangmanjavafx.main.GameLoop;
+import org.example.hangmanjavafx.main.GameStateMachine;
 import org.example.hangmanjavafx.main.GameStates;
 import org.example.hangmanjavafx.main.GameWindow;
 import org.example.hangmanjavafx.main.Render;
+import org.example.hangmanjavafx.main.SceneRegistry;
+import org.example.hangmanjavafx.metrics.GameMetrics;
+import org.example.hangmanjavafx.replay.ReplayRecorder;
 import org.example.hangmanjavafx.scenes.GameOver;
 import org.example.hangmanjavafx.scenes.GameWon;
 import org.example.hangmanjavafx.scenes.Menu;
 import org.example.hangmanjavafx.scenes.Playing;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -22,27 +45,56 @@ import java.util.logging.Logger;
  */
 public class Hangman extends Application {
     GameWindow gameWindow = new GameWindow();
-    private long lastSecondTime;
-    private int frames = 0;
-    private long lastFrame;
-    private long lastUpdate;
-    private double timePerFrame;
-    private double timePerUpdate;
     private Render render;
-    Menu menu = new Menu();
-    Playing playing = new Playing(this);
-    GameWon gameWon  = new GameWon(this);
-    GameOver gameOver = new GameOver(this);
+    private GameLoop gameLoop;
+    private final GameStateMachine gameStateMachine = new GameStateMachine();
+    private final DirtyRegions dirtyRegions = new DirtyRegions();
+    private final GameMetrics metrics = new GameMetrics();
+    private final WordDictionary dictionary = initDictionary();
+    private final GameStore gameStore;
+    private final long seed;
+    private final Random random;
+    private Difficulty difficulty;
+    private volatile WordIndex wordIndex;
+    private TextMeasurer textMeasurer = new FxTextMeasurer();
+    private final SceneRegistry sceneRegistry = initSceneRegistry();
+    private final InputQueue inputQueue = new InputQueue(sceneRegistry);
+    private ReplayRecorder replayRecorder;
     private static final Logger LOGGER = Logger.getLogger(Hangman.class.getName());
 
+    /**
+     * Creates a game configured by the hangman.saveDir, hangman.seed and hangman.difficulty system properties.
+     */
+    public Hangman() {
+        this(initSaveDir(), initSeed(), initDifficulty());
+    }
+
+    /**
+     * Creates a game with the given configuration instead of the one of the system properties,
+     * e.g. for headless runs that must not change the configuration of other games in the same JVM.
+     * The dictionary is still the one given by the hangman.dictionary system property.
+     * @param saveDir    The directory of the saved games and statistics.
+     * @param seed       The seed of the random generator that picks the words.
+     * @param difficulty The difficulty, or null to pick from the whole dictionary.
+     */
+    public Hangman(Path saveDir, long seed, Difficulty difficulty) {
+        this.gameStore = new GameStore(saveDir);
+        this.seed = seed;
+        this.random = new Random(seed);
+        this.difficulty = difficulty;
+    }
+
     /**
      * Initializes the game and starts the game loop.
      */
     @Override
     public void start(Stage stage) {
+        metrics.setSavedStatistics(gameStore::getStatistics);
+        metrics.setInputQueue(inputQueue);
+        metrics.register(Integer.toHexString(System.identityHashCode(this)));
         render = new Render(this);
+        render.setOnDemand(Boolean.parseBoolean(System.getProperty("hangman.render.onDemand", "true")));
         Canvas canvas = new Canvas(gameWindow.getWindowWidth(), gameWindow.getWindowHeight());
-        GraphicsContext gc = canvas.getGraphicsContext2D();
 
         Pane root = new Pane(canvas);
         Scene scene = new Scene(root, gameWindow.getWindowWidth(), gameWindow.getWindowHeight());
@@ -54,43 +106,185 @@ public class Hangman extends Application {
         stage.setResizable(false);
         stage.show();
 
-        AnimationTimer animationTimer = new AnimationTimer() {
-            @Override
-            public void handle(long currentTime) {
-                long now = System.nanoTime();
-
-                // Render
-                if (now - lastFrame >= timePerFrame) {
-                    render.render(gc);
-                    updateGame();
-                    lastFrame = now;
-                    frames++;
-                }
-
-                // Update
-                if (now - lastUpdate >= timePerUpdate) {
-                    gameWindow.update();
-                    lastUpdate = now;
-                }
-
-                if (now - lastSecondTime >= 1_000_000_000) {
-                    LOGGER.info("FPS: " + frames + " | UPS: " + gameWindow.getUpdates());
-                    frames = 0;
-                    gameWindow.resetUpdates();
-                    lastSecondTime = now;
-                }
+        startReplayRecorder();
+        gameLoop = new GameLoop(this, render, new CanvasSurface(canvas.getGraphicsContext2D()));
+        gameLoop.setTargetFps(Integer.getInteger("hangman.fps", 60));
+        gameLoop.setTargetUps(Integer.getInteger("hangman.ups", 60));
+        gameLoop.setMaxUpdatesPerFrame(Integer.getInteger("hangman.maxCatchUpUpdates", 5));
+        gameLoop.start();
+
+        startInputReplayer();
+    }
+
+    /**
+     * Stops the game loop, saves the game in progress and removes the metrics MBean when the application exits.
+     */
+    @Override
+    public void stop() {
+        if (gameLoop != null)
+            gameLoop.stop();
+        if (sceneRegistry.isCreated(GameStates.PLAYING)) {
+            Playing playing = getPlaying();
+            gameStore.saveGame(dictionary, playing.getWordId(), playing.getSession());
+        }
+        try {
+            gameStore.close();
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Error closing game store", e);
+        }
+        if (replayRecorder != null) {
+            try {
+                replayRecorder.close();
+            } catch (IOException e) {
+                LOGGER.log(Level.SEVERE, "Error closing recording", e);
             }
-        };
-        animationTimer.start();
+        }
+        metrics.unregister();
+    }
+
+    /**
+     * Replays the input script given by the hangman.inputScript system property, if set,
+     * and reports the input-to-frame latency when it is done.
+     */
+    private void startInputReplayer() {
+        String scriptPath = System.getProperty("hangman.inputScript");
+        if (scriptPath == null)
+            return;
+        try {
+            InputReplayer replayer = new InputReplayer(InputReplayer.readScript(Path.of(scriptPath)), inputQueue);
+            gameLoop.setFrameListener(replayer::onFramePainted);
+            replayer.start();
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Error loading input script: " + scriptPath, e);
+        }
+    }
+
+    /**
+     * Records the session to the file given by the hangman.record system property, if set,
+     * so it can be replayed with {@link org.example.hangmanjavafx.replay.SessionReplayer}.
+     */
+    private void startReplayRecorder() {
+        String recordPath = System.getProperty("hangman.record");
+        if (recordPath == null)
+            return;
+        try {
+            startRecording(Path.of(recordPath));
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Error creating recording: " + recordPath, e);
+        }
+    }
+
+    /**
+     * Records the input events, words, guesses and state changes of the session from now on.
+     * The recording is closed when the game stops.
+     * @param path The file of the recording.
+     * @throws IOException If the file cannot be created.
+     */
+    public void startRecording(Path path) throws IOException {
+        replayRecorder = new ReplayRecorder(path, seed, dictionary.size(), difficulty == null ? -1 : difficulty.ordinal());
+        gameStateMachine.addListener(replayRecorder);
+        inputQueue.setRecorder(replayRecorder);
+    }
+
+    /**
+     * Registers the scene of every game state. Scenes are created when they are first shown.
+     * @return The scene registry.
+     */
+    private SceneRegistry initSceneRegistry() {
+        SceneRegistry registry = new SceneRegistry(gameStateMachine);
+        registry.register(GameStates.MENU, () -> new Menu(this));
+        registry.register(GameStates.PLAYING, () -> new Playing(this));
+        registry.register(GameStates.GAME_OVER, () -> new GameOver(this));
+        registry.register(GameStates.GAME_WON, () -> new GameWon(this));
+        return registry;
+    }
+
+    /**
+     * Opens the dictionary file given by the hangman.dictionary system property,
+     * or falls back to the built-in hidden words.
+     * @return The dictionary words are picked from.
+     */
+    private static WordDictionary initDictionary() {
+        String dictionaryPath = System.getProperty("hangman.dictionary");
+        if (dictionaryPath != null) {
+            try {
+                WordDictionary dictionary = new MappedDictionary(Path.of(dictionaryPath));
+                LOGGER.info("Loaded dictionary with " + dictionary.size() + " words: " + dictionaryPath);
+                return dictionary;
+            } catch (IOException e) {
+                LOGGER.log(Level.SEVERE, "Error loading dictionary: " + dictionaryPath, e);
+            }
+        }
+        return new ArrayDictionary();
+    }
+
+    /**
+     * Returns the directory of saved games and statistics given by the hangman.saveDir system property,
+     * or .hangman in the user's home directory.
+     * @return The save directory.
+     */
+    private static Path initSaveDir() {
+        String saveDir = System.getProperty("hangman.saveDir");
+        return saveDir != null ? Path.of(saveDir) : Path.of(System.getProperty("user.home"), ".hangman");
+    }
+
+    /**
+     * Returns the seed of the random generator shared by the game: the hangman.seed system property if set,
+     * so a run can be reproduced, or a random seed that is kept for the replay recorder.
+     * @return The seed.
+     */
+    private static long initSeed() {
+        Long seed = Long.getLong("hangman.seed");
+        return seed != null ? seed : ThreadLocalRandom.current().nextLong();
+    }
+
+    /**
+     * Reads the difficulty from the hangman.difficulty system property.
+     * @return The difficulty, or null to pick from the whole dictionary.
+     */
+    private static Difficulty initDifficulty() {
+        String difficultyName = System.getProperty("hangman.difficulty");
+        if (difficultyName == null)
+            return null;
+        try {
+            return Difficulty.valueOf(difficultyName.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            LOGGER.warning("Unknown difficulty: " + difficultyName);
+            return null;
+        }
     }
 
     /**
-     * Updates the game state based on the current game state.
+     * Picks a random word for a new game, matching the difficulty if one is set.
+     * Falls back to the whole dictionary when no word matches the difficulty.
+     * @return The chosen word.
+     */
+    public String chooseWord() {
+        return dictionary.getWord(chooseWordId());
+    }
+
+    /**
+     * Picks a random word for a new game like {@link #chooseWord()}, returning its index in the dictionary.
+     * @return The index of the chosen word.
+     */
+    public int chooseWordId() {
+        if (difficulty != null) {
+            WordIndex index = getWordIndex();
+            if (index.countMatches(difficulty.getFilter()) > 0)
+                return index.randomWordId(difficulty.getFilter(), random);
+            LOGGER.warning("No word matches difficulty " + difficulty + ", using the whole dictionary");
+        }
+        return dictionary.randomWordId(random);
+    }
+
+    /**
+     * Runs one fixed update step of the game.
      * If the game state is PLAYING, updates the playing scene.
      */
-    private void updateGame() {
-        if (GameStates.gameState == GameStates.PLAYING)
-            playing.update();
+    public void update() {
+        gameWindow.update();
+        if (gameStateMachine.isIn(GameStates.PLAYING))
+            getPlaying().update();
     }
 
     /**
@@ -100,11 +294,95 @@ public class Hangman extends Application {
         MyMouseListener myMouseListener = new MyMouseListener(this);
         scene.setOnMouseClicked(myMouseListener);
         scene.setOnMouseMoved(myMouseListener);
+
+        MyKeyboardListener myKeyboardListener = new MyKeyboardListener(this);
+        scene.setOnKeyPressed(myKeyboardListener);
     }
 
     // Getters
+    public WordDictionary getDictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Returns the index over the dictionary, building it on first use.
+     * @return The word index.
+     */
+    public WordIndex getWordIndex() {
+        WordIndex index = wordIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = wordIndex;
+                if (index == null)
+                    wordIndex = index = new WordIndex(dictionary);
+            }
+        }
+        return index;
+    }
+
+    public TextMeasurer getTextMeasurer() {
+        return textMeasurer;
+    }
+
+    /**
+     * Sets how the scenes measure text. A game drawn on a surface other than the JavaFX canvas must use
+     * that surface's measurer, set before the first scene is created.
+     * @param textMeasurer The text measurer.
+     */
+    public void setTextMeasurer(TextMeasurer textMeasurer) {
+        this.textMeasurer = textMeasurer;
+    }
+
+    public GameStore getGameStore() {
+        return gameStore;
+    }
+
+    public ReplayRecorder getReplayRecorder() {
+        return replayRecorder;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public Random getRandom() {
+        return random;
+    }
+
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    public void setDifficulty(Difficulty difficulty) {
+        this.difficulty = difficulty;
+    }
+
+    public GameLoop getGameLoop() {
+        return gameLoop;
+    }
+
+    public GameStateMachine getGameStateMachine() {
+        return gameStateMachine;
+    }
+
+    public GameMetrics getMetrics() {
+        return metrics;
+    }
+
+    public InputQueue getInputQueue() {
+        return inputQueue;
+    }
+
+    public SceneRegistry getSceneRegistry() {
+        return sceneRegistry;
+    }
+
     public Menu getMenu() {
-        return menu;
+        return sceneRegistry.get(GameStates.MENU, Menu.class);
+    }
+
+    public DirtyRegions getDirtyRegions() {
+        return dirtyRegions;
     }
 
     public GameWindow getGameWindow() {
@@ -112,18 +390,19 @@ public class Hangman extends Application {
     }
 
     public Playing getPlaying() {
-        return playing;
+        return sceneRegistry.get(GameStates.PLAYING, Playing.class);
     }
 
     public GameWon getGameWon() {
-        return gameWon;
+        return sceneRegistry.get(GameStates.GAME_WON, GameWon.class);
     }
 
     public GameOver getGameOver() {
-        return gameOver;
+        return sceneRegistry.get(GameStates.GAME_OVER, GameOver.class);
     }
 
     public static void main(String[] args) {
+        DownloadSave.preloadImages();
         launch();
     }
 }
@@ -0,0 +1,37 @@
+package org.example.hangmanjavafx.dictionary;
+
+import org.example.hangmanjavafx.helperMethods.GameData;
+
+/**
+ * Dictionary backed by an array of words held on the heap.
+ */
+public class ArrayDictionary implements WordDictionary {
+    private final String[] words;
+
+    /**
+     * Creates a dictionary of the built-in hidden words.
+     */
+    public ArrayDictionary() {
+        this(GameData.HIDDEN_WORDS);
+    }
+
+    /**
+     * Creates a dictionary of the given words.
+     * @param words The words, upper case letters A-Z only.
+     */
+    public ArrayDictionary(String[] words) {
+        if (words.length == 0)
+            throw new IllegalArgumentException("Dictionary must not be empty");
+        this.words = words.clone();
+    }
+
+    @Override
+    public int size() {
+        return words.length;
+    }
+
+    @Override
+    public String getWord(int index) {
+        return words[index];
+    }
+}
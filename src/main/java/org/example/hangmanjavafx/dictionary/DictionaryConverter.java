@@ -0,0 +1,100 @@
+package org.example.hangmanjavafx.dictionary;
+
+import org.example.hangmanjavafx.engine.WordMasks;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.logging.Logger;
+
+/**
+ * Converts a plain word list, one word per line, into the file format read by {@link MappedDictionary}.
+ * Words are upper-cased; lines that are empty, longer than {@link WordMasks#MAX_WORD_LENGTH} letters
+ * or contain anything but letters A-Z are skipped.
+ * <p>
+ * Usage: {@code DictionaryConverter <words.txt> <words.dict>}
+ */
+public class DictionaryConverter {
+    private static final Logger LOGGER = Logger.getLogger(DictionaryConverter.class.getName());
+
+    /**
+     * Converts a word list into a dictionary file.
+     * @param wordList   The plain text word list.
+     * @param dictionary The dictionary file to write.
+     * @return The number of words written.
+     * @throws IOException If a file cannot be read or written.
+     */
+    public static int convert(Path wordList, Path dictionary) throws IOException {
+        List<String> words = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(wordList, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String word = line.trim().toUpperCase(Locale.ROOT);
+                if (isValidWord(word))
+                    words.add(word);
+            }
+        }
+        write(words, dictionary);
+        return words.size();
+    }
+
+    /**
+     * Writes the given words into a dictionary file.
+     * @param words      The words, upper case letters A-Z only, at most {@link WordMasks#MAX_WORD_LENGTH} letters.
+     * @param dictionary The dictionary file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void write(List<String> words, Path dictionary) throws IOException {
+        if (words.isEmpty())
+            throw new IllegalArgumentException("Dictionary must not be empty");
+        for (String word : words)
+            if (!isValidWord(word))
+                throw new IllegalArgumentException("Not a valid dictionary word: " + word);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(dictionary));
+             DataOutputStream data = new DataOutputStream(out)) {
+            writeIntLittleEndian(data, MappedDictionary.MAGIC);
+            writeIntLittleEndian(data, MappedDictionary.VERSION);
+            writeIntLittleEndian(data, words.size());
+
+            long offset = 0;
+            writeIntLittleEndian(data, 0);
+            for (String word : words) {
+                offset += word.length();
+                if (offset > Integer.MAX_VALUE)
+                    throw new IOException("Word list too large for a single dictionary file");
+                writeIntLittleEndian(data, (int) offset);
+            }
+            for (String word : words)
+                data.write(word.getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    private static boolean isValidWord(String word) {
+        if (word.isEmpty() || word.length() > WordMasks.MAX_WORD_LENGTH)
+            return false;
+        for (int i = 0; i < word.length(); i++)
+            if (word.charAt(i) < 'A' || word.charAt(i) > 'Z')
+                return false;
+        return true;
+    }
+
+    private static void writeIntLittleEndian(DataOutputStream data, int value) throws IOException {
+        data.writeInt(Integer.reverseBytes(value));
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: DictionaryConverter <words.txt> <words.dict>");
+            System.exit(1);
+        }
+        int count = convert(Path.of(args[0]), Path.of(args[1]));
+        LOGGER.info("Wrote " + count + " words to " + args[1]);
+    }
+}
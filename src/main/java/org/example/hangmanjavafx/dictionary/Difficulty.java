@@ -0,0 +1,23 @@
+package org.example.hangmanjavafx.dictionary;
+
+/**
+ * Enum representing difficulty levels and the words each of them may pick.
+ */
+public enum Difficulty {
+    EASY(WordFilter.lengthBetween(3, 6)),
+    MEDIUM(WordFilter.lengthBetween(7, 9)),
+    HARD(WordFilter.lengthBetween(7, 10).withNoRepeatedLetters().withAnyOf(Difficulty.RARE_LETTERS));
+
+    /** Letters that rarely appear in English words. */
+    public static final String RARE_LETTERS = "JKQVWXYZ";
+    private final WordFilter filter;
+
+    Difficulty(WordFilter filter) {
+        this.filter = filter;
+    }
+
+    // Getters
+    public WordFilter getFilter() {
+        return filter;
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.hangmanjavafx.dictionary;
+
+import org.example.hangmanjavafx.engine.WordMasks;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Dictionary read from a memory-mapped file written by {@link DictionaryConverter}.
+ * Only the word that is picked is copied onto the heap, so opening a dictionary with
+ * millions of words checks its offsets and letters in place instead of parsing the whole file.
+ * <p>
+ * File layout, little-endian:
+ * <pre>
+ * int magic "HGMD" | int version | int wordCount | int[wordCount + 1] offsets | byte[] packed ASCII words
+ * </pre>
+ * Offsets are relative to the start of the packed words; word {@code i} spans {@code offsets[i]..offsets[i + 1]}.
+ * A single file is limited to 2 GB.
+ */
+public class MappedDictionary implements WordDictionary {
+    static final int MAGIC = 0x444D4748; // "HGMD" in little-endian
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 3 * Integer.BYTES;
+    private final MappedByteBuffer buffer;
+    private final int wordCount;
+    private final int wordsStart;
+
+    /**
+     * Maps a dictionary file into memory.
+     * @param path The dictionary file.
+     * @throws IOException If the file cannot be read or is not a dictionary file.
+     */
+    public MappedDictionary(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE + Integer.BYTES || fileSize > Integer.MAX_VALUE)
+                throw new IOException("Not a dictionary file: " + path);
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION)
+            throw new IOException("Not a dictionary file: " + path);
+        wordCount = buffer.getInt(2 * Integer.BYTES);
+        // The file size is at most 2 GB, so a word count that passes this check cannot overflow the offsets
+        if (wordCount <= 0 || wordCount > (buffer.capacity() - HEADER_SIZE) / Integer.BYTES - 1)
+            throw new IOException("Corrupted dictionary file: " + path);
+        wordsStart = HEADER_SIZE + (wordCount + 1) * Integer.BYTES;
+        checkLetters(path, checkOffsets(path));
+    }
+
+    /**
+     * Checks that the offsets start at 0, stay inside the file and give every word 1 to
+     * {@link WordMasks#MAX_WORD_LENGTH} letters, so that {@link #getWord} cannot fail on a corrupted file.
+     * @param path The dictionary file, for the error message.
+     * @return The size of the packed words, i.e. the last offset.
+     * @throws IOException If an offset is out of order or out of bounds.
+     */
+    private int checkOffsets(Path path) throws IOException {
+        int wordsSize = buffer.capacity() - wordsStart;
+        int previous = buffer.getInt(HEADER_SIZE);
+        if (previous != 0)
+            throw new IOException("Corrupted dictionary file: " + path);
+        for (int i = 1; i <= wordCount; i++) {
+            int offset = buffer.getInt(HEADER_SIZE + i * Integer.BYTES);
+            if (offset <= previous || offset - previous > WordMasks.MAX_WORD_LENGTH || offset > wordsSize)
+                throw new IOException("Corrupted dictionary file: " + path + ", bad offset of word " + (i - 1));
+            previous = offset;
+        }
+        return previous;
+    }
+
+    /**
+     * Checks that the packed words contain only the letters A-Z, so that every word can be played.
+     * The mapped bytes are checked eight at a time without copying them.
+     * @param path      The dictionary file, for the error message.
+     * @param wordsSize The size of the packed words.
+     * @throws IOException If a word contains anything but A-Z.
+     */
+    private void checkLetters(Path path, int wordsSize) throws IOException {
+        int end = wordsStart + wordsSize;
+        int i = wordsStart;
+        for (; i + Long.BYTES <= end; i += Long.BYTES)
+            if (!areLetters(buffer.getLong(i)))
+                break;
+        for (; i < end; i++) {
+            byte letter = buffer.get(i);
+            if (letter < 'A' || letter > 'Z')
+                throw new IOException("Corrupted dictionary file: " + path + ", bad letter at byte " + i);
+        }
+    }
+
+    /**
+     * Tells whether all eight bytes are letters A-Z.
+     * For bytes below 0x80, adding 0x3F sets the high bit exactly from 'A' on, and adding 0x25 exactly after 'Z';
+     * neither sum carries into the next byte.
+     * @param bytes Eight bytes of packed words.
+     * @return true if every byte is a letter A-Z.
+     */
+    private static boolean areLetters(long bytes) {
+        long highBits = 0x8080808080808080L;
+        return (bytes & highBits) == 0
+                && ((bytes + 0x3F3F3F3F3F3F3F3FL) & highBits) == highBits
+                && ((bytes + 0x2525252525252525L) & highBits) == 0;
+    }
+
+    @Override
+    public int size() {
+        return wordCount;
+    }
+
+    @Override
+    public String getWord(int index) {
+        if (index < 0 || index >= wordCount)
+            throw new IndexOutOfBoundsException("Word index " + index + " out of bounds for " + wordCount + " words");
+        int start = buffer.getInt(HEADER_SIZE + index * Integer.BYTES);
+        int end = buffer.getInt(HEADER_SIZE + (index + 1) * Integer.BYTES);
+        byte[] bytes = new byte[end - start];
+        buffer.get(wordsStart + start, bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+}
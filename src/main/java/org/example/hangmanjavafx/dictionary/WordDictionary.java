@@ -0,0 +1,40 @@
+package org.example.hangmanjavafx.dictionary;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Provides the words a game can be played with.
+ * Words are addressed by index, so a random pick is O(1) whatever the size of the dictionary.
+ */
+public interface WordDictionary {
+    /**
+     * Returns the number of words in the dictionary.
+     * @return The number of words.
+     */
+    int size();
+
+    /**
+     * Returns the word at the given index.
+     * @param index The index, from 0 to size() - 1.
+     * @return The word, upper case letters A-Z only.
+     */
+    String getWord(int index);
+
+    /**
+     * Picks a uniformly random word.
+     * @param random The random generator used to pick the word.
+     * @return The chosen word.
+     */
+    default String randomWord(RandomGenerator random) {
+        return getWord(randomWordId(random));
+    }
+
+    /**
+     * Picks the index of a uniformly random word.
+     * @param random The random generator used to pick the word.
+     * @return The index of the chosen word.
+     */
+    default int randomWordId(RandomGenerator random) {
+        return random.nextInt(size());
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.hangmanjavafx.dictionary;
+
+/**
+ * Describes which words of a dictionary may be picked.
+ * Letter sets are 26-bit masks where bit 0 is 'A' and bit 25 is 'Z'.
+ * Filters are immutable and used as cache keys by {@link WordIndex}.
+ * @param minLength         The shortest allowed word length.
+ * @param maxLength         The longest allowed word length.
+ * @param anyOfMask         The word must contain at least one of these letters, or 0 for no restriction.
+ * @param allOfMask         The word must contain all of these letters.
+ * @param noneOfMask        The word must contain none of these letters.
+ * @param noRepeatedLetters true if every letter may appear only once in the word.
+ */
+public record WordFilter(int minLength, int maxLength, int anyOfMask, int allOfMask, int noneOfMask,
+                         boolean noRepeatedLetters) {
+    private static final WordFilter ANY = new WordFilter(1, Integer.MAX_VALUE, 0, 0, 0, false);
+
+    /**
+     * Returns a filter that accepts every word.
+     * @return The filter.
+     */
+    public static WordFilter any() {
+        return ANY;
+    }
+
+    /**
+     * Returns a filter that accepts words with a length in the given range.
+     * @param minLength The shortest allowed word length.
+     * @param maxLength The longest allowed word length.
+     * @return The filter.
+     */
+    public static WordFilter lengthBetween(int minLength, int maxLength) {
+        return new WordFilter(minLength, maxLength, 0, 0, 0, false);
+    }
+
+    public WordFilter withAnyOf(String letters) {
+        return new WordFilter(minLength, maxLength, letterMask(letters), allOfMask, noneOfMask, noRepeatedLetters);
+    }
+
+    public WordFilter withAllOf(String letters) {
+        return new WordFilter(minLength, maxLength, anyOfMask, letterMask(letters), noneOfMask, noRepeatedLetters);
+    }
+
+    public WordFilter withNoneOf(String letters) {
+        return new WordFilter(minLength, maxLength, anyOfMask, allOfMask, letterMask(letters), noRepeatedLetters);
+    }
+
+    public WordFilter withNoRepeatedLetters() {
+        return new WordFilter(minLength, maxLength, anyOfMask, allOfMask, noneOfMask, true);
+    }
+
+    /**
+     * Checks a word described by its letter mask against this filter.
+     * @param length      The length of the word.
+     * @param letterMask  The set of letters in the word.
+     * @param hasRepeats  true if a letter appears more than once in the word.
+     * @return true if the word may be picked.
+     */
+    public boolean matches(int length, int letterMask, boolean hasRepeats) {
+        return length >= minLength && length <= maxLength
+                && (anyOfMask == 0 || (letterMask & anyOfMask) != 0)
+                && (letterMask & allOfMask) == allOfMask
+                && (letterMask & noneOfMask) == 0
+                && !(noRepeatedLetters && hasRepeats);
+    }
+
+    /**
+     * Builds the set of letters in a string.
+     * @param letters The letters, upper or lower case; other characters are ignored.
+     * @return The 26-bit letter mask.
+     */
+    public static int letterMask(String letters) {
+        int mask = 0;
+        for (int i = 0; i < letters.length(); i++) {
+            char letter = Character.toUpperCase(letters.charAt(i));
+            if (letter >= 'A' && letter <= 'Z')
+                mask |= 1 << (letter - 'A');
+        }
+        return mask;
+    }
+}
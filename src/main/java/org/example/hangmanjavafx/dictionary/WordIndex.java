@@ -0,0 +1,183 @@
+package org.example.hangmanjavafx.dictionary;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.random.RandomGenerator;
+
+/**
+ * Index over a {@link WordDictionary} for picking random words that match a {@link WordFilter}.
+ * Words are bucketed by length and described by a 26-bit letter mask, so a filter is evaluated
+ * with a few bit operations per word of the matching lengths, without reading the words again.
+ * The matching word indices of the {@link Difficulty} filters are computed once and cached, after which a pick is O(1).
+ * Words of a single length are read straight from their bucket. The matches of any other filter are kept
+ * in a least-recently-used cache of at most {@value #MAX_ADHOC_FILTERS} filters, which together hold at most
+ * {@value #ADHOC_WORDS_PER_DICTIONARY_WORD} indices per dictionary word, so repeated picks with an ad-hoc filter
+ * are O(1) too while ad-hoc filters cannot pin memory for the lifetime of the index.
+ * The index is immutable after construction, apart from its caches, and safe to share between threads.
+ */
+public class WordIndex {
+    private static final Set<WordFilter> CACHED_FILTERS = Set.of(
+            Arrays.stream(Difficulty.values()).map(Difficulty::getFilter).toArray(WordFilter[]::new));
+    private static final int[] NO_WORDS = new int[0];
+    private static final int MAX_ADHOC_FILTERS = 32;
+    private static final int ADHOC_WORDS_PER_DICTIONARY_WORD = 4;
+    private final WordDictionary dictionary;
+    private final int[] letterMasks;
+    private final BitSet hasRepeats;
+    private final int[][] wordsByLength;
+    private final Map<WordFilter, int[]> candidates = new ConcurrentHashMap<>();
+    // Access-ordered, so the first entry is the least recently used; guarded by itself
+    private final LinkedHashMap<WordFilter, int[]> adhocCandidates = new LinkedHashMap<>(16, 0.75f, true);
+    private long adhocWordCount; // Guarded by adhocCandidates
+
+    /**
+     * Builds the index by reading every word of the dictionary once.
+     * @param dictionary The dictionary to index.
+     */
+    public WordIndex(WordDictionary dictionary) {
+        this.dictionary = dictionary;
+        int size = dictionary.size();
+        letterMasks = new int[size];
+        hasRepeats = new BitSet(size);
+        int[] lengths = new int[size];
+        int maxLength = 0;
+
+        for (int i = 0; i < size; i++) {
+            String word = dictionary.getWord(i);
+            int mask = 0;
+            boolean repeats = false;
+            for (int j = 0; j < word.length(); j++) {
+                int bit = 1 << (word.charAt(j) - 'A');
+                repeats |= (mask & bit) != 0;
+                mask |= bit;
+            }
+            letterMasks[i] = mask;
+            hasRepeats.set(i, repeats);
+            lengths[i] = word.length();
+            maxLength = Math.max(maxLength, word.length());
+        }
+
+        int[] counts = new int[maxLength + 1];
+        for (int length : lengths)
+            counts[length]++;
+        wordsByLength = new int[maxLength + 1][];
+        for (int length = 0; length <= maxLength; length++)
+            wordsByLength[length] = new int[counts[length]];
+        Arrays.fill(counts, 0);
+        for (int i = 0; i < size; i++)
+            wordsByLength[lengths[i]][counts[lengths[i]]++] = i;
+    }
+
+    /**
+     * Returns the indices of all words that match the filter.
+     * The difficulty filters are cached for good, other filters in a bounded least-recently-used cache.
+     * @param filter The filter.
+     * @return The word indices in dictionary order; must not be modified.
+     */
+    public int[] getCandidates(WordFilter filter) {
+        if (isSingleLength(filter))
+            return filter.minLength() >= 0 && filter.minLength() < wordsByLength.length ? wordsByLength[filter.minLength()] : NO_WORDS;
+        if (CACHED_FILTERS.contains(filter))
+            return candidates.computeIfAbsent(filter, this::findCandidates);
+        synchronized (adhocCandidates) {
+            int[] cached = adhocCandidates.get(filter);
+            if (cached != null)
+                return cached;
+        }
+        // Evaluated outside the lock; two threads missing the same filter both evaluate it once
+        int[] matches = findCandidates(filter);
+        cacheAdhocCandidates(filter, matches);
+        return matches;
+    }
+
+    /**
+     * Adds the matches of an ad-hoc filter to the cache and evicts the least recently used filters
+     * until the cache is within its bounds again.
+     */
+    private void cacheAdhocCandidates(WordFilter filter, int[] matches) {
+        long maxWordCount = (long) ADHOC_WORDS_PER_DICTIONARY_WORD * letterMasks.length;
+        if (matches.length > maxWordCount)
+            return;
+        synchronized (adhocCandidates) {
+            int[] previous = adhocCandidates.put(filter, matches);
+            adhocWordCount += matches.length - (previous == null ? 0 : previous.length);
+            Iterator<int[]> eldest = adhocCandidates.values().iterator();
+            while (adhocCandidates.size() > MAX_ADHOC_FILTERS || adhocWordCount > maxWordCount) {
+                adhocWordCount -= eldest.next().length;
+                eldest.remove();
+            }
+        }
+    }
+
+    private static boolean isSingleLength(WordFilter filter) {
+        return filter.minLength() == filter.maxLength() && filter.anyOfMask() == 0 && filter.allOfMask() == 0
+                && filter.noneOfMask() == 0 && !filter.noRepeatedLetters();
+    }
+
+    private int[] findCandidates(WordFilter filter) {
+        int minLength = Math.max(filter.minLength(), 0);
+        int maxLength = Math.min(filter.maxLength(), wordsByLength.length - 1);
+        int count = 0;
+        for (int length = minLength; length <= maxLength; length++)
+            count += wordsByLength[length].length;
+
+        int[] matches = new int[count];
+        int matchCount = 0;
+        for (int length = minLength; length <= maxLength; length++)
+            for (int index : wordsByLength[length])
+                if (filter.matches(length, letterMasks[index], hasRepeats.get(index)))
+                    matches[matchCount++] = index;
+
+        int[] result = Arrays.copyOf(matches, matchCount);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Counts the words that match the filter.
+     * @param filter The filter.
+     * @return The number of matching words.
+     */
+    public int countMatches(WordFilter filter) {
+        return getCandidates(filter).length;
+    }
+
+    /**
+     * Picks a uniformly random word among those that match the filter.
+     * @param filter The filter.
+     * @param random The random generator used to pick the word.
+     * @return The chosen word.
+     * @throws IllegalStateException If no word matches the filter.
+     */
+    public String randomWord(WordFilter filter, RandomGenerator random) {
+        return dictionary.getWord(randomWordId(filter, random));
+    }
+
+    /**
+     * Picks the dictionary index of a uniformly random word among those that match the filter.
+     * @param filter The filter.
+     * @param random The random generator used to pick the word.
+     * @return The index of the chosen word in the dictionary.
+     * @throws IllegalStateException If no word matches the filter.
+     */
+    public int randomWordId(WordFilter filter, RandomGenerator random) {
+        int[] matches = getCandidates(filter);
+        if (matches.length == 0)
+            throw new IllegalStateException("No word matches " + filter);
+        return matches[random.nextInt(matches.length)];
+    }
+
+    // Getters
+    public WordDictionary getDictionary() {
+        return dictionary;
+    }
+
+    public int getLetterMask(int wordIndex) {
+        return letterMasks[wordIndex];
+    }
+}
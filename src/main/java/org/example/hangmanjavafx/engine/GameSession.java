@@ -0,0 +1,177 @@
+package org.example.hangmanjavafx.engine;
+
+import org.example.hangmanjavafx.dictionary.WordDictionary;
+import org.example.hangmanjavafx.helperMethods.GameData;
+import java.util.random.RandomGenerator;
+
+/**
+ * Holds the rules and the state of one Hangman game.
+ * Does not depend on JavaFX or on any global state, so many sessions can live in one JVM.
+ * The state is a 26-bit mask of guessed letters and a mask of revealed positions, so a guess
+ * and the win and loss checks are a few bit operations with no allocation.
+ * A single session is not thread-safe and must be confined to one thread at a time.
+ */
+public class GameSession {
+    private final WordMasks wordMasks;
+    private final int maxMiss;
+    private int guessedMask = 0;
+    private long revealedMask = 0;
+    private int missCount = 0;
+    private int guessCount = 0;
+    private GameStatus status = GameStatus.IN_PROGRESS;
+    private String guessedWord;
+
+    /**
+     * Creates a new session for the given word with the default miss limit.
+     * @param hiddenWord The word to guess, upper case letters only.
+     */
+    public GameSession(String hiddenWord) {
+        this(new WordMasks(hiddenWord), GameData.MAX_MISS);
+    }
+
+    /**
+     * Creates a new session for the given word.
+     * @param hiddenWord The word to guess, upper case letters only.
+     * @param maxMiss    The number of misses allowed; one more miss loses the game.
+     */
+    public GameSession(String hiddenWord, int maxMiss) {
+        this(new WordMasks(hiddenWord), maxMiss);
+    }
+
+    /**
+     * Creates a new session for a word whose masks are already computed.
+     * @param wordMasks The masks of the word to guess.
+     * @param maxMiss   The number of misses allowed; one more miss loses the game.
+     */
+    public GameSession(WordMasks wordMasks, int maxMiss) {
+        this.wordMasks = wordMasks;
+        this.maxMiss = maxMiss;
+    }
+
+    /**
+     * Creates a new session with a random word from the given dictionary.
+     * @param dictionary The dictionary to pick the word from.
+     * @param random     The random generator used to pick the word.
+     * @return The new session.
+     */
+    public static GameSession newRandomSession(WordDictionary dictionary, RandomGenerator random) {
+        return new GameSession(dictionary.randomWord(random));
+    }
+
+    /**
+     * Applies a guess to this session.
+     * @param guess The guessed letter, upper or lower case.
+     * @return The outcome of the guess.
+     */
+    public GuessResult guess(char guess) {
+        int letter = WordMasks.letterIndex(Character.toUpperCase(guess));
+        if (status != GameStatus.IN_PROGRESS || letter < 0)
+            return GuessResult.REJECTED;
+        int letterBit = 1 << letter;
+        if ((guessedMask & letterBit) != 0)
+            return GuessResult.REPEATED;
+
+        guessedMask |= letterBit;
+        guessCount++;
+        long positions = wordMasks.getPositionMask(letter);
+
+        if (positions == 0) {
+            missCount++;
+            if (isMissCountMoreThanMaxMiss()) {
+                status = GameStatus.LOST;
+                return GuessResult.LOST;
+            }
+            return GuessResult.INCORRECT;
+        }
+
+        revealedMask |= positions;
+        guessedWord = null;
+        if (isWordGuessed()) {
+            status = GameStatus.WON;
+            return GuessResult.WON;
+        }
+        return GuessResult.CORRECT;
+    }
+
+    /**
+     * Checks if the entire word has been guessed correctly.
+     * @return true if every position is revealed.
+     */
+    public boolean isWordGuessed() {
+        return revealedMask == wordMasks.getFullMask();
+    }
+
+    /**
+     * Checks if the miss count exceeds the maximum allowed misses.
+     * @return true if the session is lost.
+     */
+    public boolean isMissCountMoreThanMaxMiss() {
+        return missCount > maxMiss;
+    }
+
+    // Getters
+    public String getHiddenWord() {
+        return wordMasks.getWord();
+    }
+
+    public WordMasks getWordMasks() {
+        return wordMasks;
+    }
+
+    /**
+     * Returns the word with dots in place of letters not guessed yet.
+     * The string is built only when the revealed letters changed since the last call.
+     * @return The guessed word, e.g. "W..TER".
+     */
+    public String getGuessedWord() {
+        if (guessedWord == null) {
+            String hiddenWord = wordMasks.getWord();
+            char[] letters = new char[hiddenWord.length()];
+            for (int i = 0; i < letters.length; i++)
+                letters[i] = (revealedMask & (1L << i)) != 0 ? hiddenWord.charAt(i) : '.';
+            guessedWord = new String(letters);
+        }
+        return guessedWord;
+    }
+
+    public boolean isLetterGuessed(char letter) {
+        int index = WordMasks.letterIndex(Character.toUpperCase(letter));
+        return index >= 0 && (guessedMask & (1 << index)) != 0;
+    }
+
+    /**
+     * Returns the set of guessed letters.
+     * @return The 26-bit mask with bit i set if letter 'A' + i was guessed.
+     */
+    public int getGuessedMask() {
+        return guessedMask;
+    }
+
+    /**
+     * Returns the revealed positions of the hidden word.
+     * @return The mask with bit i set if the letter at position i is revealed.
+     */
+    public long getRevealedMask() {
+        return revealedMask;
+    }
+
+    public int getMissCount() {
+        return missCount;
+    }
+
+    public int getMaxMiss() {
+        return maxMiss;
+    }
+
+    public int getGuessCount() {
+        return guessCount;
+    }
+
+    public GameStatus getStatus() {
+        return status;
+    }
+
+    public boolean isFinished() {
+        return status != GameStatus.IN_PROGRESS;
+    }
+}
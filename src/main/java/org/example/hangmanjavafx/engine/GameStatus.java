@@ -0,0 +1,8 @@
+package org.example.hangmanjavafx.engine;
+
+/**
+ * Enum representing the status of a single game session.
+ */
+public enum GameStatus {
+    IN_PROGRESS, WON, LOST
+}
@@ -0,0 +1,35 @@
+package org.example.hangmanjavafx.engine;
+
+/**
+ * Enum representing the outcome of a single guess in a game session.
+ */
+public enum GuessResult {
+    /** The letter is in the hidden word, the game goes on. */
+    CORRECT,
+    /** The letter is not in the hidden word, the game goes on. */
+    INCORRECT,
+    /** The letter was already guessed, nothing changed. */
+    REPEATED,
+    /** The guess revealed the last hidden letter. */
+    WON,
+    /** The guess used up the last allowed miss. */
+    LOST,
+    /** The session is already finished or the character is not a letter, nothing changed. */
+    REJECTED;
+
+    /**
+     * Checks if this result means the guessed letter is in the hidden word.
+     * @return true for CORRECT and WON.
+     */
+    public boolean isHit() {
+        return this == CORRECT || this == WON;
+    }
+
+    /**
+     * Checks if this result finished the session.
+     * @return true for WON and LOST.
+     */
+    public boolean isFinal() {
+        return this == WON || this == LOST;
+    }
+}
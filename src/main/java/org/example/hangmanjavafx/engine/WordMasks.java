@@ -0,0 +1,83 @@
+package org.example.hangmanjavafx.engine;
+
+/**
+ * Precomputed bit masks of a hidden word.
+ * For every letter it holds a mask of the positions where the letter occurs, so a guess
+ * can be evaluated with a single array load instead of scanning the word.
+ * Instances are immutable and can be shared by any number of sessions and threads.
+ */
+public final class WordMasks {
+    /** The longest word that fits in a 64-bit position mask. */
+    public static final int MAX_WORD_LENGTH = Long.SIZE;
+    private static final int LETTER_COUNT = 26;
+    private final String word;
+    private final long[] positionMasks = new long[LETTER_COUNT];
+    private final long fullMask;
+    private final int letterMask;
+
+    /**
+     * Computes the masks of a word.
+     * @param word The word, upper case letters A-Z only, at most {@link #MAX_WORD_LENGTH} letters.
+     */
+    public WordMasks(String word) {
+        if (word == null || word.isEmpty())
+            throw new IllegalArgumentException("Hidden word must not be empty");
+        if (word.length() > MAX_WORD_LENGTH)
+            throw new IllegalArgumentException("Hidden word must not be longer than " + MAX_WORD_LENGTH + " letters: " + word);
+
+        int letters = 0;
+        for (int i = 0; i < word.length(); i++) {
+            int letter = letterIndex(word.charAt(i));
+            if (letter < 0)
+                throw new IllegalArgumentException("Hidden word must contain only letters A-Z: " + word);
+            positionMasks[letter] |= 1L << i;
+            letters |= 1 << letter;
+        }
+        this.word = word;
+        this.letterMask = letters;
+        this.fullMask = word.length() == MAX_WORD_LENGTH ? -1L : (1L << word.length()) - 1;
+    }
+
+    /**
+     * Maps a letter to its index in the alphabet.
+     * @param letter The upper case letter.
+     * @return The index from 0 to 25, or -1 if the character is not a letter A-Z.
+     */
+    static int letterIndex(char letter) {
+        return letter >= 'A' && letter <= 'Z' ? letter - 'A' : -1;
+    }
+
+    // Getters
+    public String getWord() {
+        return word;
+    }
+
+    public int length() {
+        return word.length();
+    }
+
+    /**
+     * Returns the positions of a letter in the word.
+     * @param letter The letter index from 0 to 25.
+     * @return The mask with bit i set if the letter is at position i.
+     */
+    public long getPositionMask(int letter) {
+        return positionMasks[letter];
+    }
+
+    /**
+     * Returns the mask with one bit set for every position of the word.
+     * @return The mask of all positions.
+     */
+    public long getFullMask() {
+        return fullMask;
+    }
+
+    /**
+     * Returns the set of letters in the word.
+     * @return The 26-bit mask with bit i set if letter 'A' + i occurs in the word.
+     */
+    public int getLetterMask() {
+        return letterMask;
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.hangmanjavafx.graphics;
+
+import org.example.hangmanjavafx.ui.TextMetrics;
+
+/**
+ * A built-in 5x7 pixel font for {@link RasterSurface}, so text can be drawn and measured without a toolkit
+ * and looks the same on every machine. Glyphs are scaled by whole pixels to approximate the font size.
+ * Lower case letters are drawn as capitals; characters without a glyph are drawn as blanks.
+ * Stateless and thread-safe.
+ */
+public class BitmapFont implements TextMeasurer {
+    static final int GLYPH_WIDTH = 5, GLYPH_HEIGHT = 7, ADVANCE = 6;
+    private static final double DEFAULT_FONT_SIZE = 13;
+    private static final long[] GLYPHS = new long[128];
+
+    static {
+        define('A', ".###. #...# #...# ##### #...# #...# #...#");
+        define('B', "####. #...# #...# ####. #...# #...# ####.");
+        define('C', ".###. #...# #.... #.... #.... #...# .###.");
+        define('D', "####. #...# #...# #...# #...# #...# ####.");
+        define('E', "##### #.... #.... ####. #.... #.... #####");
+        define('F', "##### #.... #.... ####. #.... #.... #....");
+        define('G', ".###. #...# #.... #.### #...# #...# .###.");
+        define('H', "#...# #...# #...# ##### #...# #...# #...#");
+        define('I', ".###. ..#.. ..#.. ..#.. ..#.. ..#.. .###.");
+        define('J', "..### ...#. ...#. ...#. ...#. #..#. .##..");
+        define('K', "#...# #..#. #.#.. ##... #.#.. #..#. #...#");
+        define('L', "#.... #.... #.... #.... #.... #.... #####");
+        define('M', "#...# ##.## #.#.# #.#.# #...# #...# #...#");
+        define('N', "#...# #...# ##..# #.#.# #..## #...# #...#");
+        define('O', ".###. #...# #...# #...# #...# #...# .###.");
+        define('P', "####. #...# #...# ####. #.... #.... #....");
+        define('Q', ".###. #...# #...# #...# #.#.# #..#. .##.#");
+        define('R', "####. #...# #...# ####. #.#.. #..#. #...#");
+        define('S', ".#### #.... #.... .###. ....# ....# ####.");
+        define('T', "##### ..#.. ..#.. ..#.. ..#.. ..#.. ..#..");
+        define('U', "#...# #...# #...# #...# #...# #...# .###.");
+        define('V', "#...# #...# #...# #...# #...# .#.#. ..#..");
+        define('W', "#...# #...# #...# #.#.# #.#.# #.#.# .#.#.");
+        define('X', "#...# #...# .#.#. ..#.. .#.#. #...# #...#");
+        define('Y', "#...# #...# .#.#. ..#.. ..#.. ..#.. ..#..");
+        define('Z', "##### ....# ...#. ..#.. .#... #.... #####");
+        define('0', ".###. #...# #..## #.#.# ##..# #...# .###.");
+        define('1', "..#.. .##.. ..#.. ..#.. ..#.. ..#.. .###.");
+        define('2', ".###. #...# ....# ...#. ..#.. .#... #####");
+        define('3', "####. ....# ....# .###. ....# ....# ####.");
+        define('4', "...#. ..##. .#.#. #..#. ##### ...#. ...#.");
+        define('5', "##### #.... ####. ....# ....# #...# .###.");
+        define('6', "..##. .#... #.... ####. #...# #...# .###.");
+        define('7', "##### ....# ...#. ..#.. .#... .#... .#...");
+        define('8', ".###. #...# #...# .###. #...# #...# .###.");
+        define('9', ".###. #...# #...# .#### ....# ...#. .##..");
+        define('.', "..... ..... ..... ..... ..... .##.. .##..");
+        define('-', "..... ..... ..... ##### ..... ..... .....");
+        define(':', "..... .##.. .##.. ..... .##.. .##.. .....");
+        define('!', "..#.. ..#.. ..#.. ..#.. ..#.. ..... ..#..");
+        define('?', ".###. #...# ....# ...#. ..#.. ..... ..#..");
+    }
+
+    /**
+     * Stores a glyph given as seven rows of five pixels, '#' for a set pixel.
+     */
+    private static void define(char character, String rows) {
+        long glyph = 0;
+        String pixels = rows.replace(" ", "");
+        for (int i = 0; i < GLYPH_WIDTH * GLYPH_HEIGHT; i++)
+            if (pixels.charAt(i) == '#')
+                glyph |= 1L << i;
+        GLYPHS[character] = glyph;
+    }
+
+    /**
+     * Returns the pixels of a character.
+     * @param character The character.
+     * @return The mask with bit {@code row * 5 + column} set for every set pixel, 0 for a blank.
+     */
+    static long getGlyph(char character) {
+        char upper = Character.toUpperCase(character);
+        return upper < GLYPHS.length ? GLYPHS[upper] : 0;
+    }
+
+    /**
+     * Returns the size in pixels of one glyph pixel for a font size.
+     * @param fontSize The font size.
+     * @return The scale, at least 1.
+     */
+    static int getScale(double fontSize) {
+        return Math.max(1, (int) Math.round(fontSize / 8));
+    }
+
+    @Override
+    public TextMetrics.TextBounds measure(String text, double fontSize) {
+        int scale = getScale(fontSize);
+        int width = text.isEmpty() ? 0 : (text.length() * ADVANCE - (ADVANCE - GLYPH_WIDTH)) * scale;
+        return new TextMetrics.TextBounds(width, GLYPH_HEIGHT * scale);
+    }
+
+    @Override
+    public double getDefaultFontSize() {
+        return DEFAULT_FONT_SIZE;
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.hangmanjavafx.graphics;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import org.example.hangmanjavafx.helperMethods.DownloadSave;
+import org.example.hangmanjavafx.main.DirtyRegions;
+import org.example.hangmanjavafx.ui.TextMetrics;
+import java.util.Arrays;
+
+/**
+ * Draws on a JavaFX {@link javafx.scene.canvas.Canvas} through its {@link GraphicsContext}.
+ * Colors and fonts are converted once and kept, so a frame does not allocate them again.
+ * Images come from the {@link DownloadSave} cache, which is only asked again when the drawn image changes.
+ * Must only be used from the JavaFX application thread.
+ */
+public class CanvasSurface implements DrawingSurface {
+    private final GraphicsContext gc;
+    private final FxTextMeasurer textMeasurer = new FxTextMeasurer();
+    private int[] colorKeys = new int[8];
+    private Color[] colors = new Color[8];
+    private int colorCount = 0;
+    private double fontSize = -1;
+    private String imageName;
+    private Image image;
+
+    /**
+     * Creates a surface drawing with the given graphics context.
+     * @param gc The graphics context of the canvas.
+     */
+    public CanvasSurface(GraphicsContext gc) {
+        this.gc = gc;
+    }
+
+    /**
+     * Returns the JavaFX color of an ARGB value, creating it only on the first call.
+     */
+    private Color toColor(int argb) {
+        for (int i = 0; i < colorCount; i++)
+            if (colorKeys[i] == argb)
+                return colors[i];
+        if (colorCount == colorKeys.length) {
+            colorKeys = Arrays.copyOf(colorKeys, colorCount * 2);
+            colors = Arrays.copyOf(colors, colorCount * 2);
+        }
+        colorKeys[colorCount] = argb;
+        colors[colorCount] = Color.rgb((argb >> 16) & 0xFF, (argb >> 8) & 0xFF, argb & 0xFF, (argb >>> 24) / 255.0);
+        return colors[colorCount++];
+    }
+
+    @Override
+    public void setFill(int argb) {
+        gc.setFill(toColor(argb));
+    }
+
+    @Override
+    public void setStroke(int argb) {
+        gc.setStroke(toColor(argb));
+    }
+
+    @Override
+    public void setFontSize(double fontSize) {
+        if (this.fontSize != fontSize) {
+            this.fontSize = fontSize;
+            gc.setFont(textMeasurer.getFont(fontSize));
+        }
+    }
+
+    @Override
+    public void fillRect(double x, double y, double width, double height) {
+        gc.fillRect(x, y, width, height);
+    }
+
+    @Override
+    public void fillRoundRect(double x, double y, double width, double height, double arc) {
+        gc.fillRoundRect(x, y, width, height, arc, arc);
+    }
+
+    @Override
+    public void strokeRoundRect(double x, double y, double width, double height, double arc) {
+        gc.strokeRoundRect(x, y, width, height, arc, arc);
+    }
+
+    @Override
+    public void fillText(String text, double x, double y) {
+        gc.fillText(text, x, y);
+    }
+
+    @Override
+    public void drawImage(String imageName, double x, double y) {
+        gc.drawImage(toImage(imageName), x, y);
+    }
+
+    /**
+     * Returns the image of a name, asking the cache only when it differs from the name of the last image.
+     * Scenes draw the same image frame after frame, so this skips the lock and LRU update of the cache.
+     * An image that failed to load is not kept, so it is asked for again.
+     */
+    private Image toImage(String imageName) {
+        if (!imageName.equals(this.imageName)) {
+            image = DownloadSave.getImage(imageName);
+            this.imageName = image != null ? imageName : null;
+        }
+        return image;
+    }
+
+    @Override
+    public void clip(DirtyRegions dirtyRegions) {
+        gc.save();
+        gc.beginPath();
+        for (int i = 0; i < dirtyRegions.getRegionCount(); i++)
+            gc.rect(dirtyRegions.getX(i), dirtyRegions.getY(i), dirtyRegions.getWidth(i), dirtyRegions.getHeight(i));
+        gc.clip();
+    }
+
+    /**
+     * Restores the state saved by {@link #clip(DirtyRegions)}, which also restores the font set before it.
+     */
+    @Override
+    public void resetClip() {
+        gc.restore();
+        fontSize = -1;
+    }
+
+    @Override
+    public TextMetrics.TextBounds measure(String text, double fontSize) {
+        return textMeasurer.measure(text, fontSize);
+    }
+
+    @Override
+    public double getDefaultFontSize() {
+        return textMeasurer.getDefaultFontSize();
+    }
+
+    // Getters
+    @Override
+    public int getWidth() {
+        return (int) gc.getCanvas().getWidth();
+    }
+
+    @Override
+    public int getHeight() {
+        return (int) gc.getCanvas().getHeight();
+    }
+}
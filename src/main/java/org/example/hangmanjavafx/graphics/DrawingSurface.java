@@ -0,0 +1,72 @@
+package org.example.hangmanjavafx.graphics;
+
+import org.example.hangmanjavafx.main.DirtyRegions;
+
+/**
+ * The drawing operations the scenes paint with, independent of where the pixels end up.
+ * {@link CanvasSurface} draws on a JavaFX canvas, {@link RasterSurface} into an off-screen framebuffer without a toolkit.
+ * Colors are ARGB integers, images are named by their resource file, and text uses the default font family.
+ */
+public interface DrawingSurface extends TextMeasurer {
+    public int getWidth();
+    public int getHeight();
+
+    /**
+     * Sets the color of filled shapes and text.
+     * @param argb The color as 0xAARRGGBB.
+     */
+    public void setFill(int argb);
+
+    /**
+     * Sets the color of outlines.
+     * @param argb The color as 0xAARRGGBB.
+     */
+    public void setStroke(int argb);
+
+    /**
+     * Sets the size of the font text is drawn with.
+     * @param fontSize The font size.
+     */
+    public void setFontSize(double fontSize);
+
+    public void fillRect(double x, double y, double width, double height);
+
+    /**
+     * Fills a rectangle with rounded corners.
+     * @param arc The diameter of the corner arcs.
+     */
+    public void fillRoundRect(double x, double y, double width, double height, double arc);
+
+    /**
+     * Draws the outline of a rectangle with rounded corners.
+     * @param arc The diameter of the corner arcs.
+     */
+    public void strokeRoundRect(double x, double y, double width, double height, double arc);
+
+    /**
+     * Draws text with the fill color and the current font size.
+     * @param text The text.
+     * @param x    The x-coordinate of the start of the text.
+     * @param y    The y-coordinate of the baseline.
+     */
+    public void fillText(String text, double x, double y);
+
+    /**
+     * Draws an image at its own size. Images that cannot be loaded are skipped.
+     * @param imageName The name of the image resource.
+     * @param x         The x-coordinate of the top left corner.
+     * @param y         The y-coordinate of the top left corner.
+     */
+    public void drawImage(String imageName, double x, double y);
+
+    /**
+     * Restricts drawing to the dirty regions until {@link #resetClip()} is called.
+     * @param dirtyRegions The regions that may be painted.
+     */
+    public void clip(DirtyRegions dirtyRegions);
+
+    /**
+     * Removes the clip set by {@link #clip(DirtyRegions)}.
+     */
+    public void resetClip();
+}
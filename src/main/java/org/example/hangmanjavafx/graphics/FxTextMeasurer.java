@@ -0,0 +1,43 @@
+package org.example.hangmanjavafx.graphics;
+
+import javafx.scene.text.Font;
+import org.example.hangmanjavafx.ui.TextMetrics;
+import java.util.Arrays;
+
+/**
+ * Measures text with JavaFX fonts through the {@link TextMetrics} cache.
+ * Keeps one {@link Font} per size, since the scenes only use a handful of sizes.
+ */
+public class FxTextMeasurer implements TextMeasurer {
+    private double[] sizes = new double[4];
+    private Font[] fonts = new Font[4];
+    private int fontCount = 0;
+
+    /**
+     * Returns the default font family in the given size, creating it only on the first call.
+     * @param fontSize The font size.
+     * @return The font.
+     */
+    public synchronized Font getFont(double fontSize) {
+        for (int i = 0; i < fontCount; i++)
+            if (sizes[i] == fontSize)
+                return fonts[i];
+        if (fontCount == sizes.length) {
+            sizes = Arrays.copyOf(sizes, fontCount * 2);
+            fonts = Arrays.copyOf(fonts, fontCount * 2);
+        }
+        sizes[fontCount] = fontSize;
+        fonts[fontCount] = Font.font(fontSize);
+        return fonts[fontCount++];
+    }
+
+    @Override
+    public TextMetrics.TextBounds measure(String text, double fontSize) {
+        return TextMetrics.measure(text, getFont(fontSize));
+    }
+
+    @Override
+    public double getDefaultFontSize() {
+        return Font.getDefault().getSize();
+    }
+}
@@ -0,0 +1,388 @@
+package org.example.hangmanjavafx.graphics;
+
+import org.example.hangmanjavafx.helperMethods.AsyncLogger;
+import org.example.hangmanjavafx.main.DirtyRegions;
+import org.example.hangmanjavafx.ui.TextMetrics;
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.IntBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * Draws into an off-screen ARGB framebuffer without a JavaFX toolkit or a display,
+ * for measuring frame rates headlessly and for comparing frames with golden images.
+ * <p>
+ * The framebuffer is allocated once and drawn over by every frame. Every shape is drawn as horizontal spans
+ * clipped against the canvas and the dirty regions, so drawing does not allocate. There is no anti-aliasing,
+ * text uses the {@link BitmapFont}, and images are decoded once with {@link ImageIO} and shared by all surfaces.
+ * The output is therefore the same on every machine, but not pixel-identical to the JavaFX canvas.
+ * ImageIO is the only use of {@code java.desktop} in the game, which requires that module only statically:
+ * the game itself draws with {@link CanvasSurface} and never loads this class.
+ * A surface must be used by one thread at a time.
+ */
+public class RasterSurface implements DrawingSurface {
+    private static final AsyncLogger LOGGER = AsyncLogger.getLogger(RasterSurface.class.getName());
+    private static final RasterImage MISSING_IMAGE = new RasterImage(0, 0, new int[0]);
+    private static final Map<String, RasterImage> IMAGES = new ConcurrentHashMap<>();
+    private static final int MAX_CLIP_RECTS = 8;
+    private final int width, height;
+    private final int[] pixels;
+    private final IntBuffer pixelBuffer;
+    private final BitmapFont font = new BitmapFont();
+    private int fill = 0xFF000000, stroke = 0xFF000000;
+    private int fontScale;
+    // Clip rectangles sorted by their left edge, as [x0, y0, x1, y1) in canvas coordinates
+    private final int[] clipX0 = new int[MAX_CLIP_RECTS], clipY0 = new int[MAX_CLIP_RECTS];
+    private final int[] clipX1 = new int[MAX_CLIP_RECTS], clipY1 = new int[MAX_CLIP_RECTS];
+    private int clipCount;
+    private final int[] spans = new int[2 * MAX_CLIP_RECTS];
+
+    /**
+     * Creates a surface with a transparent framebuffer of the given size.
+     * @param width  The width in pixels.
+     * @param height The height in pixels.
+     */
+    public RasterSurface(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.pixels = new int[width * height];
+        this.pixelBuffer = IntBuffer.wrap(pixels);
+        setFontSize(font.getDefaultFontSize());
+        resetClip();
+    }
+
+    /**
+     * Fills the whole framebuffer with one color, ignoring the clip.
+     * @param argb The color as 0xAARRGGBB.
+     */
+    public void clear(int argb) {
+        Arrays.fill(pixels, argb);
+    }
+
+    @Override
+    public void setFill(int argb) {
+        fill = argb;
+    }
+
+    @Override
+    public void setStroke(int argb) {
+        stroke = argb;
+    }
+
+    @Override
+    public void setFontSize(double fontSize) {
+        fontScale = BitmapFont.getScale(fontSize);
+    }
+
+    @Override
+    public void fillRect(double x, double y, double width, double height) {
+        int x0 = round(x), x1 = round(x + width);
+        int y1 = Math.min(round(y + height), this.height);
+        for (int row = Math.max(round(y), 0); row < y1; row++)
+            fillSpan(row, x0, x1, fill);
+    }
+
+    @Override
+    public void fillRoundRect(double x, double y, double width, double height, double arc) {
+        int x0 = round(x), x1 = round(x + width);
+        int y0 = round(y), y1 = round(y + height);
+        for (int row = Math.max(y0, 0); row < Math.min(y1, this.height); row++) {
+            int inset = cornerInset(row - y0, y1 - y0, arc / 2);
+            fillSpan(row, x0 + inset, x1 - inset, fill);
+        }
+    }
+
+    /**
+     * Draws a one pixel outline inside the rectangle. Where the corner arcs step by more than a pixel
+     * from one row to the next, the step is filled so the outline has no gaps.
+     */
+    @Override
+    public void strokeRoundRect(double x, double y, double width, double height, double arc) {
+        int x0 = round(x), x1 = round(x + width);
+        int y0 = round(y), y1 = round(y + height);
+        int rows = y1 - y0;
+        for (int row = Math.max(y0, 0); row < Math.min(y1, this.height); row++) {
+            int i = row - y0;
+            int inset = cornerInset(i, rows, arc / 2);
+            if (i == 0 || i == rows - 1) {
+                fillSpan(row, x0 + inset, x1 - inset, stroke);
+                continue;
+            }
+            int outerInset = cornerInset(i < rows / 2 ? i - 1 : i + 1, rows, arc / 2);
+            int thickness = Math.max(1, outerInset - inset);
+            fillSpan(row, x0 + inset, x0 + inset + thickness, stroke);
+            fillSpan(row, x1 - inset - thickness, x1 - inset, stroke);
+        }
+    }
+
+    /**
+     * Returns how far a row of a rounded rectangle is indented by its corner arcs.
+     * @param row    The row, counted from the top of the rectangle.
+     * @param rows   The height of the rectangle.
+     * @param radius The radius of the corner arcs.
+     * @return The indent on each side, in pixels.
+     */
+    private static int cornerInset(int row, int rows, double radius) {
+        radius = Math.min(radius, rows / 2.0);
+        double dy;
+        if (row < radius)
+            dy = radius - row - 0.5;
+        else if (row >= rows - radius)
+            dy = row + 0.5 - (rows - radius);
+        else
+            return 0;
+        return (int) Math.round(radius - Math.sqrt(Math.max(0, radius * radius - dy * dy)));
+    }
+
+    /**
+     * Draws text with the {@link BitmapFont}, one span per run of set pixels in a glyph row.
+     */
+    @Override
+    public void fillText(String text, double x, double y) {
+        int scale = fontScale;
+        int left = round(x);
+        int top = round(y) - BitmapFont.GLYPH_HEIGHT * scale;
+        for (int c = 0; c < text.length(); c++, left += BitmapFont.ADVANCE * scale) {
+            long glyph = BitmapFont.getGlyph(text.charAt(c));
+            if (glyph == 0)
+                continue;
+            for (int glyphRow = 0; glyphRow < BitmapFont.GLYPH_HEIGHT; glyphRow++) {
+                int rowBits = (int) (glyph >>> (glyphRow * BitmapFont.GLYPH_WIDTH)) & 0x1F;
+                int column = 0;
+                while (rowBits >>> column != 0) {
+                    if ((rowBits & (1 << column)) == 0) {
+                        column++;
+                        continue;
+                    }
+                    int runStart = column;
+                    while (column < BitmapFont.GLYPH_WIDTH && (rowBits & (1 << column)) != 0)
+                        column++;
+                    int rowTop = top + glyphRow * scale;
+                    for (int row = Math.max(rowTop, 0); row < Math.min(rowTop + scale, height); row++)
+                        fillSpan(row, left + runStart * scale, left + column * scale, fill);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void drawImage(String imageName, double x, double y) {
+        RasterImage image = IMAGES.computeIfAbsent(imageName, RasterSurface::loadImage);
+        int left = round(x), top = round(y);
+        for (int row = Math.max(top, 0); row < Math.min(top + image.height(), height); row++) {
+            int spanCount = clipSpans(row, left, left + image.width());
+            int sourceRow = (row - top) * image.width() - left;
+            int rowOffset = row * width;
+            for (int s = 0; s < spanCount; s += 2)
+                for (int column = spans[s]; column < spans[s + 1]; column++)
+                    pixels[rowOffset + column] = blend(image.pixels()[sourceRow + column], pixels[rowOffset + column]);
+        }
+    }
+
+    /**
+     * Fills the part of a row between two columns that lies inside the canvas and the clip.
+     */
+    private void fillSpan(int row, int x0, int x1, int argb) {
+        int spanCount = clipSpans(row, x0, x1);
+        int rowOffset = row * width;
+        for (int s = 0; s < spanCount; s += 2) {
+            if (argb >>> 24 == 0xFF)
+                Arrays.fill(pixels, rowOffset + spans[s], rowOffset + spans[s + 1], argb);
+            else
+                for (int i = rowOffset + spans[s]; i < rowOffset + spans[s + 1]; i++)
+                    pixels[i] = blend(argb, pixels[i]);
+        }
+    }
+
+    /**
+     * Clips the columns [x0, x1) of a row against the clip rectangles and writes the visible parts to {@link #spans}.
+     * Overlapping clip rectangles produce each column only once, so translucent pixels are blended only once.
+     * @return The number of entries written, two per visible span.
+     */
+    private int clipSpans(int row, int x0, int x1) {
+        int count = 0;
+        int covered = x0;
+        for (int i = 0; i < clipCount && covered < x1; i++) {
+            if (row < clipY0[i] || row >= clipY1[i])
+                continue;
+            int start = Math.max(covered, clipX0[i]);
+            int end = Math.min(x1, clipX1[i]);
+            if (start < end) {
+                if (count > 0 && spans[count - 1] == start)
+                    spans[count - 1] = end;
+                else {
+                    spans[count++] = start;
+                    spans[count++] = end;
+                }
+                covered = end;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void clip(DirtyRegions dirtyRegions) {
+        clipCount = 0;
+        for (int i = 0; i < dirtyRegions.getRegionCount() && clipCount < MAX_CLIP_RECTS; i++) {
+            int x0 = Math.max(dirtyRegions.getX(i), 0);
+            int y0 = Math.max(dirtyRegions.getY(i), 0);
+            int x1 = Math.min(dirtyRegions.getX(i) + dirtyRegions.getWidth(i), width);
+            int y1 = Math.min(dirtyRegions.getY(i) + dirtyRegions.getHeight(i), height);
+            if (x0 >= x1 || y0 >= y1)
+                continue;
+            // Insertion sort by left edge
+            int j = clipCount++;
+            for (; j > 0 && clipX0[j - 1] > x0; j--) {
+                clipX0[j] = clipX0[j - 1];
+                clipY0[j] = clipY0[j - 1];
+                clipX1[j] = clipX1[j - 1];
+                clipY1[j] = clipY1[j - 1];
+            }
+            clipX0[j] = x0;
+            clipY0[j] = y0;
+            clipX1[j] = x1;
+            clipY1[j] = y1;
+        }
+    }
+
+    @Override
+    public void resetClip() {
+        clipCount = 1;
+        clipX0[0] = 0;
+        clipY0[0] = 0;
+        clipX1[0] = width;
+        clipY1[0] = height;
+    }
+
+    /**
+     * Blends a color over a pixel.
+     * @param source      The color to draw, not premultiplied.
+     * @param destination The pixel below.
+     * @return The blended pixel.
+     */
+    private static int blend(int source, int destination) {
+        int alpha = source >>> 24;
+        if (alpha == 0xFF)
+            return source;
+        if (alpha == 0)
+            return destination;
+        int inverse = 0xFF - alpha;
+        int a = alpha + ((destination >>> 24) * inverse) / 0xFF;
+        int r = (((source >> 16) & 0xFF) * alpha + ((destination >> 16) & 0xFF) * inverse) / 0xFF;
+        int g = (((source >> 8) & 0xFF) * alpha + ((destination >> 8) & 0xFF) * inverse) / 0xFF;
+        int b = ((source & 0xFF) * alpha + (destination & 0xFF) * inverse) / 0xFF;
+        return a << 24 | r << 16 | g << 8 | b;
+    }
+
+    private static int round(double value) {
+        return (int) Math.floor(value + 0.5);
+    }
+
+    /**
+     * Decodes an image resource from the classpath into ARGB pixels.
+     * @param imageName The name of the image file.
+     * @return The image, or an empty image if it cannot be loaded.
+     */
+    private static RasterImage loadImage(String imageName) {
+        try (InputStream input = RasterSurface.class.getClassLoader().getResourceAsStream(imageName)) {
+            BufferedImage image = input == null ? null : ImageIO.read(input);
+            if (image == null) {
+                LOGGER.log(Level.SEVERE, "Image not found: {0}", imageName);
+                return MISSING_IMAGE;
+            }
+            int[] argb = image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+            return new RasterImage(image.getWidth(), image.getHeight(), argb);
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Error loading image: " + imageName, e);
+            return MISSING_IMAGE;
+        }
+    }
+
+    /**
+     * Writes the framebuffer to a PNG file, e.g. to store it as a golden image.
+     * @param path The file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public void writePng(Path path) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, width, height, pixels, 0, width);
+        ImageIO.write(image, "png", path.toFile());
+    }
+
+    /**
+     * Compares the framebuffer with a golden image.
+     * @param path      The golden image, a PNG file of the same size.
+     * @param tolerance The largest difference of a color channel that still counts as equal.
+     * @return The number of pixels that differ by more than the tolerance in any channel.
+     * @throws IOException If the file cannot be read or its size differs.
+     */
+    public int countDifferentPixels(Path path, int tolerance) throws IOException {
+        BufferedImage golden = ImageIO.read(path.toFile());
+        if (golden == null)
+            throw new IOException("Not an image: " + path);
+        if (golden.getWidth() != width || golden.getHeight() != height)
+            throw new IOException("Golden image " + path + " is " + golden.getWidth() + "x" + golden.getHeight()
+                    + ", the frame is " + width + "x" + height);
+        int[] expected = golden.getRGB(0, 0, width, height, null, 0, width);
+        int different = 0;
+        for (int i = 0; i < pixels.length; i++) {
+            int actual = pixels[i];
+            for (int shift = 0; shift < 32; shift += 8) {
+                if (Math.abs(((actual >>> shift) & 0xFF) - ((expected[i] >>> shift) & 0xFF)) > tolerance) {
+                    different++;
+                    break;
+                }
+            }
+        }
+        return different;
+    }
+
+    @Override
+    public TextMetrics.TextBounds measure(String text, double fontSize) {
+        return font.measure(text, fontSize);
+    }
+
+    @Override
+    public double getDefaultFontSize() {
+        return font.getDefaultFontSize();
+    }
+
+    // Getters
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the framebuffer, one ARGB pixel per int, row by row.
+     * @return The pixels, updated in place by every frame.
+     */
+    public int[] getPixels() {
+        return pixels;
+    }
+
+    /**
+     * Returns the framebuffer as a buffer, e.g. for copying it into a texture or a writable image.
+     * @return A buffer over the same pixels as {@link #getPixels()}.
+     */
+    public IntBuffer getPixelBuffer() {
+        return pixelBuffer.duplicate();
+    }
+
+    /**
+     * Pixels of a decoded image.
+     */
+    private record RasterImage(int width, int height, int[] pixels) {
+    }
+}
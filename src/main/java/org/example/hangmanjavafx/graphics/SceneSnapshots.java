@@ -0,0 +1,108 @@
+package org.example.hangmanjavafx.graphics;
+
+import org.example.hangmanjavafx.Hangman;
+import org.example.hangmanjavafx.inputs.InputQueue;
+import org.example.hangmanjavafx.main.GameStates;
+import org.example.hangmanjavafx.main.Render;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+/**
+ * Renders the scenes of a game without a window into a {@link RasterSurface}, one frame per step of a fixed walk
+ * through the game: menu, playing, playing-guesses, game-over and game-won.
+ * The game uses a fixed seed and keeps its saved games in a temporary directory, so the frames only change
+ * when the drawing changes. Run it with the built-in dictionary, i.e. without {@code -Dhangman.dictionary}.
+ * <p>
+ * The frames are compared with the golden images in {@code src/test/resources/snapshots} by
+ * {@code SceneSnapshotsTest}, so a changed frame fails the build. This class is also the tool that writes
+ * the golden images again after an intended change of the drawing.
+ * <p>
+ * Usage: {@code SceneSnapshots directory}, writes {@code name.png} for every frame into the directory.
+ */
+public class SceneSnapshots {
+    private static final Logger LOGGER = Logger.getLogger(SceneSnapshots.class.getName());
+    private static final long SEED = 42;
+    private final Hangman hangman;
+    private final Render render;
+    private final RasterSurface surface;
+
+    /**
+     * Receives every frame of the walk.
+     */
+    @FunctionalInterface
+    public interface FrameHandler {
+        /**
+         * Handles one frame.
+         * @param name    The name of the frame, e.g. "menu".
+         * @param surface The surface holding the frame; only valid during the call.
+         * @throws IOException If the frame cannot be stored or compared.
+         */
+        void frame(String name, RasterSurface surface) throws IOException;
+    }
+
+    /**
+     * Creates a headless game.
+     * @throws IOException If the temporary directory cannot be created.
+     */
+    public SceneSnapshots() throws IOException {
+        hangman = new Hangman(Files.createTempDirectory("hangman-snapshots"), SEED, null);
+        hangman.setTextMeasurer(new BitmapFont());
+        surface = new RasterSurface(hangman.getGameWindow().getWindowWidth(), hangman.getGameWindow().getWindowHeight());
+        render = new Render(hangman);
+        render.setOnDemand(false);
+    }
+
+    /**
+     * Walks through the scenes and hands a full frame of each step to the handler.
+     * @param handler Receives the frames.
+     * @throws IOException If the handler fails.
+     */
+    public void run(FrameHandler handler) throws IOException {
+        try {
+            InputQueue inputQueue = hangman.getInputQueue();
+            snapshot("menu", handler);
+
+            hangman.getGameStateMachine().setGameState(GameStates.PLAYING);
+            snapshot("playing", handler);
+
+            for (char letter : "ETAQZ".toCharArray())
+                inputQueue.keyPressed(letter);
+            inputQueue.mouseMoved(40, 475);
+            inputQueue.dispatch();
+            snapshot("playing-guesses", handler);
+
+            hangman.getGameStateMachine().setGameState(GameStates.GAME_OVER);
+            snapshot("game-over", handler);
+
+            hangman.getGameStateMachine().setGameState(GameStates.GAME_WON);
+            snapshot("game-won", handler);
+        } finally {
+            hangman.getGameStore().delete();
+        }
+    }
+
+    /**
+     * Renders a full frame of the current scene and hands it to the handler.
+     * @param name The name of the frame.
+     */
+    private void snapshot(String name, FrameHandler handler) throws IOException {
+        hangman.update();
+        surface.clear(0xFF000000);
+        render.render(surface);
+        handler.frame(name, surface);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1)
+            throw new IllegalArgumentException("Usage: SceneSnapshots directory");
+        Path directory = Path.of(args[0]);
+        Files.createDirectories(directory);
+        new SceneSnapshots().run((name, frame) -> {
+            Path golden = directory.resolve(name + ".png");
+            frame.writePng(golden);
+            LOGGER.info("Wrote " + golden);
+        });
+    }
+}
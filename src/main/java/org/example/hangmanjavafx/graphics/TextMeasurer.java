@@ -0,0 +1,23 @@
+package org.example.hangmanjavafx.graphics;
+
+import org.example.hangmanjavafx.ui.TextMetrics;
+
+/**
+ * Measures text the way a {@link DrawingSurface} draws it.
+ * Implementations must be thread-safe, so text can be measured while a round is prepared in the background.
+ */
+public interface TextMeasurer {
+    /**
+     * Returns the size of a text drawn with the given font size.
+     * @param text     The text to measure.
+     * @param fontSize The font size.
+     * @return The width and height of the text.
+     */
+    public TextMetrics.TextBounds measure(String text, double fontSize);
+
+    /**
+     * Returns the size of the font used when no font size is set.
+     * @return The default font size.
+     */
+    public double getDefaultFontSize();
+}
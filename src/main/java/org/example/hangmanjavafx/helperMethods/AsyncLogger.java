@@ -0,0 +1,204 @@
+package org.example.hangmanjavafx.helperMethods;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * Logger front end that never blocks the calling thread.
+ * Messages below the level of the underlying {@link Logger} are dropped with a single check.
+ * Other messages are queued with their parameters in a bounded lock-free ring buffer and formatted and published
+ * in batches by a background thread. Logging threads claim a slot with a single compare-and-set and never wait
+ * for the background thread. When the buffer is full the message is dropped and counted,
+ * and the number of dropped messages is reported by the background thread.
+ * <p>
+ * Messages use {@link java.text.MessageFormat} placeholders, e.g. {@code "Letter: {0} was clicked"}.
+ */
+public final class AsyncLogger {
+    private static final int CAPACITY = 4096; // A power of two
+    private static final int MASK = CAPACITY - 1;
+    private static final int BATCH_SIZE = 256;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    // Ring buffer of the bounded multi-producer queue described by Dmitry Vyukov: slot i is free for the
+    // producer of sequence number s when SEQUENCES[i] == s, and holds its record when SEQUENCES[i] == s + 1
+    private static final AtomicReferenceArray<LogRecord> SLOTS = new AtomicReferenceArray<>(CAPACITY);
+    private static final AtomicLongArray SEQUENCES = new AtomicLongArray(CAPACITY);
+    private static final AtomicLong TAIL = new AtomicLong();
+    private static final Object CONSUMER_LOCK = new Object();
+    private static long head; // Guarded by CONSUMER_LOCK
+    private static final AtomicBoolean WRITER_WAITING = new AtomicBoolean();
+    private static final AtomicLong DROPPED = new AtomicLong();
+    private static final Logger DROP_REPORTER = Logger.getLogger(AsyncLogger.class.getName());
+    private static final Thread WRITER;
+    private final Logger logger;
+
+    static {
+        for (int i = 0; i < CAPACITY; i++)
+            SEQUENCES.set(i, i);
+        WRITER = new Thread(AsyncLogger::drain, "async-logger");
+        WRITER.setDaemon(true);
+        WRITER.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(AsyncLogger::flush, "async-logger-flush"));
+    }
+
+    private AsyncLogger(Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Returns an asynchronous logger writing to the {@link Logger} of the given name.
+     * @param name The logger name, usually the class name.
+     * @return The logger.
+     */
+    public static AsyncLogger getLogger(String name) {
+        return new AsyncLogger(Logger.getLogger(name));
+    }
+
+    public void info(String message) {
+        log(Level.INFO, message);
+    }
+
+    public void info(String pattern, Object param) {
+        if (logger.isLoggable(Level.INFO))
+            enqueue(Level.INFO, pattern, new Object[]{param}, null);
+    }
+
+    public void info(String pattern, Object... params) {
+        if (logger.isLoggable(Level.INFO))
+            enqueue(Level.INFO, pattern, params, null);
+    }
+
+    public void log(Level level, String message) {
+        if (logger.isLoggable(level))
+            enqueue(level, message, null, null);
+    }
+
+    public void log(Level level, String pattern, Object... params) {
+        if (logger.isLoggable(level))
+            enqueue(level, pattern, params, null);
+    }
+
+    public void log(Level level, String message, Throwable thrown) {
+        if (logger.isLoggable(level))
+            enqueue(level, message, null, thrown);
+    }
+
+    public boolean isLoggable(Level level) {
+        return logger.isLoggable(level);
+    }
+
+    /**
+     * Returns the number of messages dropped because the buffer was full.
+     * @return The number of dropped messages since startup.
+     */
+    public static long getDroppedCount() {
+        return DROPPED.get();
+    }
+
+    private void enqueue(Level level, String pattern, Object[] params, Throwable thrown) {
+        LogRecord record = new LogRecord(level, pattern);
+        record.setLoggerName(logger.getName());
+        // Set the source explicitly, the caller cannot be inferred on the background thread
+        record.setSourceClassName(logger.getName());
+        record.setParameters(params);
+        record.setThrown(thrown);
+        if (!offer(record))
+            DROPPED.incrementAndGet();
+    }
+
+    /**
+     * Adds a record to the ring buffer without blocking, and wakes the background thread if it is idle.
+     * @return false if the buffer is full.
+     */
+    private static boolean offer(LogRecord record) {
+        long tail = TAIL.get();
+        while (true) {
+            int slot = (int) tail & MASK;
+            long difference = SEQUENCES.get(slot) - tail;
+            if (difference == 0) {
+                if (TAIL.compareAndSet(tail, tail + 1))
+                    break;
+                tail = TAIL.get();
+            } else if (difference < 0)
+                return false; // The slot still holds the record of the previous lap
+            else
+                tail = TAIL.get();
+        }
+        int slot = (int) tail & MASK;
+        SLOTS.set(slot, record);
+        SEQUENCES.set(slot, tail + 1);
+        if (WRITER_WAITING.get() && WRITER_WAITING.compareAndSet(true, false))
+            LockSupport.unpark(WRITER);
+        return true;
+    }
+
+    /**
+     * Moves up to the given number of records from the ring buffer into a batch.
+     * @return The number of records moved.
+     */
+    private static int drainTo(List<LogRecord> batch, int maxRecords) {
+        synchronized (CONSUMER_LOCK) {
+            int count = 0;
+            while (count < maxRecords) {
+                int slot = (int) head & MASK;
+                if (SEQUENCES.get(slot) != head + 1)
+                    break; // Empty, or the producer of this slot has not finished writing
+                batch.add(SLOTS.get(slot));
+                SLOTS.set(slot, null);
+                SEQUENCES.set(slot, head + CAPACITY);
+                head++;
+                count++;
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Publishes queued records in batches until the JVM exits.
+     */
+    private static void drain() {
+        List<LogRecord> batch = new ArrayList<>(BATCH_SIZE);
+        long reportedDrops = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            if (drainTo(batch, BATCH_SIZE) == 0) {
+                // Announce the wait before checking again, so a record offered in between unparks this thread
+                WRITER_WAITING.set(true);
+                if (drainTo(batch, BATCH_SIZE) == 0)
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                WRITER_WAITING.set(false);
+            }
+            if (batch.isEmpty())
+                continue;
+            publish(batch);
+
+            long dropped = DROPPED.get();
+            if (dropped != reportedDrops) {
+                DROP_REPORTER.warning("Dropped " + (dropped - reportedDrops) + " log messages, " + dropped + " in total");
+                reportedDrops = dropped;
+            }
+        }
+    }
+
+    /**
+     * Publishes everything still queued, called on JVM shutdown.
+     */
+    private static void flush() {
+        List<LogRecord> batch = new ArrayList<>(BATCH_SIZE);
+        while (drainTo(batch, BATCH_SIZE) > 0)
+            publish(batch);
+    }
+
+    private static void publish(List<LogRecord> batch) {
+        for (LogRecord record : batch)
+            Logger.getLogger(record.getLoggerName()).log(record);
+        batch.clear();
+    }
+}
@@ -1,36 +1,213 @@
 package org.example.hangmanjavafx.helperMethods;
 
 import javafx.scene.image.Image;
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Level;
-import java.util.logging.Logger;
 
 /**
  * Manages image resources retrieval and logging.
+ * Images are decoded once and kept in a bounded cache, so scenes can ask for the same image
+ * as often as they like without touching the classpath again.
+ * {@link #preloadImages()} decodes all game images in parallel on background threads.
  */
 public class DownloadSave {
-    private static final Logger LOGGER = Logger.getLogger(DownloadSave.class.getName());
+    private static final AsyncLogger LOGGER = AsyncLogger.getLogger(DownloadSave.class.getName());
+    private static final int MAX_CACHED_IMAGES = 32;
+    private static final String[] HANGMAN_IMAGES = initHangmanImageNames();
+    private static final String[] BACKGROUND_IMAGES = {"menu.jpg", "gameover.png", "gamewon.jpg"};
+    private static final Map<String, CompletableFuture<Image>> CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<Image>> eldest) {
+            return size() > MAX_CACHED_IMAGES;
+        }
+    };
+    private static final LongAdder CACHE_HITS = new LongAdder();
+    private static final LongAdder CACHE_MISSES = new LongAdder();
+    private static ExecutorService loader;
+
+    private static String[] initHangmanImageNames() {
+        String[] names = new String[GameData.MAX_MISS + 1];
+        for (int i = 0; i < names.length; i++)
+            names[i] = "hangman_" + i + ".png";
+        return names;
+    }
+
+    /**
+     * Starts decoding all hangman stages and background images in parallel on background threads.
+     * @return A future that completes when all images are in the cache.
+     */
+    public static CompletableFuture<Void> preloadImages() {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[HANGMAN_IMAGES.length + BACKGROUND_IMAGES.length];
+        int i = 0;
+        for (String imageName : HANGMAN_IMAGES)
+            futures[i++] = getImageAsync(imageName);
+        for (String imageName : BACKGROUND_IMAGES)
+            futures[i++] = getImageAsync(imageName);
+        return CompletableFuture.allOf(futures);
+    }
 
     /**
-     * Retrieves an image resource.
+     * Retrieves an image resource, decoding it only if it is not cached yet.
+     * If the image is being preloaded, waits for the preload instead of decoding it twice.
+     * A failed load is not cached, so the next request tries again.
      *
      * @param imageName The name of the image file.
-     * @return The image resource.
+     * @return The image resource, or null if it cannot be loaded.
      */
     public static Image getImage(String imageName) {
-        Image image = null;
-        InputStream imagePath = DownloadSave.class.getClassLoader().getResourceAsStream(imageName);
+        CompletableFuture<Image> future;
+        boolean load = false;
+        synchronized (CACHE) {
+            future = CACHE.get(imageName);
+            if (future == null) {
+                CACHE_MISSES.increment();
+                future = new CompletableFuture<>();
+                CACHE.put(imageName, future);
+                load = true;
+            } else
+                CACHE_HITS.increment();
+        }
+        if (load) {
+            try {
+                complete(imageName, future, loadImage(imageName), null);
+            } catch (RuntimeException e) {
+                complete(imageName, future, null, e);
+            }
+        }
+        return future.join();
+    }
+
+    /**
+     * Retrieves the image of the hangman for the given number of misses.
+     * @param missCount The number of misses, from 0 to {@link GameData#MAX_MISS}.
+     * @return The image resource.
+     */
+    public static Image getHangmanImage(int missCount) {
+        return getImage(getHangmanImageName(missCount));
+    }
+
+    /**
+     * Returns the name of the hangman image for the given number of misses, without loading it.
+     * @param missCount The number of misses, from 0 to {@link GameData#MAX_MISS}.
+     * @return The name of the image file.
+     */
+    public static String getHangmanImageName(int missCount) {
+        return HANGMAN_IMAGES[Math.min(missCount, HANGMAN_IMAGES.length - 1)];
+    }
+
+    /**
+     * Retrieves an image resource, decoding it on a background thread if it is not cached yet.
+     * @param imageName The name of the image file.
+     * @return A future completed with the image, or with null if it cannot be loaded.
+     */
+    public static CompletableFuture<Image> getImageAsync(String imageName) {
+        CompletableFuture<Image> future;
+        synchronized (CACHE) {
+            future = CACHE.get(imageName);
+            if (future == null) {
+                CACHE_MISSES.increment();
+                CompletableFuture<Image> cached = new CompletableFuture<>();
+                CACHE.put(imageName, cached);
+                CompletableFuture.supplyAsync(() -> loadImage(imageName), getLoader())
+                        .whenComplete((image, e) -> complete(imageName, cached, image, e));
+                future = cached;
+            }
+        }
+        return future;
+    }
+
+    /**
+     * Completes a cached load. A load that fails or finds no image is removed from the cache before its
+     * waiters are woken up, so every later request tries to load the image again.
+     * Only the given entry is removed, not a newer load of the same image.
+     * @param imageName The name of the image file.
+     * @param future    The cached load of the image.
+     * @param image     The loaded image, or null.
+     * @param failure   The exception the load failed with, or null.
+     */
+    private static void complete(String imageName, CompletableFuture<Image> future, Image image, Throwable failure) {
+        if (image == null) {
+            synchronized (CACHE) {
+                CACHE.remove(imageName, future);
+            }
+        }
+        if (failure != null)
+            future.completeExceptionally(failure);
+        else
+            future.complete(image);
+    }
 
-        if (imagePath == null) {
-            LOGGER.log(Level.SEVERE, "Image not found: " + imageName);
-            return null;
+    /**
+     * Removes an image from the cache, so the next request decodes it again.
+     * @param imageName The name of the image file.
+     */
+    public static void evict(String imageName) {
+        synchronized (CACHE) {
+            CACHE.remove(imageName);
         }
-        try {
+    }
+
+    /**
+     * Removes all images from the cache.
+     */
+    public static void evictAll() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    /**
+     * Decodes an image resource from the classpath.
+     * @param imageName The name of the image file.
+     * @return The image resource, or null if it cannot be loaded.
+     */
+    private static Image loadImage(String imageName) {
+        Image image = null;
+        try (InputStream imagePath = DownloadSave.class.getClassLoader().getResourceAsStream(imageName)) {
+            if (imagePath == null) {
+                LOGGER.log(Level.SEVERE, "Image not found: {0}", imageName);
+                return null;
+            }
             image = new Image(imagePath);
-            LOGGER.info("Successfully loaded image: " + imageName);
-        } catch (IllegalArgumentException e) {
+            LOGGER.info("Successfully loaded image: {0}", imageName);
+        } catch (IllegalArgumentException | IOException e) {
             LOGGER.log(Level.SEVERE, "Error loading image: " + imageName, e);
         }
         return image;
     }
+
+    /**
+     * Returns the number of requests served from the cache.
+     * @return The number of cache hits since startup.
+     */
+    public static long getCacheHits() {
+        return CACHE_HITS.sum();
+    }
+
+    /**
+     * Returns the number of requests that had to decode an image.
+     * @return The number of cache misses since startup.
+     */
+    public static long getCacheMisses() {
+        return CACHE_MISSES.sum();
+    }
+
+    private static synchronized ExecutorService getLoader() {
+        if (loader == null) {
+            int threads = Math.min(Runtime.getRuntime().availableProcessors(), HANGMAN_IMAGES.length + BACKGROUND_IMAGES.length);
+            loader = Executors.newFixedThreadPool(Math.max(threads, 1), runnable -> {
+                Thread thread = new Thread(runnable, "image-loader");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return loader;
+    }
 }
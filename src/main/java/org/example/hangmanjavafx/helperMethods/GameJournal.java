@@ -0,0 +1,249 @@
+package org.example.hangmanjavafx.helperMethods;
+
+import org.example.hangmanjavafx.engine.GameSession;
+import org.example.hangmanjavafx.engine.GameStatus;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.logging.Level;
+
+/**
+ * Append-only journal of finished games.
+ * Games are queued by {@link #append(int, GameSession)} and written by a background thread,
+ * which writes everything queued so far in one go and syncs the file once per batch.
+ * Records have a fixed size, so the statistics are computed by scanning the memory-mapped file
+ * without parsing or allocating per record.
+ * <p>
+ * File layout, little-endian:
+ * <pre>
+ * int magic "HGMJ" | int version | records
+ * record: long finishedAtMillis | int wordId | byte status | byte missCount | byte guessCount | byte wordLength
+ * </pre>
+ * The file is opened for appending only and locked while the journal is open, so a second game using
+ * the same file, in this or another process, fails to open it instead of overwriting records.
+ * A record torn by a crash is cut off when the journal is opened again.
+ */
+public class GameJournal implements Closeable {
+    static final int MAGIC = 0x4A4D4748; // "HGMJ" in little-endian
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 2 * Integer.BYTES;
+    public static final int RECORD_SIZE = 16;
+    private static final byte WON = 1, LOST = 2;
+    private static final int CAPACITY = 4096;
+    private static final int BATCH_SIZE = 256;
+    private static final Entry CLOSE = new Entry(0, 0, (byte) 0, 0, 0, 0);
+    private static final AsyncLogger LOGGER = AsyncLogger.getLogger(GameJournal.class.getName());
+    private final Path path;
+    private final FileChannel channel; // Opened with APPEND, every write goes to the end of the file
+    private final FileChannel readChannel;
+    private final BlockingQueue<Entry> queue = new ArrayBlockingQueue<>(CAPACITY);
+    private final Thread writer;
+    private volatile long committedSize;
+
+    /**
+     * Opens a journal file, creating it if it does not exist, and starts its writer thread.
+     * @param path The journal file.
+     * @throws IOException If the file cannot be opened, is not a journal file or is used by another journal.
+     */
+    public GameJournal(Path path) throws IOException {
+        this.path = path;
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        try {
+            readChannel = FileChannel.open(path, StandardOpenOption.READ);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        try {
+            lock();
+            committedSize = openFile();
+        } catch (IOException e) {
+            readChannel.close();
+            channel.close();
+            throw e;
+        }
+        writer = new Thread(this::drain, "game-journal");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Locks the whole file for this journal. The lock is released when the channel is closed.
+     * @throws IOException If another journal, in this or another process, holds the lock.
+     */
+    private void lock() throws IOException {
+        FileLock lock;
+        try {
+            lock = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            lock = null; // Held by another journal of this JVM
+        }
+        if (lock == null)
+            throw new IOException("Journal is used by another game: " + path);
+    }
+
+    /**
+     * Writes the header of a new file, or checks the header of an existing one and cuts off a torn record.
+     * @return The size of the file holding whole records.
+     */
+    private long openFile() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        long fileSize = channel.size();
+        if (fileSize == 0) {
+            header.putInt(MAGIC).putInt(VERSION).flip();
+            writeFully(header);
+            channel.force(false);
+            return HEADER_SIZE;
+        }
+
+        if (fileSize < HEADER_SIZE)
+            throw new IOException("Not a journal file: " + path);
+        readChannel.read(header, 0);
+        header.flip();
+        if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC || header.getInt() != VERSION)
+            throw new IOException("Not a journal file: " + path);
+
+        long size = fileSize - (fileSize - HEADER_SIZE) % RECORD_SIZE;
+        if (size != fileSize) {
+            LOGGER.log(Level.WARNING, "Cutting off a torn record of journal {0}", path);
+            channel.truncate(size);
+        }
+        return size;
+    }
+
+    /**
+     * Queues a finished game to be written. Blocks only if thousands of games are waiting to be written.
+     * @param wordId  The index of the hidden word in the dictionary.
+     * @param session The finished game session.
+     * @throws IllegalArgumentException If the session is not finished.
+     */
+    public void append(int wordId, GameSession session) {
+        if (!session.isFinished())
+            throw new IllegalArgumentException("Game is not finished");
+        Entry entry = new Entry(System.currentTimeMillis(), wordId, session.getStatus() == GameStatus.WON ? WON : LOST,
+                session.getMissCount(), session.getGuessCount(), session.getHiddenWord().length());
+        try {
+            queue.put(entry);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes queued games in batches, syncing the file once per batch.
+     */
+    private void drain() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BATCH_SIZE * RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        List<Entry> batch = new ArrayList<>(BATCH_SIZE);
+        boolean closed = false;
+        while (!closed) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch, BATCH_SIZE - 1);
+
+            buffer.clear();
+            for (Entry entry : batch) {
+                if (entry == CLOSE) {
+                    closed = true;
+                    continue;
+                }
+                buffer.putLong(entry.finishedAtMillis()).putInt(entry.wordId()).put(entry.status())
+                        .put((byte) entry.missCount()).put((byte) entry.guessCount()).put((byte) entry.wordLength());
+            }
+            batch.clear();
+            buffer.flip();
+            if (!buffer.hasRemaining())
+                continue;
+
+            try {
+                writeFully(buffer);
+                channel.force(false);
+                committedSize += buffer.limit();
+            } catch (IOException e) {
+                LOGGER.log(Level.SEVERE, "Error writing journal " + path, e);
+            }
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+    }
+
+    /**
+     * Aggregates the statistics of all games written so far by scanning the memory-mapped journal.
+     * @return The statistics.
+     * @throws IOException If the journal cannot be mapped.
+     */
+    public GameStatistics readStatistics() throws IOException {
+        long size = committedSize;
+        long games = 0, wins = 0, guesses = 0, misses = 0;
+        int streak = 0, bestStreak = 0;
+        // A single mapping is limited to 2 GB, so huge journals are scanned in chunks of whole records
+        long chunkSize = (Integer.MAX_VALUE / RECORD_SIZE) * (long) RECORD_SIZE;
+        for (long start = HEADER_SIZE; start < size; start += chunkSize) {
+            long length = Math.min(chunkSize, size - start);
+            MappedByteBuffer records = readChannel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            records.order(ByteOrder.LITTLE_ENDIAN);
+            for (int offset = 0; offset < length; offset += RECORD_SIZE) {
+                boolean won = records.get(offset + 12) == WON;
+                games++;
+                misses += records.get(offset + 13) & 0xFF;
+                guesses += records.get(offset + 14) & 0xFF;
+                if (won) {
+                    wins++;
+                    bestStreak = Math.max(bestStreak, ++streak);
+                } else
+                    streak = 0;
+            }
+        }
+        return new GameStatistics(games, wins, guesses, misses, streak, bestStreak);
+    }
+
+    /**
+     * Writes all queued games, stops the writer thread and closes the file.
+     * @throws IOException If the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            queue.put(CLOSE);
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            readChannel.close();
+            channel.close();
+        }
+    }
+
+    // Getters
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the number of games written to the file so far.
+     * @return The number of records.
+     */
+    public long getRecordCount() {
+        return (committedSize - HEADER_SIZE) / RECORD_SIZE;
+    }
+
+    private record Entry(long finishedAtMillis, int wordId, byte status, int missCount, int guessCount, int wordLength) {
+    }
+}
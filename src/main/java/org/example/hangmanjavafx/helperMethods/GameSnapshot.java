@@ -0,0 +1,118 @@
+package org.example.hangmanjavafx.helperMethods;
+
+import org.example.hangmanjavafx.dictionary.WordDictionary;
+import org.example.hangmanjavafx.engine.GameSession;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The state of an unfinished game, small enough to be written whenever the game is left.
+ * Only the word id, the guessed letters and the miss count are stored; the revealed positions
+ * follow from replaying the guessed letters against the word.
+ * <p>
+ * File layout, little-endian, {@value #SIZE} bytes:
+ * <pre>
+ * int magic "HGMS" | byte version | byte missCount | byte maxMiss | byte unused
+ * | int dictionarySize | int wordId | int wordHash | int guessedMask
+ * </pre>
+ * The dictionary size and the hash of the word detect a snapshot taken with another dictionary.
+ *
+ * @param dictionarySize The number of words in the dictionary the game was played with.
+ * @param wordId         The index of the hidden word in the dictionary.
+ * @param wordHash       The hash code of the hidden word.
+ * @param guessedMask    The 26-bit mask of guessed letters.
+ * @param missCount      The number of misses.
+ * @param maxMiss        The number of misses allowed.
+ */
+public record GameSnapshot(int dictionarySize, int wordId, int wordHash, int guessedMask, int missCount, int maxMiss) {
+    static final int MAGIC = 0x534D4748; // "HGMS" in little-endian
+    static final int VERSION = 1;
+    public static final int SIZE = 6 * Integer.BYTES;
+
+    /**
+     * Takes a snapshot of a game session.
+     * @param dictionary The dictionary the word was picked from.
+     * @param wordId     The index of the hidden word in the dictionary.
+     * @param session    The game session.
+     * @return The snapshot.
+     */
+    public static GameSnapshot of(WordDictionary dictionary, int wordId, GameSession session) {
+        return new GameSnapshot(dictionary.size(), wordId, session.getHiddenWord().hashCode(),
+                session.getGuessedMask(), session.getMissCount(), session.getMaxMiss());
+    }
+
+    /**
+     * Rebuilds the game session of this snapshot.
+     * @param dictionary The dictionary the game was played with.
+     * @return The restored session, or null if the snapshot does not belong to this dictionary.
+     */
+    public GameSession restore(WordDictionary dictionary) {
+        if (dictionarySize != dictionary.size() || wordId < 0 || wordId >= dictionarySize)
+            return null;
+        String word = dictionary.getWord(wordId);
+        if (word.hashCode() != wordHash)
+            return null;
+
+        GameSession session = new GameSession(word, maxMiss);
+        for (int letter = 0; letter < GameData.LETTERS.length(); letter++) {
+            if ((guessedMask & (1 << letter)) != 0)
+                session.guess(GameData.LETTERS.charAt(letter));
+        }
+        if (session.isFinished() || session.getMissCount() != missCount)
+            return null;
+        return session;
+    }
+
+    /**
+     * Writes the snapshot to a file. The file is replaced atomically, so a crash leaves
+     * either the old or the new snapshot behind.
+     * @param path The snapshot file.
+     * @throws IOException If the file cannot be written.
+     */
+    public void write(Path path) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC)
+                .put((byte) VERSION).put((byte) missCount).put((byte) maxMiss).put((byte) 0)
+                .putInt(dictionarySize).putInt(wordId).putInt(wordHash).putInt(guessedMask)
+                .flip();
+
+        Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+            channel.force(false);
+        }
+        Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads a snapshot file.
+     * @param path The snapshot file.
+     * @return The snapshot, or null if the file does not exist.
+     * @throws IOException If the file cannot be read or is not a snapshot file.
+     */
+    public static GameSnapshot read(Path path) throws IOException {
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(path);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        if (bytes.length != SIZE || buffer.getInt() != MAGIC || buffer.get() != VERSION)
+            throw new IOException("Not a snapshot file: " + path);
+
+        int missCount = buffer.get();
+        int maxMiss = buffer.get();
+        buffer.get();
+        return new GameSnapshot(buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt(), missCount, maxMiss);
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.hangmanjavafx.helperMethods;
+
+/**
+ * Aggregated results of all finished games.
+ *
+ * @param games         The number of finished games.
+ * @param wins          The number of won games.
+ * @param guesses       The total number of guesses.
+ * @param misses        The total number of misses.
+ * @param currentStreak The number of games won in a row up to the last game.
+ * @param bestStreak    The longest run of games won in a row.
+ */
+public record GameStatistics(long games, long wins, long guesses, long misses, int currentStreak, int bestStreak) {
+    public static final GameStatistics EMPTY = new GameStatistics(0, 0, 0, 0, 0, 0);
+
+    /**
+     * Adds the result of one more game.
+     * @param won        true if the game was won.
+     * @param guessCount The number of guesses made in the game.
+     * @param missCount  The number of misses made in the game.
+     * @return The statistics including the game.
+     */
+    public GameStatistics add(boolean won, int guessCount, int missCount) {
+        int streak = won ? currentStreak + 1 : 0;
+        return new GameStatistics(games + 1, won ? wins + 1 : wins, guesses + guessCount, misses + missCount,
+                streak, Math.max(bestStreak, streak));
+    }
+
+    public long losses() {
+        return games - wins;
+    }
+
+    /**
+     * Returns the share of games won.
+     * @return The win rate from 0 to 1, or 0 if no game was played.
+     */
+    public double winRate() {
+        return games == 0 ? 0 : (double) wins / games;
+    }
+}
@@ -0,0 +1,186 @@
+package org.example.hangmanjavafx.helperMethods;
+
+import org.example.hangmanjavafx.dictionary.WordDictionary;
+import org.example.hangmanjavafx.engine.GameSession;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the game in progress and the results of finished games between runs.
+ * The unfinished game is kept as a {@link GameSnapshot} and finished games are appended to a {@link GameJournal}.
+ * Snapshots are written by a background thread; when several are saved faster than they are written,
+ * only the newest one is written.
+ * The statistics are aggregated from the journal once when the store is opened and updated in memory
+ * with every game recorded after that.
+ * If a file cannot be used, the error is logged and the game goes on without that part of the store.
+ */
+public class GameStore implements Closeable {
+    static final String SNAPSHOT_FILE = "session.bin";
+    static final String JOURNAL_FILE = "journal.bin";
+    private static final AsyncLogger LOGGER = AsyncLogger.getLogger(GameStore.class.getName());
+    private static final GameSnapshot NO_GAME = new GameSnapshot(0, 0, 0, 0, 0, 0);
+    private final Path directory;
+    private final Path snapshotPath;
+    private final GameJournal journal;
+    private final AtomicReference<GameSnapshot> pendingSnapshot = new AtomicReference<>();
+    // One thread that ends when idle, so a store that is never closed does not keep a thread
+    private final ThreadPoolExecutor snapshotWriter = new ThreadPoolExecutor(1, 1, 1, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "game-store");
+                thread.setDaemon(true);
+                return thread;
+            });
+    private GameSnapshot savedGame;
+    private volatile GameStatistics statistics = GameStatistics.EMPTY;
+
+    /**
+     * Opens the store in a directory, creating the directory if needed.
+     * Reads the saved game and aggregates the statistics of the journal.
+     * @param directory The directory holding the store files.
+     */
+    public GameStore(Path directory) {
+        this.directory = directory;
+        snapshotPath = directory.resolve(SNAPSHOT_FILE);
+        snapshotWriter.allowCoreThreadTimeOut(true);
+        journal = openJournal(directory);
+        try {
+            savedGame = GameSnapshot.read(snapshotPath);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Error reading saved game " + snapshotPath, e);
+        }
+    }
+
+    /**
+     * Opens the journal and aggregates its statistics.
+     * @return The journal, or null if it cannot be opened.
+     */
+    private GameJournal openJournal(Path directory) {
+        Path journalPath = directory.resolve(JOURNAL_FILE);
+        try {
+            Files.createDirectories(directory);
+            GameJournal gameJournal = new GameJournal(journalPath);
+            long startTime = System.nanoTime();
+            statistics = gameJournal.readStatistics();
+            LOGGER.info("Loaded statistics of {0} games in {1} ms", statistics.games(), (System.nanoTime() - startTime) / 1_000_000);
+            return gameJournal;
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Error opening journal " + journalPath, e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the game saved by the last run, only once.
+     * @return The saved game, or null if there is none or it was taken already.
+     */
+    public synchronized GameSnapshot takeSavedGame() {
+        GameSnapshot game = savedGame;
+        savedGame = null;
+        return game;
+    }
+
+    /**
+     * Saves an unfinished game in the background, or removes the saved game if the session is finished
+     * or has no guesses yet. Called after every guess, so a crash loses at most the last guess.
+     * @param dictionary The dictionary the word was picked from.
+     * @param wordId     The index of the hidden word in the dictionary.
+     * @param session    The game session.
+     */
+    public void saveGameLater(WordDictionary dictionary, int wordId, GameSession session) {
+        GameSnapshot snapshot = session.isFinished() || session.getGuessCount() == 0
+                ? NO_GAME : GameSnapshot.of(dictionary, wordId, session);
+        // A write task is queued already if a snapshot is pending; it will write this one instead
+        if (pendingSnapshot.getAndSet(snapshot) == null)
+            snapshotWriter.execute(this::writePendingSnapshot);
+    }
+
+    /**
+     * Saves a game like {@link #saveGameLater(WordDictionary, int, GameSession)} and waits until it is written.
+     * @param dictionary The dictionary the word was picked from.
+     * @param wordId     The index of the hidden word in the dictionary.
+     * @param session    The game session.
+     */
+    public void saveGame(WordDictionary dictionary, int wordId, GameSession session) {
+        saveGameLater(dictionary, wordId, session);
+        try {
+            // The writer runs its tasks in order, so the snapshot is written once this task has run
+            snapshotWriter.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOGGER.log(Level.SEVERE, "Error saving game " + snapshotPath, e.getCause());
+        }
+    }
+
+    private void writePendingSnapshot() {
+        GameSnapshot snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null)
+            return;
+        try {
+            if (snapshot == NO_GAME)
+                Files.deleteIfExists(snapshotPath);
+            else
+                snapshot.write(snapshotPath);
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Error saving game " + snapshotPath, e);
+        }
+    }
+
+    /**
+     * Records a finished game in the journal and the statistics.
+     * @param wordId  The index of the hidden word in the dictionary.
+     * @param session The finished game session.
+     */
+    public synchronized void recordFinishedGame(int wordId, GameSession session) {
+        if (journal != null)
+            journal.append(wordId, session);
+        statistics = statistics.add(session.isWordGuessed(), session.getGuessCount(), session.getMissCount());
+    }
+
+    /**
+     * Writes the pending snapshot and the games still queued for the journal, and closes the journal.
+     * @throws IOException If the journal cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        snapshotWriter.shutdown();
+        try {
+            snapshotWriter.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (journal != null)
+            journal.close();
+    }
+
+    /**
+     * Closes the store and deletes its directory with all files in it.
+     * Meant for stores in a temporary directory, e.g. of headless runs, which must not leave files behind.
+     * @throws IOException If the journal cannot be closed or a file cannot be deleted.
+     */
+    public void delete() throws IOException {
+        close();
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(directory)) {
+            files = walk.sorted(Comparator.reverseOrder()).toList();
+        }
+        for (Path file : files)
+            Files.delete(file);
+    }
+
+    // Getters
+    public GameStatistics getStatistics() {
+        return statistics;
+    }
+}
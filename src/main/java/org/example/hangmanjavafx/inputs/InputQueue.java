@@ -0,0 +1,155 @@
+package org.example.hangmanjavafx.inputs;
+
+import org.example.hangmanjavafx.main.SceneRegistry;
+import org.example.hangmanjavafx.replay.ReplayRecorder;
+import java.util.Arrays;
+
+/**
+ * Buffers input events between pulses and delivers them to the active scene once per frame.
+ * Mouse moves are coalesced to the latest position, so a high-polling mouse costs one hover
+ * update per frame. Clicks and key presses are delivered in the order they arrived, each
+ * after the last mouse move that came before it.
+ * Delivered events can be recorded with a {@link ReplayRecorder}, one recorder frame per dispatch.
+ * Must only be used from the JavaFX application thread.
+ */
+public class InputQueue {
+    private static final int MOVE = 0, CLICK = 1, KEY = 2;
+    private final SceneRegistry sceneRegistry;
+    private int[] types = new int[16];
+    private int[] xs = new int[16];
+    private int[] ys = new int[16];
+    private int size = 0;
+    private boolean movePending = false;
+    private int moveX, moveY;
+    // Written by the application thread only, volatile so the metrics can read them from any thread
+    private volatile long eventsReceived = 0;
+    private volatile long eventsApplied = 0;
+    private volatile long movesReceived = 0;
+    private volatile long movesApplied = 0;
+    private ReplayRecorder recorder;
+
+    /**
+     * Creates an empty queue delivering to the active scene of the given registry.
+     * @param sceneRegistry The scene registry of the game.
+     */
+    public InputQueue(SceneRegistry sceneRegistry) {
+        this.sceneRegistry = sceneRegistry;
+    }
+
+    /**
+     * Records a mouse move, replacing any move not delivered yet.
+     * @param x The x-coordinate of the mouse.
+     * @param y The y-coordinate of the mouse.
+     */
+    public void mouseMoved(int x, int y) {
+        eventsReceived++;
+        movesReceived++;
+        movePending = true;
+        moveX = x;
+        moveY = y;
+    }
+
+    /**
+     * Queues a click of the primary mouse button.
+     * @param x The x-coordinate of the mouse click.
+     * @param y The y-coordinate of the mouse click.
+     */
+    public void mouseClicked(int x, int y) {
+        eventsReceived++;
+        enqueuePendingMove();
+        add(CLICK, x, y);
+    }
+
+    /**
+     * Queues a key press.
+     * @param key The character of the pressed key.
+     */
+    public void keyPressed(char key) {
+        eventsReceived++;
+        enqueuePendingMove();
+        add(KEY, key, 0);
+    }
+
+    /**
+     * Delivers all queued events to the active scene, then the latest mouse move.
+     */
+    public void dispatch() {
+        if (recorder != null)
+            recorder.beginFrame();
+        for (int i = 0; i < size; i++) {
+            if (types[i] == MOVE)
+                deliverMouseMoved(xs[i], ys[i]);
+            else if (types[i] == CLICK) {
+                if (recorder != null)
+                    recorder.recordMouseClicked(xs[i], ys[i]);
+                sceneRegistry.getActiveScene().mouseClicked(xs[i], ys[i]);
+            } else {
+                if (recorder != null)
+                    recorder.recordKeyPressed((char) xs[i]);
+                sceneRegistry.getActiveScene().keyPressed((char) xs[i]);
+            }
+            eventsApplied++;
+        }
+        size = 0;
+
+        if (movePending) {
+            movePending = false;
+            deliverMouseMoved(moveX, moveY);
+            eventsApplied++;
+        }
+    }
+
+    private void deliverMouseMoved(int x, int y) {
+        if (recorder != null)
+            recorder.recordMouseMoved(x, y);
+        sceneRegistry.getActiveScene().mouseMoved(x, y);
+        movesApplied++;
+    }
+
+    /**
+     * Keeps the order of a move that came before a click or key press.
+     */
+    private void enqueuePendingMove() {
+        if (movePending) {
+            movePending = false;
+            add(MOVE, moveX, moveY);
+        }
+    }
+
+    private void add(int type, int x, int y) {
+        if (size == types.length) {
+            types = Arrays.copyOf(types, size * 2);
+            xs = Arrays.copyOf(xs, size * 2);
+            ys = Arrays.copyOf(ys, size * 2);
+        }
+        types[size] = type;
+        xs[size] = x;
+        ys[size] = y;
+        size++;
+    }
+
+    /**
+     * Sets the recorder delivered events are written to.
+     * @param recorder The recorder, or null to stop recording.
+     */
+    public void setRecorder(ReplayRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    // Getters
+    public long getEventsReceived() {
+        return eventsReceived;
+    }
+
+    public long getEventsApplied() {
+        return eventsApplied;
+    }
+
+    public long getMovesReceived() {
+        return movesReceived;
+    }
+
+    public long getMovesApplied() {
+        return movesApplied;
+    }
+}
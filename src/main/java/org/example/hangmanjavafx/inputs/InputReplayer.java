@@ -0,0 +1,146 @@
+package org.example.hangmanjavafx.inputs;
+
+import javafx.animation.AnimationTimer;
+import org.example.hangmanjavafx.main.FrameTimeHistogram;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.logging.Logger;
+
+/**
+ * Replays a script of input events through the game's {@link InputQueue} and measures
+ * the latency from injecting an event to the end of the first frame painted after it.
+ * <p>
+ * Script format, one event per line, '#' starts a comment:
+ * <pre>
+ * move X Y     mouse moved to (X, Y)
+ * click X Y    primary button clicked at (X, Y)
+ * key C        key with character C pressed
+ * wait MILLIS  pause before the next event
+ * </pre>
+ * Events are injected at most one per pulse, so each one can be matched with its frame.
+ */
+public class InputReplayer extends AnimationTimer {
+    private final List<ScriptedInput> script;
+    private final InputQueue inputQueue;
+    private final FrameTimeHistogram latencies = new FrameTimeHistogram();
+    private int nextEvent = 0;
+    private long nextEventTime = 0;
+    private long pendingInjection = 0;
+    private int eventsWithoutFrame = 0;
+    private static final Logger LOGGER = Logger.getLogger(InputReplayer.class.getName());
+
+    /**
+     * Creates a replayer for a parsed script.
+     * @param script     The events to replay.
+     * @param inputQueue The queue the events are delivered to.
+     */
+    public InputReplayer(List<ScriptedInput> script, InputQueue inputQueue) {
+        this.script = List.copyOf(script);
+        this.inputQueue = inputQueue;
+    }
+
+    /**
+     * Reads a script file.
+     * @param path The script file.
+     * @return The events of the script.
+     * @throws IOException If the file cannot be read or a line is not a valid event.
+     */
+    public static List<ScriptedInput> readScript(Path path) throws IOException {
+        List<ScriptedInput> script = new ArrayList<>();
+        long delay = 0;
+        int lineNumber = 0;
+        for (String line : Files.readAllLines(path)) {
+            lineNumber++;
+            int comment = line.indexOf('#');
+            String[] parts = (comment >= 0 ? line.substring(0, comment) : line).trim().split("\\s+");
+            if (parts[0].isEmpty())
+                continue;
+            try {
+                switch (parts[0].toLowerCase(Locale.ROOT)) {
+                    case "wait" -> delay += Long.parseLong(parts[1]);
+                    case "move" -> script.add(new ScriptedInput(ScriptedInput.Type.MOVE,
+                            Integer.parseInt(parts[1]), Integer.parseInt(parts[2]), (char) 0, delay));
+                    case "click" -> script.add(new ScriptedInput(ScriptedInput.Type.CLICK,
+                            Integer.parseInt(parts[1]), Integer.parseInt(parts[2]), (char) 0, delay));
+                    case "key" -> script.add(new ScriptedInput(ScriptedInput.Type.KEY, 0, 0, parts[1].charAt(0), delay));
+                    default -> throw new IOException("Unknown event on line " + lineNumber + ": " + line);
+                }
+            } catch (IndexOutOfBoundsException | NumberFormatException e) {
+                throw new IOException("Invalid event on line " + lineNumber + ": " + line, e);
+            }
+            if (!parts[0].equalsIgnoreCase("wait"))
+                delay = 0;
+        }
+        return script;
+    }
+
+    @Override
+    public void handle(long now) {
+        if (nextEvent == script.size()) {
+            if (pendingInjection == 0) {
+                logResults();
+                stop();
+            }
+            return;
+        }
+        if (nextEventTime == 0)
+            nextEventTime = now + script.get(nextEvent).delayMillis() * 1_000_000L;
+        if (now < nextEventTime)
+            return;
+
+        if (pendingInjection != 0)
+            eventsWithoutFrame++;
+        pendingInjection = System.nanoTime();
+        inject(script.get(nextEvent++));
+        nextEventTime = 0;
+    }
+
+    /**
+     * Called by the game loop after a frame was painted.
+     * @param frameEnd The time the frame was finished, from System.nanoTime().
+     */
+    public void onFramePainted(long frameEnd) {
+        if (pendingInjection != 0) {
+            latencies.record(frameEnd - pendingInjection);
+            pendingInjection = 0;
+        }
+    }
+
+    private void inject(ScriptedInput input) {
+        switch (input.type()) {
+            case MOVE -> inputQueue.mouseMoved(input.x(), input.y());
+            case CLICK -> inputQueue.mouseClicked(input.x(), input.y());
+            case KEY -> inputQueue.keyPressed(input.key());
+        }
+    }
+
+    private void logResults() {
+        LOGGER.info(String.format(Locale.ROOT,
+                "Replayed %d events | Input-to-frame p50/p99/max: %.3f/%.3f/%.3f ms | Events without a frame: %d",
+                script.size(), latencies.getP50() / 1_000_000.0, latencies.getP99() / 1_000_000.0,
+                latencies.getMax() / 1_000_000.0, eventsWithoutFrame));
+    }
+
+    // Getters
+    public FrameTimeHistogram getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * One event of an input script.
+     * @param type        The kind of event.
+     * @param x           The x-coordinate of a mouse event.
+     * @param y           The y-coordinate of a mouse event.
+     * @param key         The character of a key event.
+     * @param delayMillis The pause before the event.
+     */
+    public record ScriptedInput(Type type, int x, int y, char key, long delayMillis) {
+        public enum Type {
+            MOVE, CLICK, KEY
+        }
+    }
+}
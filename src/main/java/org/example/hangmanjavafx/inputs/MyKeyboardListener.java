@@ -0,0 +1,32 @@
+package org.example.hangmanjavafx.inputs;
+
+import javafx.event.EventHandler;
+import javafx.scene.input.KeyEvent;
+import org.example.hangmanjavafx.Hangman;
+
+/**
+ * EventHandler implementation for handling keyboard input in the Hangman game.
+ * It queues key presses in the {@link InputQueue} of the game, which delivers them to the active scene once per frame.
+ */
+public class MyKeyboardListener implements EventHandler<KeyEvent> {
+    private final Hangman hangman;
+
+    /**
+     * Constructs a MyKeyboardListener object with the specified Hangman game.
+     * @param hangman the Hangman game to delegate key events to
+     */
+    public MyKeyboardListener(Hangman hangman) {
+        this.hangman = hangman;
+    }
+
+    /**
+     * Handles key pressed events. Only keys that produce a single character are delegated.
+     * @param event The KeyEvent to handle.
+     */
+    @Override
+    public void handle(KeyEvent event) {
+        String keyChar = event.getCode().getChar();
+        if (keyChar.length() == 1)
+            hangman.getInputQueue().keyPressed(keyChar.charAt(0));
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.hangmanjavafx.main;
+
+/**
+ * Tracks the parts of the canvas that changed since the last frame.
+ * Scenes and buttons mark regions dirty when their look changes, and {@link Render}
+ * repaints only those regions instead of the whole canvas on every pulse.
+ * Must only be used from the JavaFX application thread.
+ */
+public class DirtyRegions {
+    private static final int MAX_REGIONS = 8;
+    private final int[] xs = new int[MAX_REGIONS];
+    private final int[] ys = new int[MAX_REGIONS];
+    private final int[] widths = new int[MAX_REGIONS];
+    private final int[] heights = new int[MAX_REGIONS];
+    private int regionCount = 0;
+    private boolean fullRepaint = true;
+
+    /**
+     * Marks a rectangle of the canvas as changed.
+     * When more regions are marked than can be tracked, they are merged into their bounding box.
+     * @param x      The x-coordinate of the region.
+     * @param y      The y-coordinate of the region.
+     * @param width  The width of the region.
+     * @param height The height of the region.
+     */
+    public void markDirty(int x, int y, int width, int height) {
+        if (fullRepaint || width <= 0 || height <= 0)
+            return;
+        if (regionCount == MAX_REGIONS) {
+            mergeAll();
+        }
+        xs[regionCount] = x;
+        ys[regionCount] = y;
+        widths[regionCount] = width;
+        heights[regionCount] = height;
+        regionCount++;
+    }
+
+    /**
+     * Marks the whole canvas as changed, e.g. after a scene switch.
+     */
+    public void markAllDirty() {
+        fullRepaint = true;
+        regionCount = 0;
+    }
+
+    /**
+     * Forgets all changes after a frame has been painted.
+     */
+    public void clear() {
+        fullRepaint = false;
+        regionCount = 0;
+    }
+
+    /**
+     * Merges all tracked regions into a single bounding box.
+     */
+    private void mergeAll() {
+        int minX = xs[0], minY = ys[0];
+        int maxX = xs[0] + widths[0], maxY = ys[0] + heights[0];
+        for (int i = 1; i < regionCount; i++) {
+            minX = Math.min(minX, xs[i]);
+            minY = Math.min(minY, ys[i]);
+            maxX = Math.max(maxX, xs[i] + widths[i]);
+            maxY = Math.max(maxY, ys[i] + heights[i]);
+        }
+        xs[0] = minX;
+        ys[0] = minY;
+        widths[0] = maxX - minX;
+        heights[0] = maxY - minY;
+        regionCount = 1;
+    }
+
+    // Getters
+    public boolean isDirty() {
+        return fullRepaint || regionCount > 0;
+    }
+
+    public boolean isFullRepaint() {
+        return fullRepaint;
+    }
+
+    public int getRegionCount() {
+        return regionCount;
+    }
+
+    public int getX(int index) {
+        return xs[index];
+    }
+
+    public int getY(int index) {
+        return ys[index];
+    }
+
+    public int getWidth(int index) {
+        return widths[index];
+    }
+
+    public int getHeight(int index) {
+        return heights[index];
+    }
+}
@@ -0,0 +1,183 @@
+package org.example.hangmanjavafx.main;
+
+import javafx.animation.AnimationTimer;
+import org.example.hangmanjavafx.Hangman;
+import org.example.hangmanjavafx.graphics.DrawingSurface;
+import org.example.hangmanjavafx.helperMethods.AsyncLogger;
+import java.util.function.LongConsumer;
+
+/**
+ * Fixed-timestep game loop driven by the JavaFX pulse.
+ * Updates run at the target UPS, catching up at most a limited number of steps per pulse,
+ * and frames are painted at most at the target FPS.
+ * Render and update durations are recorded in {@link FrameTimeHistogram}s that start over every second.
+ */
+public class GameLoop extends AnimationTimer {
+    private static final long ONE_SECOND = 1_000_000_000L;
+    private static final long FRAME_TOLERANCE = 1_000_000L;
+    private final Hangman hangman;
+    private final Render render;
+    private final DrawingSurface surface;
+    // The histograms of the current second, and those of the last second that the metrics read until the next swap
+    private FrameTimeHistogram renderTimes = new FrameTimeHistogram();
+    private FrameTimeHistogram updateTimes = new FrameTimeHistogram();
+    private FrameTimeHistogram lastRenderTimes = new FrameTimeHistogram();
+    private FrameTimeHistogram lastUpdateTimes = new FrameTimeHistogram();
+    private long timePerFrame;
+    private long timePerUpdate;
+    private int maxUpdatesPerFrame = 5;
+    private long nextFrame;
+    private long nextUpdate;
+    private long lastSecondTime;
+    private int frames = 0;
+    private int skippedFrames = 0;
+    private int droppedUpdates = 0;
+    private LongConsumer frameListener;
+    private static final AsyncLogger LOGGER = AsyncLogger.getLogger(GameLoop.class.getName());
+
+    /**
+     * Creates a loop running at 60 FPS and 60 UPS.
+     * @param hangman The Hangman instance to update.
+     * @param render  The renderer used to paint frames.
+     * @param surface The surface frames are painted on.
+     */
+    public GameLoop(Hangman hangman, Render render, DrawingSurface surface) {
+        this.hangman = hangman;
+        this.render = render;
+        this.surface = surface;
+        setTargetFps(60);
+        setTargetUps(60);
+    }
+
+    @Override
+    public void start() {
+        nextFrame = nextUpdate = lastSecondTime = System.nanoTime();
+        super.start();
+    }
+
+    @Override
+    public void handle(long currentTime) {
+        long now = System.nanoTime();
+
+        hangman.getInputQueue().dispatch();
+        update(now);
+
+        // Render
+        if (now >= nextFrame - FRAME_TOLERANCE) {
+            long start = System.nanoTime();
+            if (render.render(surface)) {
+                long end = System.nanoTime();
+                renderTimes.record(end - start);
+                frames++;
+                if (frameListener != null)
+                    frameListener.accept(end);
+            } else
+                skippedFrames++;
+            nextFrame = Math.max(nextFrame + timePerFrame, now - FRAME_TOLERANCE);
+        }
+
+        if (now - lastSecondTime >= ONE_SECOND) {
+            logStatistics();
+            lastSecondTime = now;
+        }
+    }
+
+    /**
+     * Runs as many fixed update steps as are due, but no more than the catch-up limit.
+     * When the loop falls further behind, the remaining steps are dropped.
+     * @param now The current time in nanoseconds.
+     */
+    private void update(long now) {
+        int updates = 0;
+        while (now >= nextUpdate && updates < maxUpdatesPerFrame) {
+            long start = System.nanoTime();
+            hangman.update();
+            updateTimes.record(System.nanoTime() - start);
+            updates++;
+            nextUpdate = timePerUpdate == 0 ? now + 1 : nextUpdate + timePerUpdate;
+        }
+        if (now >= nextUpdate) {
+            droppedUpdates += (int) ((now - nextUpdate) / Math.max(timePerUpdate, 1)) + 1;
+            nextUpdate = now + timePerUpdate;
+        }
+    }
+
+    private void logStatistics() {
+        hangman.getMetrics().frameStatistics(frames, hangman.getGameWindow().getUpdates(), skippedFrames, renderTimes, updateTimes);
+        LOGGER.info("FPS: {0} | Skipped: {1} | UPS: {2} | Dropped updates: {3}"
+                        + " | Render p50/p99/max: {4,number,0.000}/{5,number,0.000}/{6,number,0.000} ms"
+                        + " | Update p50/p99/max: {7,number,0.000}/{8,number,0.000}/{9,number,0.000} ms"
+                        + " | Dropped log messages: {10}",
+                frames, skippedFrames, hangman.getGameWindow().getUpdates(), droppedUpdates,
+                toMillis(renderTimes.getP50()), toMillis(renderTimes.getP99()), toMillis(renderTimes.getMax()),
+                toMillis(updateTimes.getP50()), toMillis(updateTimes.getP99()), toMillis(updateTimes.getMax()),
+                AsyncLogger.getDroppedCount());
+        frames = 0;
+        skippedFrames = 0;
+        droppedUpdates = 0;
+        hangman.getGameWindow().resetUpdates();
+
+        // Record the next second into the histograms of the second before, which the metrics no longer read
+        FrameTimeHistogram finished = renderTimes;
+        renderTimes = lastRenderTimes;
+        renderTimes.reset();
+        lastRenderTimes = finished;
+        finished = updateTimes;
+        updateTimes = lastUpdateTimes;
+        updateTimes.reset();
+        lastUpdateTimes = finished;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    // Getters and setters
+    /**
+     * Returns the render times of the current second.
+     * @return The histogram, reset when the second is over.
+     */
+    public FrameTimeHistogram getRenderTimes() {
+        return renderTimes;
+    }
+
+    /**
+     * Returns the update times of the current second.
+     * @return The histogram, reset when the second is over.
+     */
+    public FrameTimeHistogram getUpdateTimes() {
+        return updateTimes;
+    }
+
+    /**
+     * Sets a listener called after every painted frame with the time the frame was finished.
+     * @param frameListener The listener, or null to remove it.
+     */
+    public void setFrameListener(LongConsumer frameListener) {
+        this.frameListener = frameListener;
+    }
+
+    /**
+     * Sets the maximum number of frames painted per second.
+     * @param targetFps The frame rate cap, or 0 to paint on every pulse.
+     */
+    public void setTargetFps(int targetFps) {
+        timePerFrame = targetFps <= 0 ? 0 : ONE_SECOND / targetFps;
+    }
+
+    /**
+     * Sets the number of fixed update steps per second.
+     * @param targetUps The update rate, or 0 to update once per pulse.
+     */
+    public void setTargetUps(int targetUps) {
+        timePerUpdate = targetUps <= 0 ? 0 : ONE_SECOND / targetUps;
+    }
+
+    /**
+     * Sets how many update steps may run in a single pulse to catch up after a slow frame.
+     * @param maxUpdatesPerFrame The catch-up limit, at least 1.
+     */
+    public void setMaxUpdatesPerFrame(int maxUpdatesPerFrame) {
+        this.maxUpdatesPerFrame = Math.max(maxUpdatesPerFrame, 1);
+    }
+}
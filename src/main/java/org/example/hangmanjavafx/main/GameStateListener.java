@@ -0,0 +1,14 @@
+package org.example.hangmanjavafx.main;
+
+/**
+ * Listener notified when a {@link GameStateMachine} moves from one state to another.
+ */
+@FunctionalInterface
+public interface GameStateListener {
+    /**
+     * Called after the state has changed, on the thread that changed it.
+     * @param from The previous state.
+     * @param to   The new state.
+     */
+    void onStateChanged(GameStates from, GameStates to);
+}
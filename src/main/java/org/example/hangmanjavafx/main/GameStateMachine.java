@@ -0,0 +1,82 @@
+package org.example.hangmanjavafx.main;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the current state of one game and notifies listeners about transitions.
+ * Every game window or headless game owns its own instance, so games do not share state.
+ * The state is published through an atomic reference and can be read and changed from any thread.
+ */
+public class GameStateMachine {
+    private final AtomicReference<GameStates> gameState;
+    private final List<GameStateListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a state machine that starts in the MENU state.
+     */
+    public GameStateMachine() {
+        this(GameStates.MENU);
+    }
+
+    /**
+     * Creates a state machine that starts in the given state.
+     * @param initialState The state to start in.
+     */
+    public GameStateMachine(GameStates initialState) {
+        if (initialState == null)
+            throw new IllegalArgumentException("Initial state must not be null");
+        this.gameState = new AtomicReference<>(initialState);
+    }
+
+    /**
+     * Moves to the given state and notifies listeners if the state changed.
+     * @param newState The new state.
+     */
+    public void setGameState(GameStates newState) {
+        if (newState == null)
+            throw new IllegalArgumentException("Game state must not be null");
+        GameStates oldState = gameState.getAndSet(newState);
+        if (oldState != newState)
+            fireStateChanged(oldState, newState);
+    }
+
+    /**
+     * Moves to the given state only if the current state is the expected one.
+     * @param expectedState The state the machine must be in.
+     * @param newState      The new state.
+     * @return true if the transition happened.
+     */
+    public boolean compareAndSetGameState(GameStates expectedState, GameStates newState) {
+        if (newState == null)
+            throw new IllegalArgumentException("Game state must not be null");
+        if (!gameState.compareAndSet(expectedState, newState))
+            return false;
+        if (expectedState != newState)
+            fireStateChanged(expectedState, newState);
+        return true;
+    }
+
+    private void fireStateChanged(GameStates from, GameStates to) {
+        for (GameStateListener listener : listeners)
+            listener.onStateChanged(from, to);
+    }
+
+    public void addListener(GameStateListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(GameStateListener listener) {
+        listeners.remove(listener);
+    }
+
+    // Getters
+    public GameStates getGameState() {
+        return gameState.get();
+    }
+
+    public boolean isIn(GameStates state) {
+        return gameState.get() == state;
+    }
+}
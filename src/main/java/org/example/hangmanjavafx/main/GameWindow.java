@@ -1,17 +1,19 @@
 package org.example.hangmanjavafx.main;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Represents the game window with its dimensions and update count.
  */
 public class GameWindow {
-    private int updates = 0;
+    private final AtomicInteger updates = new AtomicInteger();
 
     public void update() {
-        updates++;
+        updates.incrementAndGet();
     }
 
     public void resetUpdates() {
-        updates = 0;
+        updates.set(0);
     }
 
     //    Getters
@@ -24,6 +26,6 @@ public class GameWindow {
     }
 
     public int getUpdates() {
-        return updates;
+        return updates.get();
     }
 }
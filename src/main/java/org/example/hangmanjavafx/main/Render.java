@@ -1,31 +1,64 @@
 package org.example.hangmanjavafx.main;
 
-import javafx.scene.canvas.GraphicsContext;
 import org.example.hangmanjavafx.Hangman;
-import static org.example.hangmanjavafx.main.GameStates.*;
+import org.example.hangmanjavafx.graphics.DrawingSurface;
 
 /**
  * Handles rendering based on the current game state.
+ * In on-demand mode only the regions marked in {@link DirtyRegions} are repainted,
+ * and nothing is drawn at all when nothing has changed.
+ * Frames are painted on a {@link DrawingSurface}, so the same scenes can be drawn on the canvas or off-screen.
  */
 public class Render {
     private final Hangman hangman;
+    private boolean onDemand = true;
 
     public Render(Hangman hangman) {
         this.hangman = hangman;
+        hangman.getGameStateMachine().addListener((from, to) -> hangman.getDirtyRegions().markAllDirty());
     }
 
     /**
-     * Renders the game based on the current game state.
-     * @param gc The GraphicsContext used for rendering.
+     * Renders the game if anything has changed since the last frame.
+     * @param surface The surface the frame is painted on.
+     * @return true if a frame was painted, false if it was skipped.
      */
-    public void render(GraphicsContext gc) {
-        if (GameStates.gameState == MENU)
-            hangman.getMenu().render(gc);
-        if (GameStates.gameState == PLAYING)
-            hangman.getPlaying().render(gc);
-        if (GameStates.gameState == GAME_OVER)
-            hangman.getGameOver().render(gc);
-        if (GameStates.gameState == GAME_WON)
-            hangman.getGameWon().render(gc);
+    public boolean render(DrawingSurface surface) {
+        DirtyRegions dirtyRegions = hangman.getDirtyRegions();
+
+        if (!onDemand || dirtyRegions.isFullRepaint()) {
+            renderScene(surface);
+        } else if (dirtyRegions.isDirty()) {
+            surface.clip(dirtyRegions);
+            renderScene(surface);
+            surface.resetClip();
+        } else {
+            return false;
+        }
+
+        dirtyRegions.clear();
+        return true;
+    }
+
+    /**
+     * Renders the scene of the current game state.
+     * @param surface The surface the frame is painted on.
+     */
+    private void renderScene(DrawingSurface surface) {
+        hangman.getSceneRegistry().getActiveScene().render(surface);
+    }
+
+    // Getters and setters
+    public boolean isOnDemand() {
+        return onDemand;
+    }
+
+    /**
+     * Switches between on-demand rendering and repainting the whole canvas on every frame.
+     * @param onDemand true to repaint only dirty regions.
+     */
+    public void setOnDemand(boolean onDemand) {
+        this.onDemand = onDemand;
+        hangman.getDirtyRegions().markAllDirty();
     }
 }
@@ -0,0 +1,96 @@
+package org.example.hangmanjavafx.main;
+
+import org.example.hangmanjavafx.scenes.SceneMethods;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Maps every game state to its scene; created scenes are indexed by the ordinal of the state.
+ * Scenes are created the first time they are needed, and the active scene is kept
+ * up to date from the transitions of the {@link GameStateMachine}, calling
+ * {@link SceneMethods#onExit()} and {@link SceneMethods#onEnter()} on the way.
+ * Dispatching an event to the active scene is a single field read.
+ * Must only be used from the JavaFX application thread.
+ */
+public class SceneRegistry {
+    private final GameStateMachine gameStateMachine;
+    private final SceneMethods[] scenes = new SceneMethods[GameStates.values().length];
+    private final Map<GameStates, Supplier<? extends SceneMethods>> factories = new EnumMap<>(GameStates.class);
+    private SceneMethods activeScene;
+
+    /**
+     * Creates an empty registry that follows the given state machine.
+     * @param gameStateMachine The state machine of the game.
+     */
+    public SceneRegistry(GameStateMachine gameStateMachine) {
+        this.gameStateMachine = gameStateMachine;
+        gameStateMachine.addListener((from, to) -> switchScene(to));
+    }
+
+    /**
+     * Registers the factory of the scene shown in a state. The scene is created on first use.
+     * @param state   The game state.
+     * @param factory Creates the scene.
+     */
+    public void register(GameStates state, Supplier<? extends SceneMethods> factory) {
+        factories.put(state, factory);
+    }
+
+    /**
+     * Returns the scene of a state, creating it if needed.
+     * @param state The game state.
+     * @return The scene.
+     */
+    public SceneMethods get(GameStates state) {
+        SceneMethods scene = scenes[state.ordinal()];
+        if (scene == null) {
+            Supplier<? extends SceneMethods> factory = factories.get(state);
+            if (factory == null)
+                throw new IllegalStateException("No scene registered for state " + state);
+            scene = factory.get();
+            scenes[state.ordinal()] = scene;
+        }
+        return scene;
+    }
+
+    /**
+     * Returns the scene of a state as the given type, creating it if needed.
+     * @param state The game state.
+     * @param type  The class of the scene.
+     * @return The scene.
+     */
+    public <T extends SceneMethods> T get(GameStates state, Class<T> type) {
+        return type.cast(get(state));
+    }
+
+    /**
+     * Checks if the scene of a state has been created, without creating it.
+     * @param state The game state.
+     * @return true if the scene exists.
+     */
+    public boolean isCreated(GameStates state) {
+        return scenes[state.ordinal()] != null;
+    }
+
+    /**
+     * Returns the scene of the current game state, entering it the first time.
+     * @return The active scene.
+     */
+    public SceneMethods getActiveScene() {
+        SceneMethods scene = activeScene;
+        if (scene == null) {
+            scene = get(gameStateMachine.getGameState());
+            activeScene = scene;
+            scene.onEnter();
+        }
+        return scene;
+    }
+
+    private void switchScene(GameStates state) {
+        if (activeScene != null)
+            activeScene.onExit();
+        activeScene = get(state);
+        activeScene.onEnter();
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.hangmanjavafx.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event recorded by the game loop once per second.
+ */
+@Name("org.example.hangmanjavafx.FrameStatistics")
+@Label("Frame Statistics")
+@Category("Hangman")
+@Description("Frame and update rates, render and update times of the last second")
+public class FrameStatisticsEvent extends Event {
+    @Label("FPS")
+    public int fps;
+
+    @Label("UPS")
+    public int ups;
+
+    @Label("Skipped Frames")
+    public int skippedFrames;
+
+    @Label("Render Time p50")
+    @Timespan(Timespan.NANOSECONDS)
+    public long renderTimeP50;
+
+    @Label("Render Time p99")
+    @Timespan(Timespan.NANOSECONDS)
+    public long renderTimeP99;
+
+    @Label("Render Time Max")
+    @Timespan(Timespan.NANOSECONDS)
+    public long renderTimeMax;
+
+    @Label("Update Time p50")
+    @Timespan(Timespan.NANOSECONDS)
+    public long updateTimeP50;
+
+    @Label("Update Time p99")
+    @Timespan(Timespan.NANOSECONDS)
+    public long updateTimeP99;
+
+    @Label("Update Time Max")
+    @Timespan(Timespan.NANOSECONDS)
+    public long updateTimeMax;
+}
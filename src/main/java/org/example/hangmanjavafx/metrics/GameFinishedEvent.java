@@ -0,0 +1,28 @@
+package org.example.hangmanjavafx.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event recorded when a game is won or lost.
+ */
+@Name("org.example.hangmanjavafx.GameFinished")
+@Label("Game Finished")
+@Category("Hangman")
+@Description("A game that was won or lost")
+public class GameFinishedEvent extends Event {
+    @Label("Won")
+    public boolean won;
+
+    @Label("Word Length")
+    public int wordLength;
+
+    @Label("Guesses")
+    public int guessCount;
+
+    @Label("Misses")
+    public int missCount;
+}
@@ -0,0 +1,298 @@
+package org.example.hangmanjavafx.metrics;
+
+import org.example.hangmanjavafx.engine.GameSession;
+import org.example.hangmanjavafx.engine.GuessResult;
+import org.example.hangmanjavafx.helperMethods.AsyncLogger;
+import org.example.hangmanjavafx.helperMethods.DownloadSave;
+import org.example.hangmanjavafx.helperMethods.GameStatistics;
+import org.example.hangmanjavafx.inputs.InputQueue;
+import org.example.hangmanjavafx.main.FrameTimeHistogram;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Collects game and render statistics of one game window and publishes them as a JMX MBean
+ * and as JFR events. Recording methods are called by the game on the JavaFX application thread;
+ * the getters may be called from any thread.
+ */
+public class GameMetrics implements GameMetricsMXBean {
+    private static final AsyncLogger LOGGER = AsyncLogger.getLogger(GameMetrics.class.getName());
+    private final LongAdder gamesStarted = new LongAdder();
+    private final LongAdder gamesWon = new LongAdder();
+    private final LongAdder gamesLost = new LongAdder();
+    private final LongAdder guessesInFinishedGames = new LongAdder();
+    private final FrameTimeHistogram guessTimes = new FrameTimeHistogram();
+    private volatile int fps;
+    private volatile int ups;
+    private volatile FrameTimeHistogram renderTimes = new FrameTimeHistogram();
+    private volatile FrameTimeHistogram updateTimes = new FrameTimeHistogram();
+    private volatile Supplier<GameStatistics> savedStatistics = () -> GameStatistics.EMPTY;
+    private volatile InputQueue inputQueue;
+    private ObjectName objectName;
+
+    /**
+     * Registers this object with the platform MBean server.
+     * @param name The name distinguishing this game window from others in the same JVM.
+     */
+    public void register(String name) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            objectName = new ObjectName("org.example.hangmanjavafx:type=GameMetrics,name=" + ObjectName.quote(name));
+            server.registerMBean(this, objectName);
+        } catch (JMException e) {
+            LOGGER.log(Level.WARNING, "Could not register metrics MBean", e);
+        }
+    }
+
+    /**
+     * Removes this object from the platform MBean server.
+     */
+    public void unregister() {
+        if (objectName == null)
+            return;
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (JMException e) {
+            LOGGER.log(Level.WARNING, "Could not unregister metrics MBean", e);
+        }
+        objectName = null;
+    }
+
+    /**
+     * Sets where the statistics of all games, including those of earlier runs, are read from.
+     * @param savedStatistics Supplies the current statistics; called from any thread.
+     */
+    public void setSavedStatistics(Supplier<GameStatistics> savedStatistics) {
+        this.savedStatistics = savedStatistics;
+    }
+
+    /**
+     * Sets the input queue whose event counters are published.
+     * @param inputQueue The input queue of the game window.
+     */
+    public void setInputQueue(InputQueue inputQueue) {
+        this.inputQueue = inputQueue;
+    }
+
+    /**
+     * Records the start of a new game.
+     */
+    public void gameStarted() {
+        gamesStarted.increment();
+    }
+
+    /**
+     * Records a guess and the time it took, and the end of the game if the guess finished it.
+     * @param session   The game the guess was made in.
+     * @param guess     The guessed letter.
+     * @param result    The outcome of the guess.
+     * @param startTime The time the guess started, from System.nanoTime().
+     */
+    public void guessMade(GameSession session, char guess, GuessResult result, long startTime) {
+        long duration = System.nanoTime() - startTime;
+        guessTimes.record(duration);
+
+        GuessEvent guessEvent = new GuessEvent();
+        if (guessEvent.isEnabled()) {
+            guessEvent.letter = guess;
+            guessEvent.result = result.name();
+            guessEvent.missCount = session.getMissCount();
+            guessEvent.guessTime = duration;
+            guessEvent.commit();
+        }
+
+        if (result.isFinal()) {
+            (result == GuessResult.WON ? gamesWon : gamesLost).increment();
+            guessesInFinishedGames.add(session.getGuessCount());
+
+            GameFinishedEvent finishedEvent = new GameFinishedEvent();
+            if (finishedEvent.isEnabled()) {
+                finishedEvent.won = result == GuessResult.WON;
+                finishedEvent.wordLength = session.getHiddenWord().length();
+                finishedEvent.guessCount = session.getGuessCount();
+                finishedEvent.missCount = session.getMissCount();
+                finishedEvent.commit();
+            }
+        }
+    }
+
+    /**
+     * Records the frame statistics of the last second.
+     * @param fps           The number of painted frames.
+     * @param ups           The number of update steps.
+     * @param skippedFrames The number of frames skipped because nothing changed.
+     * @param renderTimes   The render times of the last second; kept and read until the next call.
+     * @param updateTimes   The update times of the last second; kept and read until the next call.
+     */
+    public void frameStatistics(int fps, int ups, int skippedFrames, FrameTimeHistogram renderTimes, FrameTimeHistogram updateTimes) {
+        this.fps = fps;
+        this.ups = ups;
+        this.renderTimes = renderTimes;
+        this.updateTimes = updateTimes;
+
+        FrameStatisticsEvent event = new FrameStatisticsEvent();
+        if (event.isEnabled()) {
+            event.fps = fps;
+            event.ups = ups;
+            event.skippedFrames = skippedFrames;
+            event.renderTimeP50 = renderTimes.getP50();
+            event.renderTimeP99 = renderTimes.getP99();
+            event.renderTimeMax = renderTimes.getMax();
+            event.updateTimeP50 = updateTimes.getP50();
+            event.updateTimeP99 = updateTimes.getP99();
+            event.updateTimeMax = updateTimes.getMax();
+            event.commit();
+        }
+    }
+
+    @Override
+    public int getFps() {
+        return fps;
+    }
+
+    @Override
+    public int getUps() {
+        return ups;
+    }
+
+    @Override
+    public double getRenderTimeP50Millis() {
+        return renderTimes.getP50() / 1_000_000.0;
+    }
+
+    @Override
+    public double getRenderTimeP99Millis() {
+        return renderTimes.getP99() / 1_000_000.0;
+    }
+
+    @Override
+    public double getRenderTimeMaxMillis() {
+        return renderTimes.getMax() / 1_000_000.0;
+    }
+
+    @Override
+    public double getUpdateTimeP50Millis() {
+        return updateTimes.getP50() / 1_000_000.0;
+    }
+
+    @Override
+    public double getUpdateTimeP99Millis() {
+        return updateTimes.getP99() / 1_000_000.0;
+    }
+
+    @Override
+    public double getUpdateTimeMaxMillis() {
+        return updateTimes.getMax() / 1_000_000.0;
+    }
+
+    @Override
+    public long getImageCacheHits() {
+        return DownloadSave.getCacheHits();
+    }
+
+    @Override
+    public long getImageCacheMisses() {
+        return DownloadSave.getCacheMisses();
+    }
+
+    @Override
+    public long getGamesStarted() {
+        return gamesStarted.sum();
+    }
+
+    @Override
+    public long getGamesWon() {
+        return gamesWon.sum();
+    }
+
+    @Override
+    public long getGamesLost() {
+        return gamesLost.sum();
+    }
+
+    @Override
+    public double getAverageGuessesPerGame() {
+        long finished = gamesWon.sum() + gamesLost.sum();
+        return finished == 0 ? 0 : (double) guessesInFinishedGames.sum() / finished;
+    }
+
+    @Override
+    public double getGuessTimeP50Micros() {
+        return guessTimes.getP50() / 1_000.0;
+    }
+
+    @Override
+    public double getGuessTimeP99Micros() {
+        return guessTimes.getP99() / 1_000.0;
+    }
+
+    @Override
+    public double getGuessTimeMaxMicros() {
+        return guessTimes.getMax() / 1_000.0;
+    }
+
+    @Override
+    public long getSavedGames() {
+        return savedStatistics.get().games();
+    }
+
+    @Override
+    public long getSavedWins() {
+        return savedStatistics.get().wins();
+    }
+
+    @Override
+    public double getSavedWinRate() {
+        return savedStatistics.get().winRate();
+    }
+
+    @Override
+    public double getSavedAverageMissesPerGame() {
+        GameStatistics statistics = savedStatistics.get();
+        return statistics.games() == 0 ? 0 : (double) statistics.misses() / statistics.games();
+    }
+
+    @Override
+    public int getCurrentWinStreak() {
+        return savedStatistics.get().currentStreak();
+    }
+
+    @Override
+    public int getBestWinStreak() {
+        return savedStatistics.get().bestStreak();
+    }
+
+    @Override
+    public long getDroppedLogMessages() {
+        return AsyncLogger.getDroppedCount();
+    }
+
+    @Override
+    public long getInputEventsReceived() {
+        InputQueue queue = inputQueue;
+        return queue == null ? 0 : queue.getEventsReceived();
+    }
+
+    @Override
+    public long getInputEventsApplied() {
+        InputQueue queue = inputQueue;
+        return queue == null ? 0 : queue.getEventsApplied();
+    }
+
+    @Override
+    public long getMouseMovesReceived() {
+        InputQueue queue = inputQueue;
+        return queue == null ? 0 : queue.getMovesReceived();
+    }
+
+    @Override
+    public long getMouseMovesApplied() {
+        InputQueue queue = inputQueue;
+        return queue == null ? 0 : queue.getMovesApplied();
+    }
+}
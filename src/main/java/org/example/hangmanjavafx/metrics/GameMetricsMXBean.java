@@ -0,0 +1,65 @@
+package org.example.hangmanjavafx.metrics;
+
+/**
+ * Management interface of {@link GameMetrics}, readable with JConsole, VisualVM or any JMX client.
+ * Frame statistics are those of the last full second; counters are totals since startup.
+ * Saved statistics and win streaks cover all finished games kept by the game store, including earlier runs.
+ * Input counters compare the events received from JavaFX with those applied after coalescing mouse moves.
+ */
+public interface GameMetricsMXBean {
+    int getFps();
+
+    int getUps();
+
+    double getRenderTimeP50Millis();
+
+    double getRenderTimeP99Millis();
+
+    double getRenderTimeMaxMillis();
+
+    double getUpdateTimeP50Millis();
+
+    double getUpdateTimeP99Millis();
+
+    double getUpdateTimeMaxMillis();
+
+    long getImageCacheHits();
+
+    long getImageCacheMisses();
+
+    long getGamesStarted();
+
+    long getGamesWon();
+
+    long getGamesLost();
+
+    double getAverageGuessesPerGame();
+
+    double getGuessTimeP50Micros();
+
+    double getGuessTimeP99Micros();
+
+    double getGuessTimeMaxMicros();
+
+    long getSavedGames();
+
+    long getSavedWins();
+
+    double getSavedWinRate();
+
+    double getSavedAverageMissesPerGame();
+
+    int getCurrentWinStreak();
+
+    int getBestWinStreak();
+
+    long getDroppedLogMessages();
+
+    long getInputEventsReceived();
+
+    long getInputEventsApplied();
+
+    long getMouseMovesReceived();
+
+    long getMouseMovesApplied();
+}
@@ -0,0 +1,31 @@
+package org.example.hangmanjavafx.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event recorded for every guess, with the time it took to apply it.
+ * The event is committed after the guess was applied, so the time is a field rather than the event duration.
+ */
+@Name("org.example.hangmanjavafx.Guess")
+@Label("Guess")
+@Category("Hangman")
+@Description("A letter guessed in the playing scene")
+public class GuessEvent extends Event {
+    @Label("Letter")
+    public char letter;
+
+    @Label("Result")
+    public String result;
+
+    @Label("Miss Count")
+    public int missCount;
+
+    @Label("Guess Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long guessTime;
+}
@@ -0,0 +1,201 @@
+package org.example.hangmanjavafx.replay;
+
+import org.example.hangmanjavafx.engine.GuessResult;
+import org.example.hangmanjavafx.helperMethods.AsyncLogger;
+import org.example.hangmanjavafx.main.GameStateListener;
+import org.example.hangmanjavafx.main.GameStates;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+
+/**
+ * Records what is needed to replay a game exactly: the seed of the word picks, every input event delivered
+ * to the scenes with its frame, the words chosen and guesses made, and the game state transitions.
+ * <p>
+ * Recording writes one fixed-size record into a preallocated ring buffer and publishes it with an ordered store,
+ * so it costs a few stores and no allocation or lock. A background thread writes the ring buffer to the file
+ * every few milliseconds, or sooner when it is half full. If the writer falls a whole ring behind,
+ * new records are dropped and counted instead of blocking the game.
+ * Records must be written by a single thread, the JavaFX application thread.
+ * <p>
+ * The file layout is described in {@link ReplayRecording}.
+ */
+public class ReplayRecorder implements GameStateListener, Closeable {
+    static final int MAGIC = 0x524D4748; // "HGMR" in little-endian
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 6 * Integer.BYTES;
+    static final int RECORD_SIZE = 24;
+    static final int MOVE = 1, CLICK = 2, KEY = 3, STATE = 4, WORD = 5, GUESS = 6;
+    private static final int DEFAULT_CAPACITY = 1 << 16;
+    private static final long FLUSH_INTERVAL_NANOS = 10_000_000L;
+    private static final AsyncLogger LOGGER = AsyncLogger.getLogger(ReplayRecorder.class.getName());
+    private final Path path;
+    private final FileChannel channel;
+    private final ByteBuffer ring;
+    private final int capacity;
+    private final long startNanos = System.nanoTime();
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong flushed = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean closed;
+    private int frame = 0;
+    private long dropped = 0;
+
+    /**
+     * Creates a recording file and starts its writer thread.
+     * @param path           The recording file, replaced if it exists.
+     * @param seed           The seed of the random generator that picks the words.
+     * @param dictionarySize The number of words in the dictionary.
+     * @param difficulty     The ordinal of the difficulty, or -1 for the whole dictionary.
+     * @throws IOException If the file cannot be created.
+     */
+    public ReplayRecorder(Path path, long seed, int dictionarySize, int difficulty) throws IOException {
+        this(path, seed, dictionarySize, difficulty, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a recording file with a ring buffer of the given number of records and starts its writer thread.
+     * @param capacity The number of records the ring buffer holds, a power of two.
+     */
+    ReplayRecorder(Path path, long seed, int dictionarySize, int difficulty, int capacity) throws IOException {
+        if (Integer.bitCount(capacity) != 1)
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        this.path = path;
+        this.capacity = capacity;
+        ring = ByteBuffer.allocateDirect(capacity * RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putLong(seed).putInt(dictionarySize).putInt(difficulty).flip();
+        while (header.hasRemaining())
+            channel.write(header);
+
+        writer = new Thread(this::drain, "replay-recorder");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Starts a new frame. Records written after this belong to the new frame.
+     */
+    public void beginFrame() {
+        frame++;
+    }
+
+    public void recordMouseMoved(int x, int y) {
+        record(MOVE, x, y);
+    }
+
+    public void recordMouseClicked(int x, int y) {
+        record(CLICK, x, y);
+    }
+
+    public void recordKeyPressed(char key) {
+        record(KEY, key, 0);
+    }
+
+    /**
+     * Records the word of a new game.
+     * @param wordId      The index of the word in the dictionary.
+     * @param guessedMask The letters already guessed, non-zero if a saved game was restored.
+     */
+    public void recordWord(int wordId, int guessedMask) {
+        record(WORD, wordId, guessedMask);
+    }
+
+    public void recordGuess(char letter, GuessResult result) {
+        record(GUESS, letter, result.ordinal());
+    }
+
+    @Override
+    public void onStateChanged(GameStates from, GameStates to) {
+        record(STATE, from.ordinal(), to.ordinal());
+    }
+
+    /**
+     * Writes one record into the ring buffer, or drops it if the ring buffer is full.
+     */
+    private void record(int type, int a, int b) {
+        long next = head.get();
+        long used = next - flushed.get();
+        if (used >= capacity || closed) {
+            dropped++;
+            return;
+        }
+        int offset = (int) (next & (capacity - 1)) * RECORD_SIZE;
+        ring.putLong(offset, System.nanoTime() - startNanos);
+        ring.putInt(offset + 8, frame);
+        ring.putInt(offset + 12, type);
+        ring.putInt(offset + 16, a);
+        ring.putInt(offset + 20, b);
+        head.lazySet(next + 1);
+        if (used == capacity / 2)
+            LockSupport.unpark(writer);
+    }
+
+    /**
+     * Writes the published records to the file until the recorder is closed.
+     */
+    private void drain() {
+        while (!closed) {
+            LockSupport.parkNanos(FLUSH_INTERVAL_NANOS);
+            flush();
+        }
+        flush();
+    }
+
+    private void flush() {
+        long start = flushed.get();
+        long end = head.get();
+        try {
+            while (start < end) {
+                int offset = (int) (start & (capacity - 1));
+                int count = (int) Math.min(end - start, capacity - offset);
+                ByteBuffer slice = ring.duplicate();
+                slice.limit((offset + count) * RECORD_SIZE).position(offset * RECORD_SIZE);
+                while (slice.hasRemaining())
+                    channel.write(slice);
+                start += count;
+                flushed.set(start);
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Error writing recording " + path, e);
+            flushed.set(end);
+        }
+    }
+
+    /**
+     * Writes the remaining records, stops the writer thread and closes the file.
+     * @throws IOException If the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.force(false);
+        channel.close();
+        if (dropped > 0)
+            LOGGER.log(Level.WARNING, "Dropped {0} records of recording {1}", dropped, path);
+    }
+
+    // Getters
+    public Path getPath() {
+        return path;
+    }
+
+    public long getDroppedCount() {
+        return dropped;
+    }
+}
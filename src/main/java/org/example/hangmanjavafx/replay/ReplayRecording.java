@@ -0,0 +1,111 @@
+package org.example.hangmanjavafx.replay;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A recording written by {@link ReplayRecorder}, memory-mapped for reading.
+ * <p>
+ * File layout, little-endian:
+ * <pre>
+ * int magic "HGMR" | int version | long seed | int dictionarySize | int difficulty | records
+ * record: long nanos | int frame | int type | int a | int b
+ * </pre>
+ * {@code nanos} is the time since the recording started. The meaning of {@code a} and {@code b} depends on the type:
+ * <pre>
+ * MOVE, CLICK   x, y
+ * KEY           character, 0
+ * STATE         ordinal of the previous state, ordinal of the new state
+ * WORD          word id, mask of letters already guessed
+ * GUESS         letter, ordinal of the GuessResult
+ * </pre>
+ * A record torn by a crash at the end of the file is ignored.
+ */
+public class ReplayRecording {
+    private final MappedByteBuffer buffer;
+    private final long seed;
+    private final int dictionarySize;
+    private final int difficulty;
+    private final int recordCount;
+
+    private ReplayRecording(MappedByteBuffer buffer) {
+        this.buffer = buffer;
+        seed = buffer.getLong(2 * Integer.BYTES);
+        dictionarySize = buffer.getInt(2 * Integer.BYTES + Long.BYTES);
+        difficulty = buffer.getInt(3 * Integer.BYTES + Long.BYTES);
+        recordCount = (buffer.capacity() - ReplayRecorder.HEADER_SIZE) / ReplayRecorder.RECORD_SIZE;
+    }
+
+    /**
+     * Maps a recording file into memory.
+     * @param path The recording file.
+     * @return The recording.
+     * @throws IOException If the file cannot be read or is not a recording.
+     */
+    public static ReplayRecording read(Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < ReplayRecorder.HEADER_SIZE || fileSize > Integer.MAX_VALUE)
+                throw new IOException("Not a recording: " + path);
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.getInt(0) != ReplayRecorder.MAGIC || buffer.getInt(Integer.BYTES) != ReplayRecorder.VERSION)
+            throw new IOException("Not a recording: " + path);
+        return new ReplayRecording(buffer);
+    }
+
+    private int offset(int record) {
+        return ReplayRecorder.HEADER_SIZE + record * ReplayRecorder.RECORD_SIZE;
+    }
+
+    public long getNanos(int record) {
+        return buffer.getLong(offset(record));
+    }
+
+    public int getFrame(int record) {
+        return buffer.getInt(offset(record) + 8);
+    }
+
+    public int getType(int record) {
+        return buffer.getInt(offset(record) + 12);
+    }
+
+    public int getA(int record) {
+        return buffer.getInt(offset(record) + 16);
+    }
+
+    public int getB(int record) {
+        return buffer.getInt(offset(record) + 20);
+    }
+
+    // Getters
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getDictionarySize() {
+        return dictionarySize;
+    }
+
+    public int getDifficulty() {
+        return difficulty;
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Returns the time from the start of the recording to its last record.
+     * @return The duration in nanoseconds.
+     */
+    public long getDurationNanos() {
+        return recordCount == 0 ? 0 : getNanos(recordCount - 1);
+    }
+}
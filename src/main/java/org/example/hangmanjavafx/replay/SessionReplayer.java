@@ -0,0 +1,145 @@
+package org.example.hangmanjavafx.replay;
+
+import org.example.hangmanjavafx.Hangman;
+import org.example.hangmanjavafx.dictionary.Difficulty;
+import org.example.hangmanjavafx.graphics.BitmapFont;
+import org.example.hangmanjavafx.inputs.InputQueue;
+import org.example.hangmanjavafx.main.GameStates;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.logging.Logger;
+
+/**
+ * Replays a {@link ReplayRecording} against a new game without a window, as fast as possible.
+ * The game gets the recorded seed and difficulty, so it picks the same words. The recorded input events
+ * of every frame are then delivered to the scenes through the game's {@link InputQueue}. After each frame,
+ * the game state and the word are compared with the recording, and every difference is counted as a divergence.
+ * Nothing is painted, and text is measured with the {@link BitmapFont}, so no JavaFX toolkit is needed.
+ * <p>
+ * A game that continued a saved game cannot be replayed exactly, because the saved game is not part of the recording.
+ * <p>
+ * Usage: {@code SessionReplayer recording.bin [--repeat N]}, with the same {@code -Dhangman.dictionary} as the recorded game.
+ */
+public class SessionReplayer {
+    private static final Logger LOGGER = Logger.getLogger(SessionReplayer.class.getName());
+    private final ReplayRecording recording;
+
+    /**
+     * Creates a replayer for a recording.
+     * @param recording The recording.
+     */
+    public SessionReplayer(ReplayRecording recording) {
+        this.recording = recording;
+    }
+
+    /**
+     * Creates a game set up like the recorded one, keeping its saved games and statistics in a temporary directory.
+     * The directory is removed with {@code hangman.getGameStore().delete()} after the replay.
+     * The game gets the recorded seed and difficulty without changing any system property,
+     * and measures text without a toolkit.
+     * @return The game, not started.
+     * @throws IOException If the temporary directory cannot be created.
+     */
+    public Hangman createGame() throws IOException {
+        Difficulty difficulty = recording.getDifficulty() >= 0 ? Difficulty.values()[recording.getDifficulty()] : null;
+        Hangman hangman = new Hangman(Files.createTempDirectory("hangman-replay"), recording.getSeed(), difficulty);
+        hangman.setTextMeasurer(new BitmapFont());
+        if (hangman.getDictionary().size() != recording.getDictionarySize())
+            LOGGER.warning("The recording was made with a dictionary of " + recording.getDictionarySize()
+                    + " words, but the current one has " + hangman.getDictionary().size());
+        return hangman;
+    }
+
+    /**
+     * Replays the whole recording against a game.
+     * @param hangman The game, set up by {@link #createGame()}.
+     * @return The result of the replay.
+     */
+    public Result replay(Hangman hangman) {
+        InputQueue inputQueue = hangman.getInputQueue();
+        GameStates[] states = GameStates.values();
+        int recordCount = recording.getRecordCount();
+        int frames = 0;
+        int divergences = 0;
+        long inputsBefore = inputQueue.getEventsReceived();
+        long start = System.nanoTime();
+
+        int record = 0;
+        while (record < recordCount) {
+            int frame = recording.getFrame(record);
+            GameStates expectedState = null;
+            int expectedWord = -1;
+            for (; record < recordCount && recording.getFrame(record) == frame; record++) {
+                int a = recording.getA(record);
+                int b = recording.getB(record);
+                switch (recording.getType(record)) {
+                    case ReplayRecorder.MOVE -> inputQueue.mouseMoved(a, b);
+                    case ReplayRecorder.CLICK -> inputQueue.mouseClicked(a, b);
+                    case ReplayRecorder.KEY -> inputQueue.keyPressed((char) a);
+                    case ReplayRecorder.STATE -> expectedState = states[b];
+                    case ReplayRecorder.WORD -> expectedWord = a;
+                    default -> {
+                        // Guesses follow from the inputs
+                    }
+                }
+            }
+
+            inputQueue.dispatch();
+            hangman.update();
+            frames++;
+
+            GameStates state = hangman.getGameStateMachine().getGameState();
+            if (expectedState != null && state != expectedState) {
+                if (divergences++ == 0)
+                    LOGGER.warning("Frame " + frame + ": state " + state + " instead of " + expectedState);
+            }
+            if (expectedWord >= 0 && hangman.getPlaying().getWordId() != expectedWord) {
+                if (divergences++ == 0)
+                    LOGGER.warning("Frame " + frame + ": word " + hangman.getPlaying().getWordId() + " instead of " + expectedWord);
+            }
+        }
+        return new Result(frames, inputQueue.getEventsReceived() - inputsBefore, divergences, System.nanoTime() - start);
+    }
+
+    /**
+     * The outcome of one replay.
+     * @param frames      The number of frames replayed.
+     * @param inputs      The number of input events delivered.
+     * @param divergences The number of frames whose state or word differ from the recording.
+     * @param nanos       The time the replay took.
+     */
+    public record Result(int frames, long inputs, int divergences, long nanos) {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0)
+            throw new IllegalArgumentException("Usage: SessionReplayer recording.bin [--repeat N]");
+        int repeat = 1;
+        for (int i = 1; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            if (args[i].equals("--repeat"))
+                repeat = Integer.parseInt(value);
+            else
+                throw new IllegalArgumentException("Unknown option: " + args[i]);
+            i++;
+        }
+
+        ReplayRecording recording = ReplayRecording.read(Path.of(args[0]));
+        SessionReplayer replayer = new SessionReplayer(recording);
+        for (int run = 1; run <= repeat; run++) {
+            Hangman hangman = replayer.createGame();
+            Result result;
+            try {
+                result = replayer.replay(hangman);
+            } finally {
+                hangman.getGameStore().delete();
+            }
+            LOGGER.info(String.format(Locale.ROOT,
+                    "Run %d: replayed %d frames and %d inputs in %.3f ms (recorded %.1f s), %d divergences",
+                    run, result.frames(), result.inputs(), result.nanos() / 1_000_000.0,
+                    recording.getDurationNanos() / 1_000_000_000.0, result.divergences()));
+        }
+    }
+}
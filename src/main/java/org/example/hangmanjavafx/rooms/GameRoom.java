@@ -0,0 +1,310 @@
+package org.example.hangmanjavafx.rooms;
+
+import org.example.hangmanjavafx.engine.GameStatus;
+import org.example.hangmanjavafx.engine.GuessResult;
+import org.example.hangmanjavafx.engine.WordMasks;
+import org.example.hangmanjavafx.helperMethods.AsyncLogger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+
+/**
+ * A game many players guess together: everyone guesses the same hidden word and every reveal
+ * is broadcast to all subscribers of the room.
+ * <p>
+ * The state of a round is a single long holding the guessed letters and the miss count, so a guess
+ * is applied with one compare-and-set and no lock; players racing for the same letter simply see
+ * REPEATED. The word of a round is immutable, so the revealed positions, the win and the loss
+ * all follow from that long.
+ * <p>
+ * Guessers never wait for subscribers. A guess stores its event in the round's slot for its sequence number
+ * and at most one broadcast task per room runs on the broadcast executor. It hands the events that are ready,
+ * in order, in batches to every subscriber. Rounds that are not broadcast yet stay in memory, so at most
+ * {@value #MAX_ROUNDS_IN_FLIGHT} rounds may be ahead of the broadcast task: beyond that {@link #startRound(String)}
+ * refuses to start a new round until the broadcast task catches up, which bounds the memory of a room.
+ */
+public class GameRoom {
+    private static final int MISS_SHIFT = 32;
+    private static final int GUESSED_BITS = (1 << 26) - 1;
+    private static final int MAX_EVENTS_PER_ROUND = 27;
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final int MAX_ROUNDS_IN_FLIGHT = 64;
+    private static final AsyncLogger LOGGER = AsyncLogger.getLogger(GameRoom.class.getName());
+    private final int maxMiss;
+    private final AtomicReference<Round> round = new AtomicReference<>();
+    private final List<RoomSubscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final Executor broadcastExecutor;
+    private final AtomicBoolean broadcastScheduled = new AtomicBoolean();
+    private final LongAdder casRetries = new LongAdder();
+    private final LongAdder throttledStarts = new LongAdder();
+    // Number of the round the broadcast task is in, written by the broadcast task only
+    private volatile int broadcastRoundNumber = 1;
+    // Only touched by the broadcast task
+    private final List<RoomEvent> batch = new ArrayList<>(MAX_BATCH_SIZE);
+    private final List<RoomEvent> batchView = Collections.unmodifiableList(batch);
+    private Round broadcastRound;
+    private int broadcastSequence;
+
+    /**
+     * Creates a room and starts its first round.
+     * @param word              The hidden word of the first round.
+     * @param maxMiss           The number of misses allowed per round; one more miss loses the round.
+     * @param broadcastExecutor Runs the broadcast tasks, usually shared by many rooms.
+     */
+    public GameRoom(String word, int maxMiss, Executor broadcastExecutor) {
+        this.maxMiss = maxMiss;
+        this.broadcastExecutor = broadcastExecutor;
+        Round first = new Round(1, new WordMasks(word));
+        round.set(first);
+        broadcastRound = first;
+        publish(first, first.startEvent());
+    }
+
+    /**
+     * Applies a guess to the current round.
+     * @param guess The guessed letter, upper or lower case.
+     * @return The outcome of the guess; REJECTED if the round is over or the character is not a letter.
+     */
+    public GuessResult guess(char guess) {
+        Round current = round.get();
+        int letter = Character.toUpperCase(guess) - 'A';
+        if (letter < 0 || letter >= 26)
+            return GuessResult.REJECTED;
+        int letterBit = 1 << letter;
+        long positions = current.wordMasks.getPositionMask(letter);
+
+        long state, next;
+        while (true) {
+            state = current.state.get();
+            if (current.isFinished(state))
+                return GuessResult.REJECTED;
+            if ((guessedMask(state) & letterBit) != 0)
+                return GuessResult.REPEATED;
+            next = pack(guessedMask(state) | letterBit, missCount(state) + (positions == 0 ? 1 : 0));
+            if (current.state.compareAndSet(state, next))
+                break;
+            casRetries.increment();
+        }
+
+        GuessResult result;
+        if (positions == 0)
+            result = current.isLost(next) ? GuessResult.LOST : GuessResult.INCORRECT;
+        else
+            result = current.isWon(next) ? GuessResult.WON : GuessResult.CORRECT;
+        int sequence = Integer.bitCount(guessedMask(next));
+        publish(current, new RoomEvent(current.number, sequence, (char) ('A' + letter), result, positions, missCount(next)));
+        return result;
+    }
+
+    /**
+     * Starts a new round once the current one is over. If several players try at once, only one succeeds.
+     * @param word The hidden word of the new round.
+     * @return true if the round was started, false if the current round is still in progress,
+     *         another player started the next round first or too many rounds are waiting to be broadcast.
+     */
+    public boolean startRound(String word) {
+        Round current = round.get();
+        if (!current.isFinished(current.state.get()))
+            return false;
+        if (current.number - broadcastRoundNumber >= MAX_ROUNDS_IN_FLIGHT) {
+            throttledStarts.increment();
+            return false;
+        }
+        Round next = new Round(current.number + 1, new WordMasks(word));
+        if (!round.compareAndSet(current, next))
+            return false;
+        current.next = next;
+        publish(next, next.startEvent());
+        return true;
+    }
+
+    /**
+     * Adds a subscriber. It receives the events published from now on.
+     * @param subscriber The subscriber.
+     */
+    public void subscribe(RoomSubscriber subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    public void unsubscribe(RoomSubscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    /**
+     * Stores an event in its slot and makes sure a broadcast task will pick it up.
+     */
+    private void publish(Round target, RoomEvent event) {
+        target.events.set(event.sequence(), event);
+        if (broadcastScheduled.compareAndSet(false, true))
+            broadcastExecutor.execute(this::broadcast);
+    }
+
+    /**
+     * Delivers the ready events in batches until no more are ready.
+     */
+    private void broadcast() {
+        do {
+            collectReadyEvents();
+            if (!batch.isEmpty())
+                deliver();
+            broadcastScheduled.set(false);
+        } while (hasReadyEvent() && broadcastScheduled.compareAndSet(false, true));
+    }
+
+    /**
+     * Moves the ready events, in sequence order, into the batch, following the rounds as they finish.
+     */
+    private void collectReadyEvents() {
+        while (batch.size() < MAX_BATCH_SIZE) {
+            RoomEvent event = broadcastSequence < MAX_EVENTS_PER_ROUND ? broadcastRound.events.get(broadcastSequence) : null;
+            if (event != null) {
+                batch.add(event);
+                broadcastSequence = event.result() != null && event.result().isFinal() ? MAX_EVENTS_PER_ROUND : broadcastSequence + 1;
+            } else if (broadcastSequence == MAX_EVENTS_PER_ROUND && broadcastRound.next != null) {
+                broadcastRound = broadcastRound.next;
+                broadcastSequence = 0;
+                broadcastRoundNumber = broadcastRound.number;
+            } else
+                return;
+        }
+    }
+
+    private boolean hasReadyEvent() {
+        if (broadcastSequence < MAX_EVENTS_PER_ROUND)
+            return broadcastRound.events.get(broadcastSequence) != null;
+        Round next = broadcastRound.next;
+        return next != null && next.events.get(0) != null;
+    }
+
+    private void deliver() {
+        for (RoomSubscriber subscriber : subscribers) {
+            try {
+                subscriber.onEvents(batchView);
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Removing failing room subscriber", e);
+                subscribers.remove(subscriber);
+            }
+        }
+        batch.clear();
+    }
+
+    private static long pack(int guessedMask, int missCount) {
+        return (long) missCount << MISS_SHIFT | guessedMask;
+    }
+
+    private static int guessedMask(long state) {
+        return (int) state & GUESSED_BITS;
+    }
+
+    private static int missCount(long state) {
+        return (int) (state >>> MISS_SHIFT);
+    }
+
+    // Getters
+    public int getRoundNumber() {
+        return round.get().number;
+    }
+
+    public String getHiddenWord() {
+        return round.get().wordMasks.getWord();
+    }
+
+    /**
+     * Returns the set of letters guessed in the current round.
+     * @return The 26-bit mask with bit i set if letter 'A' + i was guessed.
+     */
+    public int getGuessedMask() {
+        return guessedMask(round.get().state.get());
+    }
+
+    public int getMissCount() {
+        return missCount(round.get().state.get());
+    }
+
+    public int getMaxMiss() {
+        return maxMiss;
+    }
+
+    public GameStatus getStatus() {
+        Round current = round.get();
+        long state = current.state.get();
+        return current.isWon(state) ? GameStatus.WON : current.isLost(state) ? GameStatus.LOST : GameStatus.IN_PROGRESS;
+    }
+
+    /**
+     * Returns the word of the current round with dots in place of letters not guessed yet.
+     * @return The guessed word, e.g. "W..TER".
+     */
+    public String getGuessedWord() {
+        Round current = round.get();
+        int guessed = guessedMask(current.state.get());
+        String word = current.wordMasks.getWord();
+        char[] letters = new char[word.length()];
+        for (int i = 0; i < letters.length; i++) {
+            char letter = word.charAt(i);
+            letters[i] = (guessed & (1 << (letter - 'A'))) != 0 ? letter : '.';
+        }
+        return new String(letters);
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Returns how often a guess had to retry its compare-and-set because another guess came first.
+     * @return The number of retries.
+     */
+    public long getCasRetries() {
+        return casRetries.sum();
+    }
+
+    /**
+     * Returns how often a new round was refused because the broadcast task was too many rounds behind.
+     * @return The number of refused round starts.
+     */
+    public long getThrottledStarts() {
+        return throttledStarts.sum();
+    }
+
+    /**
+     * One hidden word with its packed state and the slots of its events, linked to the round after it.
+     */
+    private final class Round {
+        private final int number;
+        private final WordMasks wordMasks;
+        private final AtomicLong state = new AtomicLong();
+        private final AtomicReferenceArray<RoomEvent> events = new AtomicReferenceArray<>(MAX_EVENTS_PER_ROUND);
+        private volatile Round next;
+
+        Round(int number, WordMasks wordMasks) {
+            this.number = number;
+            this.wordMasks = wordMasks;
+        }
+
+        RoomEvent startEvent() {
+            return new RoomEvent(number, 0, (char) 0, null, wordMasks.getFullMask(), 0);
+        }
+
+        boolean isWon(long state) {
+            int letters = wordMasks.getLetterMask();
+            return (guessedMask(state) & letters) == letters;
+        }
+
+        boolean isLost(long state) {
+            return missCount(state) > maxMiss;
+        }
+
+        boolean isFinished(long state) {
+            return isWon(state) || isLost(state);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.hangmanjavafx.rooms;
+
+import org.example.hangmanjavafx.engine.GuessResult;
+
+/**
+ * A change of a {@link GameRoom}, broadcast to its subscribers.
+ * Every guess that changed the room has a sequence number from 1 on within its round,
+ * so subscribers can tell the order of reveals. Sequence 0 starts a new round.
+ *
+ * @param round     The number of the round.
+ * @param sequence  The number of the guess within the round, or 0 if the round just started.
+ * @param letter    The guessed letter, or 0 if the round just started.
+ * @param result    The outcome of the guess, or null if the round just started.
+ * @param positions The positions revealed by the guess, or the mask of all positions if the round just started.
+ * @param missCount The number of misses in the round after the guess.
+ */
+public record RoomEvent(int round, int sequence, char letter, GuessResult result, long positions, int missCount) {
+    /**
+     * Checks if this event starts a new round.
+     * @return true if the round just started.
+     */
+    public boolean isRoundStart() {
+        return sequence == 0;
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.hangmanjavafx.rooms;
+
+import java.util.List;
+
+/**
+ * Receives the events of a {@link GameRoom}.
+ */
+@FunctionalInterface
+public interface RoomSubscriber {
+    /**
+     * Called with the events of the room in order, batched as they arrived.
+     * Calls for one room never overlap. Implementations must not block, e.g. they should hand the events
+     * to their connection's queue, because all subscribers of a room are called one after the other.
+     * @param events The events, unmodifiable and only valid during the call.
+     */
+    void onEvents(List<RoomEvent> events);
+}
@@ -1,12 +1,10 @@
 package org.example.hangmanjavafx.scenes;
 
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
-import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
 import org.example.hangmanjavafx.Hangman;
+import org.example.hangmanjavafx.graphics.DrawingSurface;
 import org.example.hangmanjavafx.ui.CustomButton;
-import java.util.logging.Logger;
+import org.example.hangmanjavafx.ui.HitTestGrid;
+import org.example.hangmanjavafx.helperMethods.AsyncLogger;
 import static org.example.hangmanjavafx.main.GameStates.*;
 
 /**
@@ -15,9 +13,12 @@ import static org.example.hangmanjavafx.main.GameStates.*;
  */
 public abstract class GameEndScene implements SceneMethods {
     protected Hangman hangman;
-    protected Image endSceneImage;
+    protected String endSceneImageName;
     protected CustomButton menuButton, replayButton;
-    protected static final Logger LOGGER = Logger.getLogger(GameEndScene.class.getName());
+    private HitTestGrid hitTestGrid;
+    private static final double BUTTON_FONT_SIZE = 18;
+    private static final int BUTTON_TEXT_COLOR = 0xFFFFFFFF;
+    protected static final AsyncLogger LOGGER = AsyncLogger.getLogger(GameEndScene.class.getName());
 
     /**
      * Constructor for initializing the game end scene.
@@ -40,6 +41,12 @@ public abstract class GameEndScene implements SceneMethods {
 
         replayButton = new CustomButton("Replay", x, y, buttonWidth, buttonHeight);
         menuButton = new CustomButton("Menu",  x + xOffset, y, buttonWidth, buttonHeight);
+        replayButton.setDirtyRegions(hangman.getDirtyRegions());
+        menuButton.setDirtyRegions(hangman.getDirtyRegions());
+
+        hitTestGrid = new HitTestGrid(hangman.getGameWindow().getWindowWidth(), hangman.getGameWindow().getWindowHeight());
+        hitTestGrid.register(replayButton);
+        hitTestGrid.register(menuButton);
     }
 
     /**
@@ -50,31 +57,42 @@ public abstract class GameEndScene implements SceneMethods {
 
     /**
      * Draws the replay and menu buttons on the scene.
-     * @param gc The GraphicsContext used for rendering.
+     * @param surface The surface to draw on.
      */
-    private void drawButtons(GraphicsContext gc) {
-        gc.setFill(Color.WHITE);
-        gc.setFont(Font.font(18));
-        replayButton.draw(gc);
-        menuButton.draw(gc);
+    private void drawButtons(DrawingSurface surface) {
+        surface.setFill(BUTTON_TEXT_COLOR);
+        surface.setFontSize(BUTTON_FONT_SIZE);
+        replayButton.draw(surface);
+        menuButton.draw(surface);
     }
 
     /**
      * Draws the end scene image on the canvas.
-     * @param gc The GraphicsContext used for rendering.
+     * @param surface The surface to draw on.
      */
-    private void drawEndSceneImage(GraphicsContext gc) {
-        gc.drawImage(endSceneImage, 0, 0);
+    private void drawEndSceneImage(DrawingSurface surface) {
+        surface.drawImage(endSceneImageName, 0, 0);
     }
 
     /**
      * Renders the end game scene by drawing the image and buttons.
-     * @param gc The GraphicsContext used for rendering.
+     * @param surface The surface to draw on.
+     */
+    @Override
+    public void render(DrawingSurface surface) {
+        drawEndSceneImage(surface);
+        drawButtons(surface);
+    }
+
+    /**
+     * Sets the end scene image the first time the scene is shown
+     * and lets the playing scene prepare the next round while this scene is visible.
      */
     @Override
-    public void render(GraphicsContext gc) {
-        drawEndSceneImage(gc);
-        drawButtons(gc);
+    public void onEnter() {
+        if (endSceneImageName == null)
+            initEndSceneImage();
+        hangman.getPlaying().prepareNextRound();
     }
 
     /**
@@ -85,10 +103,11 @@ public abstract class GameEndScene implements SceneMethods {
      */
     @Override
     public void mouseClicked(int x, int y) {
-        if (menuButton.getBounds().contains(x, y)) {
-            setGameState(MENU);
+        CustomButton button = hitTestGrid.find(x, y);
+        if (button == menuButton) {
+            hangman.getGameStateMachine().setGameState(MENU);
             LOGGER.info("Menu scene opened");
-        } else if (replayButton.getBounds().contains(x, y)) {
+        } else if (button == replayButton) {
             replayGame();
             LOGGER.info("Playing scene opened");
         }
@@ -102,8 +121,7 @@ public abstract class GameEndScene implements SceneMethods {
      */
     @Override
     public void mouseMoved(int x, int y) {
-        menuButton.setButtonHovered(menuButton.getBounds().contains(x, y));
-        replayButton.setButtonHovered(replayButton.getBounds().contains(x, y));
+        hitTestGrid.hover(x, y);
     }
 
     /**
@@ -111,7 +129,7 @@ public abstract class GameEndScene implements SceneMethods {
      */
     private void replayGame() {
         resetEverything();
-        setGameState(PLAYING);
+        hangman.getGameStateMachine().setGameState(PLAYING);
     }
 
     /**
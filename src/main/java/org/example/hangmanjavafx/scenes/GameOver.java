@@ -1,7 +1,6 @@
 package org.example.hangmanjavafx.scenes;
 
 import org.example.hangmanjavafx.Hangman;
-import org.example.hangmanjavafx.helperMethods.DownloadSave;
 
 /**
  * Represents the game over scene in the Hangman game.
@@ -15,15 +14,14 @@ public class GameOver extends GameEndScene implements SceneMethods {
      */
     public GameOver(Hangman hangman) {
         super(hangman);
-        initEndSceneImage();
     }
 
     /**
-     * Initializes the game over image by loading it from a file.
-     * Uses the DownloadSave class to retrieve the image resource.
+     * Initializes the game over image.
+     * The image is loaded by the drawing surface the first time it is drawn.
      */
     @Override
     protected void initEndSceneImage() {
-        endSceneImage = DownloadSave.getImage("gameover.png");
+        endSceneImageName = "gameover.png";
     }
 }
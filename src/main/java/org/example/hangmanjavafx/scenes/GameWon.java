@@ -1,7 +1,6 @@
 package org.example.hangmanjavafx.scenes;
 
 import org.example.hangmanjavafx.Hangman;
-import org.example.hangmanjavafx.helperMethods.DownloadSave;
 
 /**
  * Represents the game won scene in the Hangman game.
@@ -15,16 +14,15 @@ public class GameWon extends GameEndScene implements SceneMethods {
      */
     public GameWon(Hangman hangman) {
         super(hangman);
-        initEndSceneImage();
     }
 
     /**
-     * Initializes the game won image by loading it from a file.
-     * Uses the DownloadSave class to retrieve the image resource.
+     * Initializes the game won image.
+     * The image is loaded by the drawing surface the first time it is drawn.
      */
     @Override
     protected void initEndSceneImage() {
-        endSceneImage = DownloadSave.getImage("gamewon.jpg");
+        endSceneImageName = "gamewon.jpg";
     }
 }
 
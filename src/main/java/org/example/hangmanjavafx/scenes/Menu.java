@@ -1,27 +1,31 @@
 package org.example.hangmanjavafx.scenes;
 
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
-import javafx.scene.text.Font;
-import org.example.hangmanjavafx.helperMethods.DownloadSave;
+import javafx.application.Platform;
+import org.example.hangmanjavafx.Hangman;
+import org.example.hangmanjavafx.graphics.DrawingSurface;
 import org.example.hangmanjavafx.ui.CustomButton;
-import java.util.logging.Logger;
+import org.example.hangmanjavafx.ui.HitTestGrid;
+import org.example.hangmanjavafx.helperMethods.AsyncLogger;
 import static org.example.hangmanjavafx.main.GameStates.PLAYING;
-import static org.example.hangmanjavafx.main.GameStates.setGameState;
 
 /**
  * Represents the main menu scene where players can start playing the game or exit the game.
  * Implements SceneMethods.
  */
 public class Menu implements SceneMethods {
+    private final Hangman hangman;
     private CustomButton buttonPlay,  buttonExit;
-    private Image menuBackgroundImage;
-    private static final Logger LOGGER = Logger.getLogger(Menu.class.getName());
+    private HitTestGrid hitTestGrid;
+    private String menuBackgroundImageName;
+    private static final double BUTTON_FONT_SIZE = 18;
+    private static final AsyncLogger LOGGER = AsyncLogger.getLogger(Menu.class.getName());
 
     /**
-     * Constructs a Menu object with the specified TowerDefense game.
+     * Constructs a Menu object with the specified Hangman game.
+     * @param hangman The Hangman instance controlling the game.
      */
-    public Menu() {
+    public Menu(Hangman hangman) {
+        this.hangman = hangman;
         initButtons();
         initMenuBackgroundImage();
     }
@@ -38,42 +42,49 @@ public class Menu implements SceneMethods {
 
         buttonPlay = new CustomButton("Play", x, y, buttonWidth, buttonHeight);
         buttonExit = new CustomButton("Exit", x + xOffset, y , buttonWidth, buttonHeight);
+        buttonPlay.setDirtyRegions(hangman.getDirtyRegions());
+        buttonExit.setDirtyRegions(hangman.getDirtyRegions());
+
+        hitTestGrid = new HitTestGrid(hangman.getGameWindow().getWindowWidth(), hangman.getGameWindow().getWindowHeight());
+        hitTestGrid.register(buttonPlay);
+        hitTestGrid.register(buttonExit);
     }
 
     /**
-     * Initializes the menu background image by loading it from a file.
+     * Initializes the menu background image.
+     * The image is loaded by the drawing surface the first time it is drawn.
      */
     private void initMenuBackgroundImage() {
-        menuBackgroundImage = DownloadSave.getImage("menu.jpg");
+        menuBackgroundImageName = "menu.jpg";
     }
 
     /**
      * Draws the buttons displayed in the menu scene.
-     * @param gc The graphics context to draw on.
+     * @param surface The surface to draw on.
      */
-    private void drawButtons(GraphicsContext gc) {
-        gc.setFont(Font.font(18));
-        buttonPlay.draw(gc);
-        buttonExit.draw(gc);
+    private void drawButtons(DrawingSurface surface) {
+        surface.setFontSize(BUTTON_FONT_SIZE);
+        buttonPlay.draw(surface);
+        buttonExit.draw(surface);
     }
 
 
     /**
      * Draws the menu background image on the canvas.
-     * @param gc The graphics context to draw on.
+     * @param surface The surface to draw on.
      */
-    public void drawMenuBackgroundImage(GraphicsContext gc) {
-        gc.drawImage(menuBackgroundImage, 0, 0);
+    public void drawMenuBackgroundImage(DrawingSurface surface) {
+        surface.drawImage(menuBackgroundImageName, 0, 0);
     }
 
     /**
      * Renders the menu scene, displaying background, buttons, and text.
-     * @param gc The graphics context to render on.
+     * @param surface The surface to draw on.
      */
     @Override
-    public void render(GraphicsContext gc) {
-        drawMenuBackgroundImage(gc);
-        drawButtons(gc);
+    public void render(DrawingSurface surface) {
+        drawMenuBackgroundImage(surface);
+        drawButtons(surface);
     }
 
     /**
@@ -83,12 +94,17 @@ public class Menu implements SceneMethods {
      */
     @Override
     public void mouseClicked(int x, int y) {
-        if (buttonPlay.getBounds().contains(x, y)) {
-            setGameState(PLAYING);
+        CustomButton button = hitTestGrid.find(x, y);
+        if (button == buttonPlay) {
+            // A game finished before the player went back to the menu starts over with a new word
+            if (hangman.getPlaying().getSession().isFinished())
+                hangman.getPlaying().resetEverything();
+            hangman.getGameStateMachine().setGameState(PLAYING);
             LOGGER.info("Playing scene opened");
-        } else if (buttonExit.getBounds().contains(x, y)) {
+        } else if (button == buttonExit) {
             LOGGER.info("Game exit");
-            System.exit(0);
+            // Exits through Hangman.stop(), which saves the game and closes the journal and the recording
+            Platform.exit();
         }
     }
 
@@ -99,7 +115,6 @@ public class Menu implements SceneMethods {
      */
     @Override
     public void mouseMoved(int x, int y) {
-        buttonPlay.setButtonHovered(buttonPlay.getBounds().contains(x, y));
-        buttonExit.setButtonHovered(buttonExit.getBounds().contains(x, y));
+        hitTestGrid.hover(x, y);
     }
 }
@@ -0,0 +1,71 @@
+package org.example.hangmanjavafx.scenes;
+
+import org.example.hangmanjavafx.Hangman;
+import org.example.hangmanjavafx.engine.GameSession;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Prepares the next round of the playing scene on a background thread while an end scene is shown,
+ * so that Replay only has to swap the prepared round in.
+ * All games share one daemon thread, so games created and dropped by headless runs leave no thread behind.
+ */
+class NextRoundPreparer {
+    private static final Executor EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "round-preparer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Hangman hangman;
+    private final double guessedWordFontSize;
+    private CompletableFuture<PreparedRound> nextRound;
+
+    /**
+     * Creates a preparer for the given game.
+     * @param hangman             The Hangman instance whose words are used.
+     * @param guessedWordFontSize The font size the dotted word is drawn with.
+     */
+    NextRoundPreparer(Hangman hangman, double guessedWordFontSize) {
+        this.hangman = hangman;
+        this.guessedWordFontSize = guessedWordFontSize;
+    }
+
+    /**
+     * Starts preparing the next round unless one is already being prepared.
+     */
+    void prepare() {
+        if (nextRound == null)
+            nextRound = CompletableFuture.supplyAsync(this::createRound, EXECUTOR);
+    }
+
+    /**
+     * Takes the prepared round, or prepares one on the calling thread if none was started.
+     * @return The next round.
+     */
+    PreparedRound take() {
+        CompletableFuture<PreparedRound> round = nextRound;
+        nextRound = null;
+        return round == null ? createRound() : round.join();
+    }
+
+    /**
+     * Picks the word, computes its masks and measures its dotted form.
+     */
+    private PreparedRound createRound() {
+        int wordId = hangman.chooseWordId();
+        GameSession session = new GameSession(hangman.getDictionary().getWord(wordId));
+        String guessedWord = session.getGuessedWord();
+        return new PreparedRound(wordId, session, guessedWord, hangman.getTextMeasurer().measure(guessedWord, guessedWordFontSize).width());
+    }
+
+    /**
+     * A round ready to be played.
+     * @param wordId           The index of the hidden word in the dictionary.
+     * @param session          The new game session.
+     * @param guessedWord      The dotted word of the new session.
+     * @param guessedWordWidth The width of the dotted word.
+     */
+    record PreparedRound(int wordId, GameSession session, String guessedWord, double guessedWordWidth) {
+    }
+}
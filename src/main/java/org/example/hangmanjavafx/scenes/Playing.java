@@ -1,38 +1,48 @@
 package org.example.hangmanjavafx.scenes;
 
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
-import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
-import javafx.scene.text.Text;
 import org.example.hangmanjavafx.Hangman;
+import org.example.hangmanjavafx.engine.GameSession;
+import org.example.hangmanjavafx.engine.GuessResult;
+import org.example.hangmanjavafx.graphics.DrawingSurface;
 import org.example.hangmanjavafx.helperMethods.DownloadSave;
 import org.example.hangmanjavafx.helperMethods.GameData;
+import org.example.hangmanjavafx.helperMethods.GameSnapshot;
 import org.example.hangmanjavafx.main.GameStates;
+import org.example.hangmanjavafx.replay.ReplayRecorder;
+import org.example.hangmanjavafx.solver.CandidateTracker;
 import org.example.hangmanjavafx.ui.CustomButton;
+import org.example.hangmanjavafx.ui.HitTestGrid;
+import org.example.hangmanjavafx.helperMethods.AsyncLogger;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
-import java.util.logging.Logger;
 import static org.example.hangmanjavafx.main.GameStates.MENU;
-import static org.example.hangmanjavafx.main.GameStates.setGameState;
 
 /**
  * Represents the playing scene in the Hangman game.
- * Manages game mechanics such as word selection, guessing,
- * handling button clicks, and updating game state.
+ * Draws the current {@link GameSession} and forwards button clicks to it as guesses.
  */
 public class Playing implements SceneMethods {
     private Hangman hangman;
-    private Image hangmanImage;
+    private String hangmanImageName;
+    private GameSession session;
+    private int wordId;
+    private CandidateTracker candidateTracker;
+    private final NextRoundPreparer nextRoundPreparer;
     private String guessedWord;
+    private double guessedWordWidth;
     private List<CustomButton> letterButtons;
-    private int missCount = 0;
-    private final int MAX_MISS = GameData.MAX_MISS;
+    private final CustomButton[] letterButtonsByKey = new CustomButton[128];
     private int lastMissCount = -1; // Track the last updated miss count
-    private String hiddenWord;
     private CustomButton menuButton;
-    private static final Logger LOGGER = Logger.getLogger(Playing.class.getName());
+    private HitTestGrid hitTestGrid;
+    private static final int HANGMAN_IMAGE_X = 314, HANGMAN_IMAGE_Y = 30;
+    private static final int HANGMAN_IMAGE_WIDTH = 174, HANGMAN_IMAGE_HEIGHT = 301;
+    private static final int GUESSED_WORD_Y = 400;
+    private static final double GUESSED_WORD_FONT_SIZE = 50;
+    private static final double LETTER_BUTTON_FONT_SIZE = 16;
+    private static final char HINT_KEY = '/';
+    private static final int BACKGROUND_COLOR = 0xFFF2F4FA, GUESSED_WORD_COLOR = 0xFF000000;
+    private static final AsyncLogger LOGGER = AsyncLogger.getLogger(Playing.class.getName());
 
     /**
      * Constructor for initializing the playing scene.
@@ -42,11 +52,39 @@ public class Playing implements SceneMethods {
      */
     public Playing(Hangman hangman) {
         this.hangman = hangman;
-        chooseWord();
-        initGuessedWord();
-        guessedWord  = getGuessedWord();
+        this.nextRoundPreparer = new NextRoundPreparer(hangman, GUESSED_WORD_FONT_SIZE);
+        if (!restoreSavedGame())
+            chooseWord();
         initHangmanImage();
         initButtons();
+        disableGuessedButtons();
+    }
+
+    /**
+     * Continues the game saved by the last run, if there is one and it matches the dictionary.
+     * @return true if the saved game was restored.
+     */
+    private boolean restoreSavedGame() {
+        GameSnapshot savedGame = hangman.getGameStore().takeSavedGame();
+        GameSession restored = savedGame == null ? null : savedGame.restore(hangman.getDictionary());
+        if (restored == null)
+            return false;
+        wordId = savedGame.wordId();
+        session = restored;
+        candidateTracker = null;
+        updateGuessedWordText();
+        hangman.getMetrics().gameStarted();
+        recordWord();
+        LOGGER.info("Restored saved game with {0} guesses", restored.getGuessCount());
+        return true;
+    }
+
+    /**
+     * Disables the letter buttons of the letters already guessed in the session.
+     */
+    private void disableGuessedButtons() {
+        for (CustomButton letterButton : letterButtons)
+            letterButton.setEnabled(!session.isLetterGuessed(letterButton.getText().charAt(0)));
     }
 
     /**
@@ -55,6 +93,17 @@ public class Playing implements SceneMethods {
     private void initButtons() {
         initLetterButtons();
         initMenuButton();
+        initHitTestGrid();
+    }
+
+    /**
+     * Registers all buttons of the scene for hit-testing mouse events.
+     */
+    private void initHitTestGrid() {
+        hitTestGrid = new HitTestGrid(hangman.getGameWindow().getWindowWidth(), hangman.getGameWindow().getWindowHeight());
+        hitTestGrid.register(menuButton);
+        for (CustomButton letterButton : letterButtons)
+            hitTestGrid.register(letterButton);
     }
 
     /**
@@ -62,6 +111,7 @@ public class Playing implements SceneMethods {
      */
     private void initMenuButton() {
         menuButton = new CustomButton("Menu", 670,30, 100, 30);
+        menuButton.setDirtyRegions(hangman.getDirtyRegions());
     }
 
     /**
@@ -85,7 +135,10 @@ public class Playing implements SceneMethods {
             CustomButton letterButton = new CustomButton(String.valueOf(letter), x, y, buttonWidth, buttonHeight);
 
             letterButton.setEnabled(true);
+            letterButton.setDirtyRegions(hangman.getDirtyRegions());
             letterButtons.add(letterButton);
+            letterButtonsByKey[letter] = letterButton;
+            letterButtonsByKey[Character.toLowerCase(letter)] = letterButton;
 
             x += buttonWidth + xOffset;
             if ((i + 1) % 13 == 0) {
@@ -96,72 +149,79 @@ public class Playing implements SceneMethods {
     }
 
     /**
-     * Chooses a random word from the list of hidden words.
+     * Starts a new game session with a word prepared by the next round preparer,
+     * or with a word chosen right now if none was prepared.
      */
     private void chooseWord() {
-        Random random = new Random();
-        String[] HIDDEN_WORDS = GameData.HIDDEN_WORDS;
-        int randomWordIndex = random.nextInt(HIDDEN_WORDS.length);
-        hiddenWord = HIDDEN_WORDS[randomWordIndex];
+        NextRoundPreparer.PreparedRound round = nextRoundPreparer.take();
+        wordId = round.wordId();
+        session = round.session();
+        guessedWord = round.guessedWord();
+        guessedWordWidth = round.guessedWordWidth();
+        hangman.getMetrics().gameStarted();
+        candidateTracker = null;
+        recordWord();
     }
 
     /**
-     * Initializes the guessed word with dots representing unguessed letters.
+     * Records the word of the new game if the session is being recorded.
      */
-    private void initGuessedWord() {
-        guessedWord = ".".repeat(hiddenWord.length());
+    private void recordWord() {
+        ReplayRecorder recorder = hangman.getReplayRecorder();
+        if (recorder != null)
+            recorder.recordWord(wordId, session.getGuessedMask());
     }
 
+    /**
+     * Starts preparing the next round in the background, e.g. while an end scene is shown.
+     */
+    public void prepareNextRound() {
+        nextRoundPreparer.prepare();
+    }
 
     /**
-     * Updates the guessed word based on the player's guess.
+     * Applies the player's guess to the game session and switches the scene when the game is finished.
      * @param guess The character guessed by the player.
      * @return true if the guessed letter is found in the hidden word, false otherwise.
      */
     private boolean updateGuessedWord(char guess) {
-        boolean found = false;
-        StringBuilder newGuessedWord = new StringBuilder(guessedWord);
-
-        for (int i = 0; i < hiddenWord.length(); i++)
-            if (hiddenWord.charAt(i) == guess) {
-                newGuessedWord.setCharAt(i, guess);
-                found = true;
-            }
-
-        if (!found) {
-            incrementMissCount();
-            isMissCountMoreThanMaxMiss();
+        long startTime = System.nanoTime();
+        GuessResult result = session.guess(guess);
+        if (result != GuessResult.REPEATED && result != GuessResult.REJECTED) {
+            if (candidateTracker != null)
+                candidateTracker.update(guess, session.getWordMasks().getPositionMask(guess - 'A'));
+            updateGuessedWordText();
+            markGuessedWordDirty();
         }
 
-        guessedWord = newGuessedWord.toString();
-
         disableClickedButton(guess);
-
-        isWordGuessed();
-
-        return found;
-    }
-
-    /**
-     * Checks if the entire word has been guessed correctly.
-     * If true, sets the game state to GAME_WON.
-     */
-    private void isWordGuessed() {
-        if (hiddenWord.equals(guessedWord)) {
-            setGameState(GameStates.GAME_WON);
+        hangman.getMetrics().guessMade(session, guess, result, startTime);
+        ReplayRecorder recorder = hangman.getReplayRecorder();
+        if (recorder != null)
+            recorder.recordGuess(guess, result);
+
+        if (result.isFinal())
+            hangman.getGameStore().recordFinishedGame(wordId, session);
+        if (result != GuessResult.REPEATED && result != GuessResult.REJECTED)
+            hangman.getGameStore().saveGameLater(hangman.getDictionary(), wordId, session);
+
+        if (result == GuessResult.LOST) {
+            hangman.getGameStateMachine().setGameState(GameStates.GAME_OVER);
+            LOGGER.info("Game over scene opened");
+        } else if (result == GuessResult.WON) {
+            hangman.getGameStateMachine().setGameState(GameStates.GAME_WON);
             LOGGER.info("Game won scene opened");
         }
+
+        return result.isHit();
     }
 
     /**
-     * Checks if the miss count exceeds the maximum allowed misses.
-     * If true, sets the game state to GAME_OVER.
+     * Takes the dotted word from the session and measures it once, so drawing it does not allocate.
      */
-    private void isMissCountMoreThanMaxMiss() {
-        if (missCount > MAX_MISS) {
-            setGameState(GameStates.GAME_OVER);
-            LOGGER.info("Game over scene opened");
-        }
+    private void updateGuessedWordText() {
+        guessedWord = session.getGuessedWord();
+        guessedWordWidth = hangman.getTextMeasurer().measure(guessedWord, GUESSED_WORD_FONT_SIZE).width();
     }
 
     /**
@@ -169,111 +229,129 @@ public class Playing implements SceneMethods {
      * @param guess The guessed letter.
      */
     private void disableClickedButton(char guess) {
-        for (CustomButton letterButton: letterButtons)
-            if (letterButton.getText().equals(String.valueOf(guess)))
-                letterButton.setEnabled(false);
+        int letterIndex = GameData.LETTERS.indexOf(guess);
+        if (letterIndex >= 0)
+            letterButtons.get(letterIndex).setEnabled(false);
     }
 
     /**
      * Resets the game state and initializes everything for a new game session.
      */
     public void resetEverything() {
-        initButtons();
+        resetButtons();
         initHangmanImage();
 
         chooseWord();
-        initGuessedWord();
-        missCount = 0;
+        lastMissCount = -1;
+    }
+
+    /**
+     * Enables all letter buttons again and clears the hover state, keeping the existing buttons.
+     */
+    private void resetButtons() {
+        hitTestGrid.clearHover();
+        for (CustomButton letterButton : letterButtons)
+            letterButton.setEnabled(true);
     }
 
     /**
      * Updates the game state when the miss count changes.
      */
     public void update() {
-        if (missCount  != lastMissCount && missCount <= GameData.MAX_MISS) {
-            hangmanImage = DownloadSave.getImage("hangman_" + getMissCount() + ".png");
+        int missCount = getMissCount();
+        if (missCount != lastMissCount && missCount <= session.getMaxMiss()) {
+            hangmanImageName = DownloadSave.getHangmanImageName(missCount);
             lastMissCount = missCount;
+            markHangmanImageDirty();
         }
     }
 
+    /**
+     * Marks the area of the guessed word as changed.
+     */
+    private void markGuessedWordDirty() {
+        hangman.getDirtyRegions().markDirty(0, GUESSED_WORD_Y - 60, hangman.getGameWindow().getWindowWidth(), 80);
+    }
+
+    /**
+     * Marks the area of the hangman image as changed.
+     * All hangman images have the same size.
+     */
+    private void markHangmanImageDirty() {
+        hangman.getDirtyRegions().markDirty(HANGMAN_IMAGE_X, HANGMAN_IMAGE_Y, HANGMAN_IMAGE_WIDTH, HANGMAN_IMAGE_HEIGHT);
+    }
+
     /**
      * Initializes the hangman image at the beginning of the game.
      */
     private void initHangmanImage() {
-        hangmanImage = DownloadSave.getImage("hangman_0.png");
+        hangmanImageName = DownloadSave.getHangmanImageName(0);
     }
 
     /**
      * Renders the playing scene by drawing the hangman image, guessed word,
      * letter buttons, and menu button on the canvas.
-     * @param gc The graphics context used for rendering.
+     * @param surface The surface to draw on.
      */
     @Override
-    public void render(GraphicsContext gc) {
-        gc.setFill(Color.rgb(242, 244, 250));
-        gc.fillRect(0, 0, hangman.getGameWindow().getWindowWidth(), hangman.getGameWindow().getWindowHeight());
-        drawHangmanImage(gc);
-        drawGuessedWord(gc);
-        drawButtons(gc);
+    public void render(DrawingSurface surface) {
+        surface.setFill(BACKGROUND_COLOR);
+        surface.fillRect(0, 0, hangman.getGameWindow().getWindowWidth(), hangman.getGameWindow().getWindowHeight());
+        drawHangmanImage(surface);
+        drawGuessedWord(surface);
+        drawButtons(surface);
     }
 
     /**
      * Draws the letter buttons on the playing scene.
-     * @param gc The graphics context used for rendering.
+     * @param surface The surface to draw on.
      */
-    private void drawButtons(GraphicsContext gc) {
-        drawLetterButtons(gc);
-        drawMenuButton(gc);
+    private void drawButtons(DrawingSurface surface) {
+        drawLetterButtons(surface);
+        drawMenuButton(surface);
     }
 
     /**
      * Draws the menu button on the playing scene.
-     * @param gc The graphics context used for rendering.
+     * @param surface The surface to draw on.
      */
-    private void drawMenuButton(GraphicsContext gc) {
-        menuButton.draw(gc);
+    private void drawMenuButton(DrawingSurface surface) {
+        menuButton.draw(surface);
     }
 
     /**
      * Draws the letter buttons on the playing scene.
-     * @param gc The graphics context used for rendering.
+     * @param surface The surface to draw on.
      */
-    private void drawLetterButtons(GraphicsContext gc) {
-        for (CustomButton button : letterButtons) {
-            gc.setFill(Color.WHITE);
-            gc.setFont(Font.font(16));
-            button.draw(gc);
-        }
+    private void drawLetterButtons(DrawingSurface surface) {
+        surface.setFontSize(LETTER_BUTTON_FONT_SIZE);
+        for (CustomButton button : letterButtons)
+            button.draw(surface);
     }
 
     /**
      * Draws the hangman image on the playing scene.
-     * @param gc The graphics context used for rendering.
+     * @param surface The surface to draw on.
      */
-    private void drawHangmanImage(GraphicsContext gc) {
-        gc.drawImage(hangmanImage, 314, 30);
+    private void drawHangmanImage(DrawingSurface surface) {
+        surface.drawImage(hangmanImageName, HANGMAN_IMAGE_X, HANGMAN_IMAGE_Y);
     }
 
 
     /**
      * Draws the guessed word on the playing scene.
-     * @param gc The graphics context used for rendering.
+     * @param surface The surface to draw on.
      */
-    private void drawGuessedWord(GraphicsContext gc) {
+    private void drawGuessedWord(DrawingSurface surface) {
         if (guessedWord != null) {
-            gc.setFont(Font.font(50));
-            gc.setFill(Color.BLACK);
-
-            // Create a Text object to measure the width of the guessed word
-            Text text = new Text(guessedWord);
-            text.setFont(Font.font(50));
-            double textWidth = text.getLayoutBounds().getWidth();
+            surface.setFontSize(GUESSED_WORD_FONT_SIZE);
+            surface.setFill(GUESSED_WORD_COLOR);
 
             // Calculate the x position to center the text
-            double x = (hangman.getGameWindow().getWindowWidth() - textWidth) / 2;
-            double y = 400;
+            double x = (hangman.getGameWindow().getWindowWidth() - guessedWordWidth) / 2;
+            double y = GUESSED_WORD_Y;
 
-            gc.fillText(guessedWord, x, y);
+            surface.fillText(guessedWord, x, y);
         }
     }
 
@@ -285,23 +363,55 @@ public class Playing implements SceneMethods {
      */
     @Override
     public void mouseClicked(int x, int y) {
-        if (menuButton.getBounds().contains(x, y))
-            setGameState(MENU);
-
-        for (CustomButton letterButton: letterButtons)
-            if (letterButton.getBounds().contains(x, y) && letterButton.isEnabled()) {
-                char guessedLetter = letterButton.getText().charAt(0);
-                if (updateGuessedWord(guessedLetter)) {
-                    guessedWord = getGuessedWord();
-                    LOGGER.info("Letter: " + guessedLetter + " was clicked");
-
-                    letterButton.setEnabled(false);
-                } else
-                    LOGGER.info("Letter" + guessedLetter + " was incorrect");
-            } else {
-                // when button is disabled we click on it
-            }
+        CustomButton button = hitTestGrid.find(x, y);
+        if (button == null || !button.isEnabled())
+            return;
+
+        if (button == menuButton)
+            hangman.getGameStateMachine().setGameState(MENU);
+        else
+            guessLetter(button);
+    }
+
+    /**
+     * Handles key presses on the playing scene.
+     * A letter key guesses the letter, exactly like clicking its button. The slash key (/) shows a hint.
+     * @param key The character of the pressed key.
+     */
+    @Override
+    public void keyPressed(char key) {
+        if (key == HINT_KEY) {
+            showHint();
+            return;
+        }
+        CustomButton button = key < letterButtonsByKey.length ? letterButtonsByKey[key] : null;
+        if (button != null && button.isEnabled())
+            guessLetter(button);
+    }
 
+    /**
+     * Points at the button of the suggested letter by hovering it.
+     */
+    private void showHint() {
+        char hint = getHint();
+        if (hint == 0) {
+            LOGGER.info("No hint, the word is not in the dictionary");
+            return;
+        }
+        hitTestGrid.setHoveredButton(letterButtonsByKey[hint]);
+        LOGGER.info("Hint: {0}", hint);
+    }
+
+    /**
+     * Guesses the letter of a letter button.
+     * @param letterButton The letter button that was clicked or typed.
+     */
+    private void guessLetter(CustomButton letterButton) {
+        char guessedLetter = letterButton.getText().charAt(0);
+        if (updateGuessedWord(guessedLetter))
+            LOGGER.info("Letter: {0} was clicked", guessedLetter);
+        else
+            LOGGER.info("Letter {0} was incorrect", guessedLetter);
     }
 
     /**
@@ -312,22 +422,35 @@ public class Playing implements SceneMethods {
      */
     @Override
     public void mouseMoved(int x, int y) {
-        menuButton.setButtonHovered(menuButton.getBounds().contains(x, y));
+        hitTestGrid.hover(x, y);
+    }
 
-        for (CustomButton letterButton: letterButtons)
-            letterButton.setButtonHovered(letterButton.getBounds().contains(x, y));
+    /**
+     * Suggests the next letter to guess.
+     * The candidate words are tracked from the first hint of a game on and narrowed with every guess after it,
+     * so games without hints never build the word index, and only the first hint scans the words of the length.
+     * @return The suggested letter, or 0 if the hidden word is not in the dictionary.
+     */
+    public char getHint() {
+        if (candidateTracker == null)
+            candidateTracker = CandidateTracker.forSession(hangman.getWordIndex(), session);
+        return candidateTracker.bestGuess();
     }
 
     // Getters
-    private int getMissCount() {
-        return missCount;
+    public GameSession getSession() {
+        return session;
     }
 
-    private String getGuessedWord() {
-        return guessedWord;
+    /**
+     * Returns the index of the hidden word in the dictionary.
+     * @return The word id.
+     */
+    public int getWordId() {
+        return wordId;
     }
 
-    private void incrementMissCount() {
-        this.missCount++;
+    private int getMissCount() {
+        return session.getMissCount();
     }
 }
@@ -1,12 +1,32 @@
 package org.example.hangmanjavafx.scenes;
 
-import javafx.scene.canvas.GraphicsContext;
+import org.example.hangmanjavafx.graphics.DrawingSurface;
 
 /**
  * Defines methods required for managing scenes in a game.
  */
 public interface SceneMethods {
-    public void render(GraphicsContext gc);
+    public void render(DrawingSurface surface);
     public void mouseClicked(int x, int y);
     public void mouseMoved(int x, int y);
+
+    /**
+     * Called when the scene becomes the active scene, before it handles any event.
+     * Scenes may load their resources here instead of in the constructor.
+     */
+    public default void onEnter() {
+    }
+
+    /**
+     * Called when another scene becomes the active scene.
+     */
+    public default void onExit() {
+    }
+
+    /**
+     * Handles a key press. Scenes without keyboard controls ignore it.
+     * @param key The character of the pressed key.
+     */
+    public default void keyPressed(char key) {
+    }
 }
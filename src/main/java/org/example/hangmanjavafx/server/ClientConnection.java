@@ -0,0 +1,160 @@
+package org.example.hangmanjavafx.server;
+
+import org.example.hangmanjavafx.engine.GameSession;
+import org.example.hangmanjavafx.engine.GuessResult;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.random.RandomGenerator;
+
+/**
+ * One client of {@link HangmanServer} with its game session.
+ * Owned by a single server loop thread, so it needs no synchronization.
+ * Requests are only read while the pending responses leave room for another one, so a client
+ * that does not read its responses is throttled instead of filling the server's memory.
+ */
+class ClientConnection {
+    private static final int OUTPUT_SIZE = 8 * 1024;
+    private final HangmanServer server;
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final RandomGenerator random;
+    private final ByteBuffer input = ByteBuffer.allocate(GameProtocol.MAX_LINE_LENGTH * 4);
+    private final ByteBuffer output = ByteBuffer.allocate(OUTPUT_SIZE);
+    private GameSession session;
+    private boolean closing;
+
+    /**
+     * Creates the connection of an accepted client.
+     * @param server  The server the client is connected to.
+     * @param channel The client's channel, non-blocking.
+     * @param key     The key of the channel in the loop's selector.
+     * @param random  The random generator of the loop, used to pick words.
+     */
+    ClientConnection(HangmanServer server, SocketChannel channel, SelectionKey key, RandomGenerator random) {
+        this.server = server;
+        this.channel = channel;
+        this.key = key;
+        this.random = random;
+    }
+
+    /**
+     * Reads the available bytes, answers every complete request and sends the responses.
+     * @throws IOException If the channel fails.
+     */
+    void onReadable() throws IOException {
+        if (channel.read(input) < 0) {
+            close();
+            return;
+        }
+        processInput();
+        flush();
+    }
+
+    /**
+     * Sends pending responses and goes on with requests that were held back.
+     * @throws IOException If the channel fails.
+     */
+    void onWritable() throws IOException {
+        flush();
+        if (output.position() == 0 && !closing) {
+            processInput();
+            flush();
+        }
+    }
+
+    /**
+     * Answers the complete request lines in the input buffer while there is room for the responses.
+     */
+    private void processInput() {
+        input.flip();
+        byte[] bytes = input.array();
+        boolean lineIncomplete = false;
+        while (!closing && output.remaining() >= GameProtocol.MAX_RESPONSE_LENGTH) {
+            int start = input.position();
+            int lineBreak = indexOfLineBreak(bytes, start, input.limit());
+            if (lineBreak < 0) {
+                lineIncomplete = true;
+                break;
+            }
+            int end = lineBreak > start && bytes[lineBreak - 1] == '\r' ? lineBreak - 1 : lineBreak;
+            handleLine(bytes, start, end);
+            input.position(lineBreak + 1);
+        }
+        input.compact();
+        if (lineIncomplete && !input.hasRemaining() && !closing) {
+            GameProtocol.writeError(output, "Line too long");
+            closing = true;
+        }
+    }
+
+    private static int indexOfLineBreak(byte[] bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == '\n')
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Answers one request.
+     */
+    private void handleLine(byte[] line, int start, int end) {
+        if (GameProtocol.matches(line, start, end, GameProtocol.GUESS, false) && end - start == GameProtocol.GUESS.length + 1) {
+            if (session == null) {
+                GameProtocol.writeError(output, "No game");
+                return;
+            }
+            GuessResult result = session.guess((char) line[end - 1]);
+            server.guessMade(result);
+            GameProtocol.writeState(output, result.name(), session);
+        } else if (GameProtocol.matches(line, start, end, GameProtocol.NEW, true)) {
+            session = server.newSession(random);
+            GameProtocol.writeState(output, GameProtocol.OK, session);
+        } else if (GameProtocol.matches(line, start, end, GameProtocol.STATE, true)) {
+            if (session == null)
+                GameProtocol.writeError(output, "No game");
+            else
+                GameProtocol.writeState(output, GameProtocol.OK, session);
+        } else if (GameProtocol.matches(line, start, end, GameProtocol.QUIT, true))
+            closing = true;
+        else
+            GameProtocol.writeError(output, "Unknown command");
+    }
+
+    /**
+     * Writes as much of the pending output as the socket takes, and waits for the socket
+     * to be writable instead of readable while some of it is left.
+     */
+    private void flush() throws IOException {
+        if (!key.isValid())
+            return;
+        output.flip();
+        if (output.hasRemaining())
+            channel.write(output);
+        output.compact();
+
+        if (output.position() > 0)
+            key.interestOps(SelectionKey.OP_WRITE);
+        else if (closing)
+            close();
+        else
+            key.interestOps(SelectionKey.OP_READ);
+    }
+
+    /**
+     * Closes the connection.
+     */
+    void close() {
+        if (!key.isValid())
+            return;
+        key.cancel();
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // The connection is gone either way
+        }
+        server.connectionClosed();
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.hangmanjavafx.server;
+
+import org.example.hangmanjavafx.engine.GameSession;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The line protocol spoken by {@link HangmanServer}. Every request and response is one line of ASCII ending with '\n'.
+ * <pre>
+ * NEW          starts a new game        -> OK dotted missCount maxMiss status
+ * GUESS letter guesses a letter         -> RESULT dotted missCount maxMiss status
+ * STATE        repeats the game state   -> OK dotted missCount maxMiss status
+ * QUIT         closes the connection
+ * </pre>
+ * RESULT is a {@link org.example.hangmanjavafx.engine.GuessResult} name and status a
+ * {@link org.example.hangmanjavafx.engine.GameStatus} name; a finished game also sends the hidden word
+ * at the end of the line. Errors are answered with {@code ERROR message}.
+ * Requests are matched and responses written directly on byte buffers, so serving a request does not allocate.
+ */
+public final class GameProtocol {
+    public static final int DEFAULT_PORT = 7777;
+    public static final int MAX_LINE_LENGTH = 64;
+    public static final int MAX_RESPONSE_LENGTH = 192;
+    static final byte[] NEW = ascii("NEW");
+    static final byte[] GUESS = ascii("GUESS ");
+    static final byte[] STATE = ascii("STATE");
+    static final byte[] QUIT = ascii("QUIT");
+    static final String OK = "OK";
+    static final String ERROR = "ERROR";
+
+    private GameProtocol() {
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Checks if a line starts with a command.
+     * @param line    The buffer holding the line.
+     * @param start   The index of the first byte of the line.
+     * @param end     The index after the last byte of the line, without the line break.
+     * @param command The command.
+     * @param exact   true if the line must be the command and nothing else.
+     * @return true if the line matches the command.
+     */
+    static boolean matches(byte[] line, int start, int end, byte[] command, boolean exact) {
+        int length = end - start;
+        if (exact ? length != command.length : length < command.length)
+            return false;
+        for (int i = 0; i < command.length; i++) {
+            if (line[start + i] != command[i])
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Writes the state of a game as one response line.
+     * @param output  The buffer the line is written to; needs {@link #MAX_RESPONSE_LENGTH} bytes of room.
+     * @param result  The first word of the line.
+     * @param session The game session.
+     */
+    static void writeState(ByteBuffer output, String result, GameSession session) {
+        putAscii(output, result);
+        output.put((byte) ' ');
+        putAscii(output, session.getGuessedWord());
+        output.put((byte) ' ');
+        putInt(output, session.getMissCount());
+        output.put((byte) ' ');
+        putInt(output, session.getMaxMiss());
+        output.put((byte) ' ');
+        putAscii(output, session.getStatus().name());
+        if (session.isFinished()) {
+            output.put((byte) ' ');
+            putAscii(output, session.getHiddenWord());
+        }
+        output.put((byte) '\n');
+    }
+
+    /**
+     * Writes an error as one response line.
+     * @param output  The buffer the line is written to.
+     * @param message The error message.
+     */
+    static void writeError(ByteBuffer output, String message) {
+        putAscii(output, ERROR);
+        output.put((byte) ' ');
+        putAscii(output, message);
+        output.put((byte) '\n');
+    }
+
+    /**
+     * Writes a request line.
+     * @param output  The buffer the line is written to.
+     * @param command The command, e.g. "NEW" or "GUESS E".
+     */
+    public static void writeRequest(ByteBuffer output, String command) {
+        putAscii(output, command);
+        output.put((byte) '\n');
+    }
+
+    private static void putAscii(ByteBuffer output, String text) {
+        for (int i = 0; i < text.length(); i++)
+            output.put((byte) text.charAt(i));
+    }
+
+    private static void putInt(ByteBuffer output, int value) {
+        if (value >= 10)
+            putInt(output, value / 10);
+        output.put((byte) ('0' + value % 10));
+    }
+}
@@ -0,0 +1,238 @@
+package org.example.hangmanjavafx.server;
+
+import org.example.hangmanjavafx.dictionary.ArrayDictionary;
+import org.example.hangmanjavafx.dictionary.MappedDictionary;
+import org.example.hangmanjavafx.dictionary.WordDictionary;
+import org.example.hangmanjavafx.engine.GameSession;
+import org.example.hangmanjavafx.engine.GuessResult;
+import org.example.hangmanjavafx.helperMethods.GameData;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.random.RandomGenerator;
+
+/**
+ * Hosts hangman games for remote clients over TCP, speaking the {@link GameProtocol} line protocol.
+ * Every client has its own {@link GameSession} with the rules of {@link org.example.hangmanjavafx.scenes.Playing}.
+ * Connections are served by a few selector loops, each on its own thread, so thousands of idle or busy
+ * clients cost a few buffers each instead of a thread each. All loops accept from the same server socket;
+ * a connection stays on the loop that accepted it, so its session is only touched by one thread.
+ * No JavaFX toolkit is started.
+ * <p>
+ * Usage: {@code HangmanServer [--host 127.0.0.1] [--port 7777] [--threads T] [--max-miss M] [--dictionary words.dict]}
+ */
+public class HangmanServer implements Closeable {
+    private static final int REPORT_INTERVAL_MILLIS = 10_000;
+    private static final Logger LOGGER = Logger.getLogger(HangmanServer.class.getName());
+    private final WordDictionary dictionary;
+    private final int maxMiss;
+    private final List<ServerLoop> loops = new ArrayList<>();
+    private final LongAdder connections = new LongAdder();
+    private final LongAdder games = new LongAdder();
+    private final LongAdder guesses = new LongAdder();
+    private final LongAdder finishedGames = new LongAdder();
+    private ServerSocketChannel serverChannel;
+    private volatile boolean running;
+
+    /**
+     * Creates a server.
+     * @param dictionary The words games are played with.
+     * @param maxMiss    The number of misses allowed per game.
+     */
+    public HangmanServer(WordDictionary dictionary, int maxMiss) {
+        this.dictionary = dictionary;
+        this.maxMiss = maxMiss;
+    }
+
+    /**
+     * Binds the server socket and starts the selector loops.
+     * @param address The address to listen on; port 0 picks a free port.
+     * @param threads The number of selector loops.
+     * @return The address the server listens on.
+     * @throws IOException If the socket cannot be bound.
+     */
+    public InetSocketAddress start(InetSocketAddress address, int threads) throws IOException {
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(address, 1024);
+        serverChannel.configureBlocking(false);
+        running = true;
+        for (int i = 0; i < Math.max(threads, 1); i++) {
+            ServerLoop loop = new ServerLoop(Selector.open(), new SplittableRandom());
+            serverChannel.register(loop.selector, SelectionKey.OP_ACCEPT);
+            loops.add(loop);
+            Thread thread = new Thread(loop, "hangman-server-" + i);
+            thread.start();
+        }
+        return (InetSocketAddress) serverChannel.getLocalAddress();
+    }
+
+    /**
+     * Stops the selector loops and closes all connections.
+     * @throws IOException If the server socket cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        for (ServerLoop loop : loops)
+            loop.selector.wakeup();
+        if (serverChannel != null)
+            serverChannel.close();
+    }
+
+    /**
+     * Starts a game with a random word.
+     * @param random The random generator of the calling loop.
+     * @return The new session.
+     */
+    GameSession newSession(RandomGenerator random) {
+        games.increment();
+        return new GameSession(dictionary.getWord(dictionary.randomWordId(random)), maxMiss);
+    }
+
+    void guessMade(GuessResult result) {
+        guesses.increment();
+        if (result.isFinal())
+            finishedGames.increment();
+    }
+
+    void connectionClosed() {
+        connections.decrement();
+    }
+
+    /**
+     * Accepts, reads and writes the connections registered with one selector.
+     */
+    private class ServerLoop implements Runnable {
+        private final Selector selector;
+        private final SplittableRandom random;
+
+        ServerLoop(Selector selector, SplittableRandom random) {
+            this.selector = selector;
+            this.random = random;
+        }
+
+        @Override
+        public void run() {
+            try (selector) {
+                while (running) {
+                    selector.select();
+                    Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext()) {
+                        SelectionKey key = keys.next();
+                        keys.remove();
+                        handle(key);
+                    }
+                }
+                for (SelectionKey key : selector.keys()) {
+                    if (key.attachment() instanceof ClientConnection connection)
+                        connection.close();
+                }
+            } catch (IOException e) {
+                LOGGER.log(Level.SEVERE, "Server loop failed", e);
+            }
+        }
+
+        private void handle(SelectionKey key) {
+            if (!key.isValid())
+                return;
+            if (key.isAcceptable()) {
+                accept();
+                return;
+            }
+            ClientConnection connection = (ClientConnection) key.attachment();
+            try {
+                if (key.isReadable())
+                    connection.onReadable();
+                else if (key.isWritable())
+                    connection.onWritable();
+            } catch (IOException e) {
+                connection.close();
+            }
+        }
+
+        /**
+         * Accepts a waiting connection, unless another loop was faster.
+         */
+        private void accept() {
+            try {
+                SocketChannel channel = serverChannel.accept();
+                if (channel == null)
+                    return;
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+                key.attach(new ClientConnection(HangmanServer.this, channel, key, random));
+                connections.increment();
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Error accepting connection", e);
+            }
+        }
+    }
+
+    // Getters
+    public long getConnectionCount() {
+        return connections.sum();
+    }
+
+    public long getGameCount() {
+        return games.sum();
+    }
+
+    public long getFinishedGameCount() {
+        return finishedGames.sum();
+    }
+
+    public long getGuessCount() {
+        return guesses.sum();
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String host = "127.0.0.1";
+        int port = GameProtocol.DEFAULT_PORT;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int maxMiss = GameData.MAX_MISS;
+        String dictionaryPath = null;
+
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--host" -> host = value;
+                case "--port" -> port = Integer.parseInt(value);
+                case "--threads" -> threads = Integer.parseInt(value);
+                case "--max-miss" -> maxMiss = Integer.parseInt(value);
+                case "--dictionary" -> dictionaryPath = value;
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+            i++;
+        }
+
+        WordDictionary dictionary = dictionaryPath == null ? new ArrayDictionary() : new MappedDictionary(Path.of(dictionaryPath));
+        HangmanServer server = new HangmanServer(dictionary, maxMiss);
+        InetSocketAddress address = server.start(new InetSocketAddress(host, port), threads);
+        LOGGER.info("Hangman server listening on " + address + " with " + threads + " threads");
+
+        long lastGuesses = 0;
+        while (true) {
+            Thread.sleep(REPORT_INTERVAL_MILLIS);
+            long guessCount = server.getGuessCount();
+            LOGGER.info(String.format(Locale.ROOT, "%d sessions, %d games, %.0f guesses/s",
+                    server.getConnectionCount(), server.getGameCount(),
+                    (guessCount - lastGuesses) * 1000.0 / REPORT_INTERVAL_MILLIS));
+            lastGuesses = guessCount;
+        }
+    }
+}
@@ -0,0 +1,351 @@
+package org.example.hangmanjavafx.server;
+
+import org.example.hangmanjavafx.main.FrameTimeHistogram;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Plays games against a {@link HangmanServer} from many connections at once and reports the guess round-trip latency.
+ * Every worker thread drives its share of the connections with a selector, with at most one request in flight
+ * per connection. Letters are guessed in order of their frequency in English. Latencies recorded during
+ * the warm-up are discarded, and the report includes the number of requests actually in flight, sampled
+ * during the measurement.
+ * <p>
+ * Without a rate, each connection sends its next request as soon as the response arrives (closed loop), so every
+ * session always has a request in flight. With {@code --rate}, requests are sent on a fixed schedule spread over
+ * all connections (open loop), and latency is measured from the time a request was due, not from the time it
+ * was sent. A server that falls behind then shows in the latency instead of silently slowing the generator down.
+ * <p>
+ * Usage: {@code LoadGenerator [--host 127.0.0.1] [--port 7777] [--clients C] [--threads T] [--rate R]
+ * [--warmup S] [--duration S]}, R the total requests per second.
+ */
+public class LoadGenerator {
+    private static final String GUESS_ORDER = "ETAOINSHRDLUCMWFGYPBVKJXQZ";
+    private static final byte[] NEW_REQUEST = "NEW\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[][] GUESS_REQUESTS = initGuessRequests();
+    private static final long SAMPLE_INTERVAL_MILLIS = 100;
+    private static final long IDLE_SELECT_MILLIS = 100;
+    private static final Logger LOGGER = Logger.getLogger(LoadGenerator.class.getName());
+    private final FrameTimeHistogram latencies = new FrameTimeHistogram();
+    private final LongAdder guesses = new LongAdder();
+    private final LongAdder games = new LongAdder();
+    private final LongAdder inFlight = new LongAdder();
+    private final AtomicReference<IOException> failure = new AtomicReference<>();
+    private volatile boolean measuring;
+    private volatile boolean running = true;
+
+    private static byte[][] initGuessRequests() {
+        byte[][] requests = new byte[GUESS_ORDER.length()][];
+        for (int i = 0; i < requests.length; i++)
+            requests[i] = ("GUESS " + GUESS_ORDER.charAt(i) + "\n").getBytes(StandardCharsets.US_ASCII);
+        return requests;
+    }
+
+    /**
+     * Connects the clients, plays until the duration is over and reports the results.
+     * @param address         The address of the server.
+     * @param clients         The number of connections, each with its own game session.
+     * @param threads         The number of worker threads.
+     * @param rate            The total requests per second of the open-loop schedule, or 0 for a closed loop.
+     * @param warmupSeconds   The time before latencies are recorded.
+     * @param durationSeconds The time latencies are recorded.
+     * @throws IOException          If a connection fails, in a worker thread or while connecting.
+     * @throws InterruptedException If the calling thread is interrupted while waiting.
+     */
+    public void run(InetSocketAddress address, int clients, int threads, double rate, int warmupSeconds, int durationSeconds)
+            throws IOException, InterruptedException {
+        threads = Math.max(1, Math.min(threads, clients));
+        // Every connection sends one request per interval, so together they send the requested rate
+        long interval = rate > 0 ? (long) (clients * 1_000_000_000.0 / rate) : 0;
+        long firstSend = System.nanoTime();
+        List<Worker> workers = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++)
+                workers.add(new Worker(interval));
+            for (int i = 0; i < clients; i++)
+                workers.get(i % threads).connect(address, firstSend + (interval == 0 ? 0 : interval * i / clients));
+
+            List<Thread> workerThreads = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                Thread thread = new Thread(workers.get(i), "load-generator-" + i);
+                thread.start();
+                workerThreads.add(thread);
+            }
+
+            awaitUnlessFailed(TimeUnit.SECONDS.toMillis(warmupSeconds));
+            latencies.reset();
+            guesses.reset();
+            games.reset();
+            measuring = true;
+            long start = System.nanoTime();
+            long end = start + TimeUnit.SECONDS.toNanos(durationSeconds);
+            long inFlightSum = 0, inFlightMin = Long.MAX_VALUE, samples = 0;
+            while (System.nanoTime() < end && failure.get() == null) {
+                awaitUnlessFailed(SAMPLE_INTERVAL_MILLIS);
+                long sessions = inFlight.sum();
+                inFlightSum += sessions;
+                inFlightMin = Math.min(inFlightMin, sessions);
+                samples++;
+            }
+            measuring = false;
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            running = false;
+            for (Worker worker : workers)
+                worker.selector.wakeup();
+            for (Thread thread : workerThreads)
+                thread.join();
+
+            IOException workerFailure = failure.get();
+            if (workerFailure != null)
+                throw new IOException("Load generator stopped after a connection failed", workerFailure);
+            LOGGER.info(String.format(Locale.ROOT,
+                    "%d sessions on %d threads, %s: %.0f requests in flight on average (min %d), %.0f guesses/s, %.0f games/s,"
+                            + " round trip p50 %.1f us, p99 %.1f us, max %.1f us",
+                    clients, threads, rate > 0 ? String.format(Locale.ROOT, "open loop at %.0f requests/s", rate) : "closed loop",
+                    (double) inFlightSum / Math.max(samples, 1), samples == 0 ? 0 : inFlightMin,
+                    guesses.sum() / seconds, games.sum() / seconds,
+                    latencies.getP50() / 1000.0, latencies.getP99() / 1000.0, latencies.getMax() / 1000.0));
+        } finally {
+            running = false;
+            for (Worker worker : workers)
+                worker.close();
+        }
+    }
+
+    /**
+     * Waits for the given time, returning early if a worker failed.
+     */
+    private void awaitUnlessFailed(long millis) throws InterruptedException {
+        long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        long remaining;
+        while (failure.get() == null && (remaining = end - System.nanoTime()) > 0)
+            Thread.sleep(Math.min(TimeUnit.NANOSECONDS.toMillis(remaining) + 1, SAMPLE_INTERVAL_MILLIS));
+    }
+
+    /**
+     * Drives a share of the connections from one thread. In the open loop, connections wait in a queue
+     * ordered by the time their next request is due.
+     */
+    private class Worker implements Runnable {
+        private final Selector selector;
+        private final long interval;
+        private final List<Client> clients = new ArrayList<>();
+        private final PriorityQueue<Client> schedule = new PriorityQueue<>(Comparator.comparingLong(client -> client.dueTime));
+
+        Worker(long interval) throws IOException {
+            this.selector = Selector.open();
+            this.interval = interval;
+        }
+
+        void connect(InetSocketAddress address, long firstDueTime) throws IOException {
+            Client client = new Client(address);
+            client.key = client.channel.register(selector, 0, client);
+            client.dueTime = firstDueTime;
+            clients.add(client);
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (Client client : clients) {
+                    if (interval == 0)
+                        send(client, System.nanoTime());
+                    else
+                        schedule.add(client);
+                }
+                while (running) {
+                    select();
+                    for (SelectionKey key : selector.selectedKeys()) {
+                        Client client = (Client) key.attachment();
+                        if (key.isWritable())
+                            client.flush();
+                        if (key.isReadable() && client.readResponse())
+                            responseReceived(client);
+                    }
+                    selector.selectedKeys().clear();
+                    long now = System.nanoTime();
+                    while (!schedule.isEmpty() && schedule.peek().dueTime <= now) {
+                        Client client = schedule.poll();
+                        send(client, client.dueTime);
+                    }
+                }
+            } catch (IOException e) {
+                failure.compareAndSet(null, e);
+                running = false;
+            }
+        }
+
+        /**
+         * Waits for responses, but not beyond the time the next scheduled request is due.
+         * The selector waits in whole milliseconds, so a request may be sent up to about a millisecond late;
+         * spinning instead would take the CPU from the server when both run on the same machine.
+         */
+        private void select() throws IOException {
+            if (schedule.isEmpty()) {
+                selector.select(IDLE_SELECT_MILLIS);
+                return;
+            }
+            long wait = schedule.peek().dueTime - System.nanoTime();
+            if (wait > 0)
+                selector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(wait)));
+            else
+                selector.selectNow();
+        }
+
+        /**
+         * Sends the next request of a client.
+         * @param dueTime The time the request was due, which its latency is measured from.
+         */
+        private void send(Client client, long dueTime) throws IOException {
+            client.dueTime = dueTime;
+            if (client.nextGuess < 0) {
+                client.guessing = false;
+                client.nextGuess = 0;
+                client.write(NEW_REQUEST);
+            } else {
+                client.guessing = true;
+                client.write(GUESS_REQUESTS[client.nextGuess++]);
+            }
+            inFlight.increment();
+        }
+
+        private void responseReceived(Client client) throws IOException {
+            long now = System.nanoTime();
+            inFlight.decrement();
+            if (client.guessing) {
+                if (measuring) {
+                    latencies.record(now - client.dueTime);
+                    guesses.increment();
+                }
+                // WON or LOST ends the game
+                byte first = client.input.get(0);
+                if (first == 'W' || first == 'L' || client.nextGuess == GUESS_REQUESTS.length) {
+                    client.nextGuess = -1;
+                    if (measuring)
+                        games.increment();
+                }
+            }
+            client.input.clear();
+
+            if (interval == 0)
+                send(client, now);
+            else {
+                client.dueTime += interval;
+                schedule.add(client);
+            }
+        }
+
+        void close() {
+            for (Client client : clients) {
+                try {
+                    client.channel.close();
+                } catch (IOException e) {
+                    // Closing after the run; nothing left to report
+                }
+            }
+            try {
+                selector.close();
+            } catch (IOException e) {
+                // Same as above
+            }
+        }
+    }
+
+    /**
+     * One non-blocking connection to the server with at most one request in flight.
+     */
+    private static class Client {
+        private final SocketChannel channel;
+        private final ByteBuffer input = ByteBuffer.allocate(GameProtocol.MAX_RESPONSE_LENGTH * 2);
+        private final ByteBuffer output = ByteBuffer.allocate(GameProtocol.MAX_LINE_LENGTH);
+        private SelectionKey key;
+        private int nextGuess = -1;
+        private boolean guessing;
+        private long dueTime;
+
+        Client(InetSocketAddress address) throws IOException {
+            channel = SocketChannel.open(address);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            channel.configureBlocking(false);
+        }
+
+        /**
+         * Starts sending a request, waiting for the channel to become writable if it does not fit at once,
+         * and then for the response.
+         */
+        void write(byte[] request) throws IOException {
+            output.clear();
+            output.put(request).flip();
+            flush();
+        }
+
+        void flush() throws IOException {
+            channel.write(output);
+            key.interestOps(output.hasRemaining() ? SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+        }
+
+        /**
+         * Reads what the server sent.
+         * @return true if the response line is complete.
+         */
+        boolean readResponse() throws IOException {
+            int start = input.position();
+            if (channel.read(input) < 0)
+                throw new EOFException("Server closed the connection");
+            for (int i = start; i < input.position(); i++) {
+                if (input.get(i) == '\n') {
+                    if (input.get(0) == 'E')
+                        throw new IOException("Server error: " + new String(input.array(), 0, i, StandardCharsets.US_ASCII));
+                    key.interestOps(0);
+                    return true;
+                }
+            }
+            if (!input.hasRemaining())
+                throw new IOException("Response longer than " + input.capacity() + " bytes");
+            return false;
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String host = "127.0.0.1";
+        int port = GameProtocol.DEFAULT_PORT;
+        int clients = 1000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        double rate = 0;
+        int warmupSeconds = 2;
+        int durationSeconds = 10;
+
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--host" -> host = value;
+                case "--port" -> port = Integer.parseInt(value);
+                case "--clients" -> clients = Integer.parseInt(value);
+                case "--threads" -> threads = Integer.parseInt(value);
+                case "--rate" -> rate = Double.parseDouble(value);
+                case "--warmup" -> warmupSeconds = Integer.parseInt(value);
+                case "--duration" -> durationSeconds = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+            i++;
+        }
+
+        new LoadGenerator().run(new InetSocketAddress(host, port), clients, threads, rate, warmupSeconds, durationSeconds);
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.hangmanjavafx.simulation;
+
+import org.example.hangmanjavafx.dictionary.WordIndex;
+import org.example.hangmanjavafx.engine.GameSession;
+import org.example.hangmanjavafx.engine.GuessResult;
+import org.example.hangmanjavafx.solver.CandidateTracker;
+
+/**
+ * Guesses the letter contained in most of the remaining candidate words of the dictionary,
+ * the rule of the game's hints. It narrows the candidates with a {@link CandidateTracker};
+ * it is not the information-gain {@link org.example.hangmanjavafx.solver.HangmanSolver}.
+ */
+public class CandidateFrequencyStrategy implements GuessingStrategy {
+    private final WordIndex wordIndex;
+    private CandidateTracker tracker;
+
+    public CandidateFrequencyStrategy(WordIndex wordIndex) {
+        this.wordIndex = wordIndex;
+    }
+
+    @Override
+    public void newGame(GameSession session) {
+        tracker = new CandidateTracker(wordIndex, session.getHiddenWord().length());
+    }
+
+    @Override
+    public char nextGuess(GameSession session) {
+        return tracker.bestGuess();
+    }
+
+    @Override
+    public void onGuess(GameSession session, char guess, GuessResult result) {
+        tracker.update(guess, session.getWordMasks().getPositionMask(guess - 'A'));
+    }
+}
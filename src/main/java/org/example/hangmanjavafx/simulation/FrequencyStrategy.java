@@ -0,0 +1,20 @@
+package org.example.hangmanjavafx.simulation;
+
+import org.example.hangmanjavafx.engine.GameSession;
+
+/**
+ * Guesses letters in order of their frequency in English text.
+ */
+public class FrequencyStrategy implements GuessingStrategy {
+    private static final String LETTERS_BY_FREQUENCY = "ETAOINSHRDLCUMWFGYPBVKJXQZ";
+
+    @Override
+    public char nextGuess(GameSession session) {
+        for (int i = 0; i < LETTERS_BY_FREQUENCY.length(); i++) {
+            char letter = LETTERS_BY_FREQUENCY.charAt(i);
+            if (!session.isLetterGuessed(letter))
+                return letter;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.hangmanjavafx.simulation;
+
+import org.example.hangmanjavafx.engine.GameSession;
+import org.example.hangmanjavafx.engine.GuessResult;
+
+/**
+ * Picks guesses for simulated games.
+ * Every simulation thread gets its own instance, so strategies may keep per-game state without locking.
+ */
+public interface GuessingStrategy {
+    /**
+     * Called before the first guess of a new game.
+     * @param session The new game.
+     */
+    default void newGame(GameSession session) {
+    }
+
+    /**
+     * Picks the next letter to guess.
+     * @param session The running game.
+     * @return A letter not guessed yet, upper case.
+     */
+    char nextGuess(GameSession session);
+
+    /**
+     * Called after every guess with its outcome.
+     * @param session The running game.
+     * @param guess   The guessed letter.
+     * @param result  The outcome of the guess.
+     */
+    default void onGuess(GameSession session, char guess, GuessResult result) {
+    }
+}
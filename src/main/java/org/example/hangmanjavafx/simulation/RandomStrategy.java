@@ -0,0 +1,24 @@
+package org.example.hangmanjavafx.simulation;
+
+import org.example.hangmanjavafx.engine.GameSession;
+import java.util.SplittableRandom;
+
+/**
+ * Guesses letters not guessed yet uniformly at random.
+ */
+public class RandomStrategy implements GuessingStrategy {
+    private final SplittableRandom random;
+
+    public RandomStrategy(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public char nextGuess(GameSession session) {
+        int notGuessed = ~session.getGuessedMask() & ((1 << 26) - 1);
+        int pick = random.nextInt(Integer.bitCount(notGuessed));
+        for (int i = 0; i < pick; i++)
+            notGuessed &= notGuessed - 1;
+        return (char) ('A' + Integer.numberOfTrailingZeros(notGuessed));
+    }
+}
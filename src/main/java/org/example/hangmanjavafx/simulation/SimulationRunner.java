@@ -0,0 +1,187 @@
+package org.example.hangmanjavafx.simulation;
+
+import org.example.hangmanjavafx.dictionary.ArrayDictionary;
+import org.example.hangmanjavafx.dictionary.MappedDictionary;
+import org.example.hangmanjavafx.dictionary.WordDictionary;
+import org.example.hangmanjavafx.dictionary.WordIndex;
+import org.example.hangmanjavafx.engine.GameSession;
+import org.example.hangmanjavafx.engine.GameStatus;
+import org.example.hangmanjavafx.engine.GuessResult;
+import org.example.hangmanjavafx.helperMethods.GameData;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.logging.Logger;
+
+/**
+ * Plays many headless games with the rules of {@link GameSession} to tune the word list and the miss limit.
+ * Games are handed out to the worker threads in batches; game {@code i} uses word {@code i % dictionarySize},
+ * so every word is played about the same number of times. No JavaFX toolkit is started.
+ * <p>
+ * Usage: {@code SimulationRunner [--games N] [--threads T] [--strategy random|frequency|candidates]
+ * [--max-miss M] [--dictionary words.dict] [--seed S] [--out results.csv]}
+ */
+public class SimulationRunner {
+    private static final int BATCH_SIZE = 1024;
+    private static final Logger LOGGER = Logger.getLogger(SimulationRunner.class.getName());
+    private final WordDictionary dictionary;
+    private final IntFunction<GuessingStrategy> strategyFactory;
+    private final int maxMiss;
+    private final int threads;
+
+    /**
+     * Creates a runner.
+     * @param dictionary      The words to play.
+     * @param strategyFactory Creates the strategy of each worker thread from the thread number.
+     * @param maxMiss         The number of misses allowed per game.
+     * @param threads         The number of worker threads.
+     */
+    public SimulationRunner(WordDictionary dictionary, IntFunction<GuessingStrategy> strategyFactory, int maxMiss, int threads) {
+        this.dictionary = dictionary;
+        this.strategyFactory = strategyFactory;
+        this.maxMiss = maxMiss;
+        this.threads = Math.max(threads, 1);
+    }
+
+    /**
+     * Plays the given number of games on all worker threads and waits for them to finish.
+     * @param games The number of games to play.
+     * @return The statistics of the games.
+     * @throws InterruptedException If the calling thread is interrupted while waiting.
+     */
+    public SimulationStats run(long games) throws InterruptedException {
+        SimulationStats stats = new SimulationStats(dictionary.size());
+        AtomicLong nextGame = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Future<?>[] workers = new Future<?>[threads];
+            for (int i = 0; i < threads; i++) {
+                GuessingStrategy strategy = strategyFactory.apply(i);
+                workers[i] = executor.submit(() -> playBatches(strategy, games, nextGame, stats));
+            }
+            for (Future<?> worker : workers)
+                worker.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return stats;
+    }
+
+    /**
+     * Plays batches until all games are handed out, recording into statistics of this thread
+     * that are merged into the shared ones at the end.
+     */
+    private void playBatches(GuessingStrategy strategy, long games, AtomicLong nextGame, SimulationStats stats) {
+        SimulationStats threadStats = new SimulationStats(dictionary.size());
+        long first;
+        while ((first = nextGame.getAndAdd(BATCH_SIZE)) < games) {
+            long last = Math.min(first + BATCH_SIZE, games);
+            for (long game = first; game < last; game++) {
+                int wordIndex = (int) (game % dictionary.size());
+                GameSession session = new GameSession(dictionary.getWord(wordIndex), maxMiss);
+                play(strategy, session);
+                threadStats.record(wordIndex, session.getStatus() == GameStatus.WON,
+                        session.getMissCount(), session.getGuessCount());
+            }
+        }
+        stats.merge(threadStats);
+    }
+
+    /**
+     * Plays one game to the end. Invalid or repeated guesses are replaced by the first letter not guessed yet.
+     */
+    private static void play(GuessingStrategy strategy, GameSession session) {
+        strategy.newGame(session);
+        while (!session.isFinished()) {
+            char guess = strategy.nextGuess(session);
+            GuessResult result = session.guess(guess);
+            if (result == GuessResult.REPEATED || result == GuessResult.REJECTED) {
+                guess = (char) ('A' + Integer.numberOfTrailingZeros(~session.getGuessedMask()));
+                result = session.guess(guess);
+            }
+            strategy.onGuess(session, guess, result);
+        }
+    }
+
+    /**
+     * Writes the per-word statistics as CSV, one row per word that was played.
+     * @param stats  The statistics.
+     * @param writer The writer the rows are streamed to.
+     * @throws IOException If writing fails.
+     */
+    public void writeCsv(SimulationStats stats, Writer writer) throws IOException {
+        writer.write("word,games,wins,winRate,averageMisses,averageGuesses\n");
+        for (int i = 0; i < stats.getWordCount(); i++) {
+            long games = stats.getGames(i);
+            if (games == 0)
+                continue;
+            writer.write(String.format(Locale.ROOT, "%s,%d,%d,%.4f,%.3f,%.3f%n", dictionary.getWord(i), games,
+                    stats.getWins(i), (double) stats.getWins(i) / games,
+                    (double) stats.getMisses(i) / games, (double) stats.getGuesses(i) / games));
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        long games = 1_000_000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        String strategyName = "frequency";
+        int maxMiss = GameData.MAX_MISS;
+        String dictionaryPath = null;
+        long seed = System.nanoTime();
+        String outPath = null;
+
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--games" -> games = Long.parseLong(value);
+                case "--threads" -> threads = Integer.parseInt(value);
+                case "--strategy" -> strategyName = value;
+                case "--max-miss" -> maxMiss = Integer.parseInt(value);
+                case "--dictionary" -> dictionaryPath = value;
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--out" -> outPath = value;
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+            i++;
+        }
+
+        WordDictionary dictionary = dictionaryPath == null ? new ArrayDictionary() : new MappedDictionary(Path.of(dictionaryPath));
+        IntFunction<GuessingStrategy> strategyFactory = strategyFactory(strategyName, dictionary, seed);
+        SimulationRunner runner = new SimulationRunner(dictionary, strategyFactory, maxMiss, threads);
+
+        long start = System.nanoTime();
+        SimulationStats stats = runner.run(games);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        LOGGER.info(String.format(Locale.ROOT, "Played %d games on %d threads in %.2f s: %.0f games/s, win rate %.4f",
+                stats.getTotalGames(), threads, seconds, stats.getTotalGames() / seconds,
+                (double) stats.getTotalWins() / Math.max(stats.getTotalGames(), 1)));
+
+        if (outPath != null)
+            try (BufferedWriter writer = Files.newBufferedWriter(Path.of(outPath))) {
+                runner.writeCsv(stats, writer);
+            }
+    }
+
+    private static IntFunction<GuessingStrategy> strategyFactory(String name, WordDictionary dictionary, long seed) {
+        return switch (name) {
+            case "random" -> thread -> new RandomStrategy(seed + thread);
+            case "frequency" -> thread -> new FrequencyStrategy();
+            case "candidates" -> {
+                WordIndex wordIndex = new WordIndex(dictionary);
+                yield thread -> new CandidateFrequencyStrategy(wordIndex);
+            }
+            default -> throw new IllegalArgumentException("Unknown strategy: " + name);
+        };
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.hangmanjavafx.simulation;
+
+/**
+ * Statistics of simulated games, per word and in total.
+ * An instance is not thread-safe: every worker thread records into its own instance, so recording a game is
+ * a few plain array increments that never touch a cache line another thread writes, and the instances
+ * are merged into one when the workers finish.
+ */
+public class SimulationStats {
+    private static final int GAMES = 0, WINS = 1, MISSES = 2, GUESSES = 3, FIELDS = 4;
+    private final long[] wordCounters;
+    private long totalGames;
+    private long totalWins;
+
+    /**
+     * Creates empty statistics for a dictionary of the given size.
+     * @param wordCount The number of words in the dictionary.
+     */
+    public SimulationStats(int wordCount) {
+        this.wordCounters = new long[Math.multiplyExact(wordCount, FIELDS)];
+    }
+
+    /**
+     * Records a finished game.
+     * @param wordIndex  The dictionary index of the hidden word.
+     * @param won        true if the game was won.
+     * @param missCount  The number of misses in the game.
+     * @param guessCount The number of guesses in the game.
+     */
+    public void record(int wordIndex, boolean won, int missCount, int guessCount) {
+        int base = wordIndex * FIELDS;
+        wordCounters[base + GAMES]++;
+        if (won) {
+            wordCounters[base + WINS]++;
+            totalWins++;
+        }
+        wordCounters[base + MISSES] += missCount;
+        wordCounters[base + GUESSES] += guessCount;
+        totalGames++;
+    }
+
+    /**
+     * Adds the games recorded by another instance, e.g. of a worker thread that finished.
+     * Calls are synchronized, so several workers may merge into the same instance.
+     * @param other The statistics to add, for a dictionary of the same size; not changed.
+     */
+    public synchronized void merge(SimulationStats other) {
+        if (other.wordCounters.length != wordCounters.length)
+            throw new IllegalArgumentException("Statistics are for dictionaries of different sizes");
+        for (int i = 0; i < wordCounters.length; i++)
+            wordCounters[i] += other.wordCounters[i];
+        totalGames += other.totalGames;
+        totalWins += other.totalWins;
+    }
+
+    // Getters
+    public int getWordCount() {
+        return wordCounters.length / FIELDS;
+    }
+
+    public synchronized long getGames(int wordIndex) {
+        return wordCounters[wordIndex * FIELDS + GAMES];
+    }
+
+    public synchronized long getWins(int wordIndex) {
+        return wordCounters[wordIndex * FIELDS + WINS];
+    }
+
+    public synchronized long getMisses(int wordIndex) {
+        return wordCounters[wordIndex * FIELDS + MISSES];
+    }
+
+    public synchronized long getGuesses(int wordIndex) {
+        return wordCounters[wordIndex * FIELDS + GUESSES];
+    }
+
+    public synchronized long getTotalGames() {
+        return totalGames;
+    }
+
+    public synchronized long getTotalWins() {
+        return totalWins;
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.hangmanjavafx.solver;
+
+import org.example.hangmanjavafx.dictionary.WordDictionary;
+import org.example.hangmanjavafx.dictionary.WordFilter;
+import org.example.hangmanjavafx.dictionary.WordIndex;
+import org.example.hangmanjavafx.engine.GameSession;
+
+/**
+ * Keeps the candidate words of one running game and narrows them after every guess.
+ * Survivors are kept as a compact list of dictionary indices together with, for every letter,
+ * the number of survivors containing it. An update only visits the current survivors,
+ * and a hint is a scan over 26 counters, whatever the size of the dictionary.
+ * Not thread-safe; used by the thread that owns the game.
+ */
+public class CandidateTracker {
+    private static final int LETTER_COUNT = 26;
+    private final WordIndex wordIndex;
+    private final int[] candidates;
+    private final int[] letterCounts = new int[LETTER_COUNT];
+    private int candidateCount;
+    private int guessedMask = 0;
+
+    /**
+     * Starts tracking a game whose word has the given length.
+     * @param wordIndex  The index of the dictionary the hidden word comes from.
+     * @param wordLength The length of the hidden word.
+     */
+    public CandidateTracker(WordIndex wordIndex, int wordLength) {
+        this.wordIndex = wordIndex;
+        this.candidates = wordIndex.getCandidates(WordFilter.lengthBetween(wordLength, wordLength)).clone();
+        this.candidateCount = candidates.length;
+        for (int i = 0; i < candidateCount; i++)
+            addLetters(wordIndex.getLetterMask(candidates[i]), 1);
+    }
+
+    /**
+     * Creates a tracker for a running session and applies the guesses already made in it.
+     * @param wordIndex The index of the dictionary the hidden word comes from.
+     * @param session   The session to track.
+     * @return The tracker.
+     */
+    public static CandidateTracker forSession(WordIndex wordIndex, GameSession session) {
+        CandidateTracker tracker = new CandidateTracker(wordIndex, session.getHiddenWord().length());
+        int guessedMask = session.getGuessedMask();
+        for (int letter = 0; letter < LETTER_COUNT; letter++)
+            if ((guessedMask & (1 << letter)) != 0)
+                tracker.update((char) ('A' + letter), session.getWordMasks().getPositionMask(letter));
+        return tracker;
+    }
+
+    /**
+     * Removes the candidates that do not agree with the outcome of a guess.
+     * @param letter            The guessed letter, upper case.
+     * @param revealedPositions The positions revealed by the guess, or 0 for a miss.
+     */
+    public void update(char letter, long revealedPositions) {
+        int letterIndex = letter - 'A';
+        int letterBit = 1 << letterIndex;
+        if ((guessedMask & letterBit) != 0)
+            return;
+        guessedMask |= letterBit;
+
+        WordDictionary dictionary = wordIndex.getDictionary();
+        int kept = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            int candidate = candidates[i];
+            int letterMask = wordIndex.getLetterMask(candidate);
+            boolean survives = (letterMask & letterBit) == 0
+                    ? revealedPositions == 0
+                    : revealedPositions != 0 && positionsOf(dictionary.getWord(candidate), letter) == revealedPositions;
+            if (survives)
+                candidates[kept++] = candidate;
+            else
+                addLetters(letterMask, -1);
+        }
+        candidateCount = kept;
+    }
+
+    /**
+     * Suggests the letter contained in most of the remaining candidates.
+     * @return The letter to guess, or 0 if no candidate is left.
+     */
+    public char bestGuess() {
+        int bestLetter = -1;
+        for (int letter = 0; letter < LETTER_COUNT; letter++)
+            if ((guessedMask & (1 << letter)) == 0 && letterCounts[letter] > 0
+                    && (bestLetter < 0 || letterCounts[letter] > letterCounts[bestLetter]))
+                bestLetter = letter;
+        return bestLetter < 0 ? 0 : (char) ('A' + bestLetter);
+    }
+
+    private void addLetters(int letterMask, int delta) {
+        while (letterMask != 0) {
+            letterCounts[Integer.numberOfTrailingZeros(letterMask)] += delta;
+            letterMask &= letterMask - 1;
+        }
+    }
+
+    private static long positionsOf(String word, char letter) {
+        long positions = 0;
+        for (int i = 0; i < word.length(); i++)
+            if (word.charAt(i) == letter)
+                positions |= 1L << i;
+        return positions;
+    }
+
+    // Getters
+    public int getCandidateCount() {
+        return candidateCount;
+    }
+
+    /**
+     * Returns the dictionary index of a remaining candidate.
+     * @param i The position in the list of candidates, from 0 to getCandidateCount() - 1.
+     * @return The dictionary index of the word.
+     */
+    public int getCandidate(int i) {
+        return candidates[i];
+    }
+
+    /**
+     * Returns the number of remaining candidates that contain a letter.
+     * @param letter The letter, upper case.
+     * @return The number of candidates.
+     */
+    public int getLetterCount(char letter) {
+        return letterCounts[letter - 'A'];
+    }
+}
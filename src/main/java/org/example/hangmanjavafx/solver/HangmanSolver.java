@@ -0,0 +1,267 @@
+package org.example.hangmanjavafx.solver;
+
+import org.example.hangmanjavafx.dictionary.WordDictionary;
+import org.example.hangmanjavafx.dictionary.WordFilter;
+import org.example.hangmanjavafx.dictionary.WordIndex;
+import org.example.hangmanjavafx.engine.GameSession;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.IntStream;
+
+/**
+ * Suggests the next letter to guess by ranking letters by expected information gain.
+ * Guessing a letter splits the candidate words into groups by the positions where the letter
+ * is revealed; the letter whose split has the highest entropy narrows the candidates the most on average.
+ * Filtering and scoring run on a {@link ForkJoinPool}, so large dictionaries are spread across all cores.
+ */
+public class HangmanSolver {
+    private static final int LETTER_COUNT = 26;
+    private static final int SEQUENTIAL_THRESHOLD = 2048;
+    private static final double LOG_2 = Math.log(2);
+    private final WordIndex wordIndex;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a solver over the given dictionary index that runs on the common pool.
+     * @param wordIndex The index of the dictionary the hidden word comes from.
+     */
+    public HangmanSolver(WordIndex wordIndex) {
+        this(wordIndex, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a solver over the given dictionary index.
+     * @param wordIndex The index of the dictionary the hidden word comes from.
+     * @param pool      The pool the filtering and scoring tasks run on.
+     */
+    public HangmanSolver(WordIndex wordIndex, ForkJoinPool pool) {
+        this.wordIndex = wordIndex;
+        this.pool = pool;
+    }
+
+    /**
+     * Finds the dictionary words that are still possible.
+     * @param pattern    The guessed word with dots for hidden letters, e.g. "W..TER".
+     * @param missedMask The 26-bit mask of letters guessed that are not in the word.
+     * @return The indices of the candidate words in the dictionary.
+     */
+    public int[] findCandidates(String pattern, int missedMask) {
+        int[] sameLength = wordIndex.getCandidates(WordFilter.lengthBetween(pattern.length(), pattern.length()));
+        int excludedMask = missedMask | WordFilter.letterMask(pattern);
+        WordDictionary dictionary = wordIndex.getDictionary();
+        return pool.submit(() -> IntStream.of(sameLength).parallel()
+                .filter(index -> (wordIndex.getLetterMask(index) & missedMask) == 0
+                        && matches(dictionary.getWord(index), pattern, excludedMask))
+                .toArray()).join();
+    }
+
+    /**
+     * Ranks the letters not guessed yet, best guess first.
+     * @param pattern    The guessed word with dots for hidden letters, e.g. "W..TER".
+     * @param missedMask The 26-bit mask of letters guessed that are not in the word.
+     * @return The scores of all letters not guessed yet, highest information first.
+     */
+    public List<LetterScore> rankLetters(String pattern, int missedMask) {
+        return rankLetters(findCandidates(pattern, missedMask), missedMask | WordFilter.letterMask(pattern));
+    }
+
+    /**
+     * Ranks the letters not guessed yet for the given candidates, best guess first.
+     * @param candidates  The indices of the candidate words in the dictionary.
+     * @param guessedMask The 26-bit mask of letters already guessed.
+     * @return The scores of all letters not guessed yet, highest information first.
+     */
+    public List<LetterScore> rankLetters(int[] candidates, int guessedMask) {
+        List<LetterScore> scores = new ArrayList<>();
+        if (candidates.length == 0)
+            return scores;
+
+        PartitionCounts counts = pool.invoke(new ScoringTask(candidates, 0, candidates.length, guessedMask));
+        for (int letter = 0; letter < LETTER_COUNT; letter++)
+            if ((guessedMask & (1 << letter)) == 0)
+                scores.add(new LetterScore((char) ('A' + letter), counts.entropy(letter, candidates.length),
+                        counts.withLetterCount(letter)));
+
+        scores.sort(Comparator.comparingDouble(LetterScore::information).reversed()
+                .thenComparing(Comparator.comparingInt(LetterScore::candidatesWithLetter).reversed())
+                .thenComparing(LetterScore::letter));
+        return scores;
+    }
+
+    /**
+     * Suggests the best next guess for a game session.
+     * @param session The session to give a hint for.
+     * @return The letter to guess, or 0 if no candidate word is left.
+     */
+    public char bestGuess(GameSession session) {
+        int guessedMask = session.getGuessedMask();
+        int missedMask = guessedMask & ~session.getWordMasks().getLetterMask();
+        List<LetterScore> scores = rankLetters(findCandidates(session.getGuessedWord(), missedMask), guessedMask);
+        return scores.isEmpty() || scores.get(0).candidatesWithLetter() == 0 ? 0 : scores.get(0).letter();
+    }
+
+    /**
+     * Checks a word against the revealed pattern.
+     * Hidden positions must not hold a letter that was already guessed.
+     */
+    private static boolean matches(String word, String pattern, int excludedMask) {
+        for (int i = 0; i < pattern.length(); i++) {
+            char patternLetter = pattern.charAt(i);
+            char wordLetter = word.charAt(i);
+            if (patternLetter == '.') {
+                if ((excludedMask & (1 << (wordLetter - 'A'))) != 0)
+                    return false;
+            } else if (patternLetter != wordLetter)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * For every letter, the number of candidates per set of positions revealed by guessing it.
+     * Each letter has an open-addressed table from position mask to count, so counting a candidate
+     * neither boxes nor allocates. Candidates without the letter are not stored; their number is
+     * the range size minus the candidates that contain the letter.
+     */
+    private static final class PartitionCounts {
+        private static final int INITIAL_CAPACITY = 16;
+        private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+        // A position mask of a letter in the word is never 0, so 0 marks an empty slot
+        private final long[][] masks = new long[LETTER_COUNT][];
+        private final int[][] counts = new int[LETTER_COUNT][];
+        private final int[] sizes = new int[LETTER_COUNT];
+        private final int[] withLetter = new int[LETTER_COUNT];
+
+        PartitionCounts() {
+            for (int letter = 0; letter < LETTER_COUNT; letter++) {
+                masks[letter] = new long[INITIAL_CAPACITY];
+                counts[letter] = new int[INITIAL_CAPACITY];
+            }
+        }
+
+        /**
+         * Counts candidates that reveal the given positions of a letter.
+         * @param positions The position mask, not 0.
+         * @param count     The number of candidates.
+         */
+        void add(int letter, long positions, int count) {
+            withLetter[letter] += count;
+            long[] letterMasks = masks[letter];
+            int slot = slot(positions, letterMasks.length);
+            while (letterMasks[slot] != 0) {
+                if (letterMasks[slot] == positions) {
+                    counts[letter][slot] += count;
+                    return;
+                }
+                slot = (slot + 1) & (letterMasks.length - 1);
+            }
+            letterMasks[slot] = positions;
+            counts[letter][slot] = count;
+            if (++sizes[letter] * 2 > letterMasks.length)
+                grow(letter);
+        }
+
+        private static int slot(long positions, int capacity) {
+            return (int) ((positions * HASH_MULTIPLIER) >>> (Long.SIZE - Integer.numberOfTrailingZeros(capacity)));
+        }
+
+        private void grow(int letter) {
+            long[] oldMasks = masks[letter];
+            int[] oldCounts = counts[letter];
+            long[] newMasks = new long[oldMasks.length * 2];
+            int[] newCounts = new int[newMasks.length];
+            for (int i = 0; i < oldMasks.length; i++) {
+                if (oldMasks[i] == 0)
+                    continue;
+                int slot = slot(oldMasks[i], newMasks.length);
+                while (newMasks[slot] != 0)
+                    slot = (slot + 1) & (newMasks.length - 1);
+                newMasks[slot] = oldMasks[i];
+                newCounts[slot] = oldCounts[i];
+            }
+            masks[letter] = newMasks;
+            counts[letter] = newCounts;
+        }
+
+        PartitionCounts merge(PartitionCounts other) {
+            for (int letter = 0; letter < LETTER_COUNT; letter++) {
+                long[] otherMasks = other.masks[letter];
+                for (int i = 0; i < otherMasks.length; i++)
+                    if (otherMasks[i] != 0)
+                        add(letter, otherMasks[i], other.counts[letter][i]);
+            }
+            return this;
+        }
+
+        int withLetterCount(int letter) {
+            return withLetter[letter];
+        }
+
+        double entropy(int letter, int total) {
+            double entropy = partEntropy(total - withLetter[letter], total);
+            long[] letterMasks = masks[letter];
+            for (int i = 0; i < letterMasks.length; i++)
+                if (letterMasks[i] != 0)
+                    entropy += partEntropy(counts[letter][i], total);
+            return entropy;
+        }
+
+        private static double partEntropy(int count, int total) {
+            if (count == 0)
+                return 0;
+            double probability = (double) count / total;
+            return -probability * Math.log(probability) / LOG_2;
+        }
+    }
+
+    /**
+     * Counts the partitions of a range of candidates, splitting large ranges in two.
+     */
+    private final class ScoringTask extends RecursiveTask<PartitionCounts> {
+        private static final long serialVersionUID = 1L;
+        private final int[] candidates;
+        private final int from, to;
+        private final int guessedMask;
+
+        ScoringTask(int[] candidates, int from, int to, int guessedMask) {
+            this.candidates = candidates;
+            this.from = from;
+            this.to = to;
+            this.guessedMask = guessedMask;
+        }
+
+        @Override
+        protected PartitionCounts compute() {
+            if (to - from > SEQUENTIAL_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                ScoringTask left = new ScoringTask(candidates, from, middle, guessedMask);
+                left.fork();
+                PartitionCounts right = new ScoringTask(candidates, middle, to, guessedMask).compute();
+                return right.merge(left.join());
+            }
+
+            PartitionCounts counts = new PartitionCounts();
+            WordDictionary dictionary = wordIndex.getDictionary();
+            long[] positions = new long[LETTER_COUNT];
+            for (int i = from; i < to; i++) {
+                String word = dictionary.getWord(candidates[i]);
+                int letters = 0;
+                for (int position = 0; position < word.length(); position++) {
+                    int letter = word.charAt(position) - 'A';
+                    positions[letter] |= 1L << position;
+                    letters |= 1 << letter;
+                }
+                for (int remaining = letters; remaining != 0; remaining &= remaining - 1) {
+                    int letter = Integer.numberOfTrailingZeros(remaining);
+                    if ((guessedMask & (1 << letter)) == 0)
+                        counts.add(letter, positions[letter], 1);
+                    positions[letter] = 0;
+                }
+            }
+            return counts;
+        }
+    }
+}
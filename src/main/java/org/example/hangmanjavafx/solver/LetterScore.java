@@ -0,0 +1,10 @@
+package org.example.hangmanjavafx.solver;
+
+/**
+ * Score of one letter as the next guess.
+ * @param letter          The letter, upper case.
+ * @param information     The expected information gain of guessing the letter, in bits.
+ * @param candidatesWithLetter The number of candidate words that contain the letter.
+ */
+public record LetterScore(char letter, double information, int candidatesWithLetter) {
+}
@@ -0,0 +1,22 @@
+package org.example.hangmanjavafx.ui;
+
+/**
+ * Immutable axis-aligned rectangle in canvas coordinates.
+ * @param x      The x-coordinate of the top left corner.
+ * @param y      The y-coordinate of the top left corner.
+ * @param width  The width.
+ * @param height The height.
+ */
+public record Bounds(int x, int y, int width, int height) {
+
+    /**
+     * Checks if a point lies inside the rectangle.
+     * The left and top edges are inside, the right and bottom edges are outside.
+     * @param px The x-coordinate of the point.
+     * @param py The y-coordinate of the point.
+     * @return true if the point is inside.
+     */
+    public boolean contains(int px, int py) {
+        return px >= x && py >= y && px < x + width && py < y + height;
+    }
+}
@@ -1,21 +1,22 @@
 package org.example.hangmanjavafx.ui;
 
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.paint.Color;
-import javafx.scene.text.Text;
-import org.example.hangmanjavafx.main.GameStates;
-import java.awt.*;
+import org.example.hangmanjavafx.graphics.DrawingSurface;
+import org.example.hangmanjavafx.main.DirtyRegions;
 
 /**
  * Represents a custom button used in the game.
  */
 public class CustomButton {
+    private static final int HOVERED_COLOR = 0xFFD3D3D3, ENABLED_COLOR = 0xFFF5F5DC, DISABLED_COLOR = 0xFF808080;
+    private static final int BORDER_COLOR = 0xFF000000, TEXT_COLOR = 0xFF000000;
     private final int x, y, width, height;
     private String text;
     //    check if mouse inside button:
-    private Rectangle bounds;
+    private Bounds bounds;
     private boolean isButtonHovered;
     private boolean enabled = true;
+    private DirtyRegions dirtyRegions;
+    private TextMetrics.TextBounds textBounds;
 
     /**
      * Initializes a new instance of the CustomButton class with a specified id.
@@ -37,70 +38,111 @@ public class CustomButton {
     }
 
     private void initBounds() {
-        this.bounds = new Rectangle(x, y, width, height);
+        this.bounds = new Bounds(x, y, width, height);
     }
 
     /**
      * Draws the button on the canvas.
-     * @param gc The graphics context to render on.
+     * @param surface The surface to draw on.
      */
-    public void draw(GraphicsContext gc) {
-        drawBody(gc);
-        drawBorder(gc);
-        drawText(gc);
+    public void draw(DrawingSurface surface) {
+        drawBody(surface);
+        drawBorder(surface);
+        drawText(surface);
     }
 
     /**
      * Draws the border of the button.
-     * @param gc The graphics context to render on.
+     * @param surface The surface to draw on.
      */
-    private void drawBorder(GraphicsContext gc) {
-        gc.setStroke(Color.BLACK);
-        gc.strokeRoundRect(x, y, width, height, 14, 14);
+    private void drawBorder(DrawingSurface surface) {
+        surface.setStroke(BORDER_COLOR);
+        surface.strokeRoundRect(x, y, width, height, 14);
     }
 
     /**
      * Draws the body of the button.
-     * @param gc The graphics context to render on.
+     * @param surface The surface to draw on.
      */
-    private void drawBody(GraphicsContext gc) {
-        if (GameStates.gameState == GameStates.MENU || GameStates.gameState == GameStates.PLAYING || GameStates.gameState == GameStates.GAME_OVER || GameStates.gameState == GameStates.GAME_WON)
-            if (isButtonHovered && enabled)
-                gc.setFill(Color.LIGHTGRAY);
-            else if (!isButtonHovered && enabled)
-                gc.setFill(Color.rgb(245, 245, 220));
-            else
-                gc.setFill(Color.GRAY);
-
-        gc.fillRoundRect(x, y, width, height, 14, 14);
+    private void drawBody(DrawingSurface surface) {
+        if (isButtonHovered && enabled)
+            surface.setFill(HOVERED_COLOR);
+        else if (!isButtonHovered && enabled)
+            surface.setFill(ENABLED_COLOR);
+        else
+            surface.setFill(DISABLED_COLOR);
+
+        surface.fillRoundRect(x, y, width, height, 14);
     }
 
     /**
      * Draws the text on the button.
-     * @param gc The graphics context to render on.
+     * @param surface The surface to draw on.
+     */
+    private void drawText(DrawingSurface surface) {
+        surface.setFill(TEXT_COLOR);
+        TextMetrics.TextBounds bounds = getTextBounds(surface);
+        surface.fillText(text, x + (width - bounds.width()) / 2, y + (height + bounds.height()) / 2);
+    }
+
+    /**
+     * Returns the measured size of the label, measuring it only once per label change.
+     * The label is centered using the default font size, as it always has been.
+     * @param surface The surface the label is drawn on.
+     * @return The size of the label.
      */
-    private void drawText(GraphicsContext gc) {
-        gc.setFill(Color.BLACK);
-        double textWidth = new Text(text).getBoundsInLocal().getWidth();
-        double textHeight = new Text(text).getBoundsInLocal().getHeight();
-        gc.fillText(text, x + (width - textWidth) / 2, y + (height + textHeight) / 2);
+    private TextMetrics.TextBounds getTextBounds(DrawingSurface surface) {
+        if (textBounds == null)
+            textBounds = surface.measure(text, surface.getDefaultFontSize());
+        return textBounds;
+    }
+
+    /**
+     * Marks the area of the button as changed so it is repainted on the next frame.
+     * The area is one pixel larger on each side to include the border stroke.
+     */
+    public void markDirty() {
+        if (dirtyRegions != null)
+            dirtyRegions.markDirty(x - 1, y - 1, width + 2, height + 2);
     }
 
     //    Getters and setters
-    public Rectangle getBounds() {
+    public Bounds getBounds() {
         return bounds;
     }
 
+    /**
+     * Sets the tracker notified when the look of the button changes.
+     * @param dirtyRegions The dirty region tracker of the game, or null to disable tracking.
+     */
+    public void setDirtyRegions(DirtyRegions dirtyRegions) {
+        this.dirtyRegions = dirtyRegions;
+    }
+
     public void setButtonHovered(boolean isButtonHovered) {
-        this.isButtonHovered = isButtonHovered;
+        if (this.isButtonHovered != isButtonHovered) {
+            this.isButtonHovered = isButtonHovered;
+            markDirty();
+        }
     }
 
     public String getText() {
         return text;
     }
 
+    public void setText(String text) {
+        if (!this.text.equals(text)) {
+            this.text = text;
+            textBounds = null;
+            markDirty();
+        }
+    }
+
     public void setEnabled(boolean enabled) {
-        this.enabled = enabled;
+        if (this.enabled != enabled) {
+            this.enabled = enabled;
+            markDirty();
+        }
     }
 
     public boolean isEnabled() {
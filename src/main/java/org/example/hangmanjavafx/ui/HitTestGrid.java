@@ -0,0 +1,117 @@
+package org.example.hangmanjavafx.ui;
+
+import java.util.Arrays;
+
+/**
+ * Uniform grid over the canvas that maps a point to the button under it in O(1).
+ * Each cell keeps the few buttons that overlap it, so a lookup checks only those
+ * instead of scanning every button of the scene.
+ * Also tracks the hovered button so scenes only touch the buttons whose hover state changes.
+ */
+public class HitTestGrid {
+    private static final int CELL_SIZE = 32;
+    private static final CustomButton[] EMPTY = new CustomButton[0];
+    private final int columns, rows;
+    private final CustomButton[][] cells;
+    private CustomButton hoveredButton;
+
+    /**
+     * Creates an empty grid covering a canvas of the given size.
+     * @param width  The width of the canvas.
+     * @param height The height of the canvas.
+     */
+    public HitTestGrid(int width, int height) {
+        this.columns = Math.max(1, (width + CELL_SIZE - 1) / CELL_SIZE);
+        this.rows = Math.max(1, (height + CELL_SIZE - 1) / CELL_SIZE);
+        this.cells = new CustomButton[columns * rows][];
+        clear();
+    }
+
+    /**
+     * Adds a button to every cell it overlaps.
+     * @param button The button to register.
+     */
+    public void register(CustomButton button) {
+        Bounds bounds = button.getBounds();
+        int firstColumn = clampColumn(bounds.x() / CELL_SIZE);
+        int lastColumn = clampColumn((bounds.x() + bounds.width() - 1) / CELL_SIZE);
+        int firstRow = clampRow(bounds.y() / CELL_SIZE);
+        int lastRow = clampRow((bounds.y() + bounds.height() - 1) / CELL_SIZE);
+
+        for (int row = firstRow; row <= lastRow; row++)
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                int cell = row * columns + column;
+                CustomButton[] buttons = Arrays.copyOf(cells[cell], cells[cell].length + 1);
+                buttons[buttons.length - 1] = button;
+                cells[cell] = buttons;
+            }
+    }
+
+    /**
+     * Removes all buttons from the grid.
+     */
+    public void clear() {
+        Arrays.fill(cells, EMPTY);
+        hoveredButton = null;
+    }
+
+    /**
+     * Finds the button under a point.
+     * @param x The x-coordinate of the point.
+     * @param y The y-coordinate of the point.
+     * @return The button, or null if there is none.
+     */
+    public CustomButton find(int x, int y) {
+        if (x < 0 || y < 0 || x >= columns * CELL_SIZE || y >= rows * CELL_SIZE)
+            return null;
+        for (CustomButton button : cells[(y / CELL_SIZE) * columns + x / CELL_SIZE])
+            if (button.getBounds().contains(x, y))
+                return button;
+        return null;
+    }
+
+    /**
+     * Moves the hover state to the button under a point.
+     * Only the previously hovered button and the newly hovered one are updated.
+     * @param x The x-coordinate of the mouse.
+     * @param y The y-coordinate of the mouse.
+     * @return The hovered button, or null if there is none.
+     */
+    public CustomButton hover(int x, int y) {
+        CustomButton button = find(x, y);
+        setHoveredButton(button);
+        return button;
+    }
+
+    /**
+     * Moves the hover state to a button, e.g. to point at it without the mouse.
+     * The next mouse move hovers the button under the mouse again.
+     * @param button The button to hover, or null to hover none.
+     */
+    public void setHoveredButton(CustomButton button) {
+        if (button != hoveredButton) {
+            if (hoveredButton != null)
+                hoveredButton.setButtonHovered(false);
+            if (button != null)
+                button.setButtonHovered(true);
+            hoveredButton = button;
+        }
+    }
+
+    /**
+     * Removes the hover state from the hovered button, if any.
+     */
+    public void clearHover() {
+        if (hoveredButton != null)
+            hoveredButton.setButtonHovered(false);
+        hoveredButton = null;
+    }
+
+    private int clampColumn(int column) {
+        return Math.min(Math.max(column, 0), columns - 1);
+    }
+
+    private int clampRow(int row) {
+        return Math.min(Math.max(row, 0), rows - 1);
+    }
+}
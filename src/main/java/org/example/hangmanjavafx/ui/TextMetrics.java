@@ -0,0 +1,59 @@
+package org.example.hangmanjavafx.ui;
+
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Measures text and caches the result by (text, font).
+ * Measuring needs a {@link Text} node and a layout pass, so callers should keep the returned
+ * {@link TextBounds} and only measure again when their label or font changes.
+ */
+public final class TextMetrics {
+    private static final int MAX_ENTRIES = 512;
+    private static final Map<Key, TextBounds> CACHE = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, TextBounds> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    private static final Text MEASURING_NODE = new Text();
+
+    private TextMetrics() {
+    }
+
+    /**
+     * Returns the size of the text drawn with the given font, measuring it only on the first call.
+     * @param text The text to measure.
+     * @param font The font the text is measured with.
+     * @return The width and height of the text.
+     */
+    public static synchronized TextBounds measure(String text, Font font) {
+        Key key = new Key(text, font);
+        TextBounds bounds = CACHE.get(key);
+        if (bounds == null) {
+            MEASURING_NODE.setText(text);
+            MEASURING_NODE.setFont(font);
+            bounds = new TextBounds(MEASURING_NODE.getLayoutBounds().getWidth(), MEASURING_NODE.getLayoutBounds().getHeight());
+            CACHE.put(key, bounds);
+        }
+        return bounds;
+    }
+
+    /**
+     * Removes all cached measurements.
+     */
+    public static synchronized void clear() {
+        CACHE.clear();
+    }
+
+    private record Key(String text, Font font) {
+    }
+
+    /**
+     * Width and height of a measured text.
+     */
+    public record TextBounds(double width, double height) {
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.hangmanjavafx.dictionary;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MappedDictionaryTest {
+    private static final List<String> WORDS = List.of("CAT", "APPLE", "WATERMELON");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writtenWordsAreReadBack() throws IOException {
+        Path path = directory.resolve("words.dict");
+        DictionaryConverter.write(WORDS, path);
+
+        MappedDictionary dictionary = new MappedDictionary(path);
+        assertEquals(WORDS.size(), dictionary.size());
+        for (int i = 0; i < WORDS.size(); i++)
+            assertEquals(WORDS.get(i), dictionary.getWord(i));
+        assertThrows(IndexOutOfBoundsException.class, () -> dictionary.getWord(WORDS.size()));
+    }
+
+    @Test
+    void wordListIsConverted() throws IOException {
+        Path wordList = directory.resolve("words.txt");
+        Files.writeString(wordList, "cat\n\n  Apple \nice cream\nx" + "A".repeat(64) + "\nwatermelon\n" + "B".repeat(64) + "\n");
+        Path path = directory.resolve("words.dict");
+
+        assertEquals(4, DictionaryConverter.convert(wordList, path));
+        MappedDictionary dictionary = new MappedDictionary(path);
+        assertEquals("APPLE", dictionary.getWord(1));
+        assertEquals("B".repeat(64), dictionary.getWord(3));
+    }
+
+    @Test
+    void fileOfAnotherFormatIsRefused() throws IOException {
+        Path path = directory.resolve("words.dict");
+        Files.writeString(path, "CAT\nAPPLE\nWATERMELON\n");
+        assertThrows(IOException.class, () -> new MappedDictionary(path));
+        Files.write(path, new byte[0]);
+        assertThrows(IOException.class, () -> new MappedDictionary(path));
+    }
+
+    @Test
+    void corruptedWordCountIsRefused() throws IOException {
+        assertRefused(buffer -> buffer.putInt(8, 0));
+        assertRefused(buffer -> buffer.putInt(8, -1));
+        assertRefused(buffer -> buffer.putInt(8, Integer.MAX_VALUE));
+        assertRefused(buffer -> buffer.putInt(8, WORDS.size() + 2));
+    }
+
+    @Test
+    void corruptedOffsetsAreRefused() throws IOException {
+        // The offsets are 0, 3, 8 and 18, from byte 12 on
+        assertRefused(buffer -> buffer.putInt(12, 1));
+        assertRefused(buffer -> buffer.putInt(16, 0));
+        assertRefused(buffer -> buffer.putInt(16, 9));
+        assertRefused(buffer -> buffer.putInt(20, 2));
+        assertRefused(buffer -> buffer.putInt(20, -5));
+        assertRefused(buffer -> buffer.putInt(24, 19));
+        assertRefused(buffer -> buffer.putInt(24, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void wordsWithOtherBytesThanLettersAreRefused() throws IOException {
+        // The words CATAPPLEWATERMELON are bytes 28 to 45; bytes 44 and 45 are checked one by one
+        assertRefused(buffer -> buffer.put(28, (byte) 'c'));
+        assertRefused(buffer -> buffer.put(33, (byte) '@'));
+        assertRefused(buffer -> buffer.put(36, (byte) '['));
+        assertRefused(buffer -> buffer.put(40, (byte) 0));
+        assertRefused(buffer -> buffer.put(41, (byte) 0xC1));
+        assertRefused(buffer -> buffer.put(44, (byte) '@'));
+        assertRefused(buffer -> buffer.put(45, (byte) '['));
+    }
+
+    @Test
+    void offsetsOfWordsLongerThan64LettersAreRefused() throws IOException {
+        Path path = directory.resolve("words.dict");
+        DictionaryConverter.write(List.of("B".repeat(64), "A".repeat(10)), path);
+        new MappedDictionary(path);
+
+        // Moving the boundary between the two words by one makes the first one 65 letters long
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(16, 65);
+        assertRefused(path, buffer);
+    }
+
+    private interface Corruption {
+        void apply(ByteBuffer buffer);
+    }
+
+    private void assertRefused(Corruption corruption) throws IOException {
+        Path path = directory.resolve("words.dict");
+        DictionaryConverter.write(WORDS, path);
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.LITTLE_ENDIAN);
+        corruption.apply(buffer);
+        assertRefused(path, buffer);
+    }
+
+    private static void assertRefused(Path path, ByteBuffer buffer) throws IOException {
+        Files.write(path, buffer.array());
+        assertThrows(IOException.class, () -> new MappedDictionary(path));
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.hangmanjavafx.dictionary;
+
+import org.junit.jupiter.api.Test;
+import java.util.SplittableRandom;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WordIndexTest {
+    private static final String[] WORDS = {"CAT", "APPLE", "BANANA", "JOCKEY", "QUARTZ", "WATER", "DOG", "JUMBLED"};
+    private final WordIndex index = new WordIndex(new ArrayDictionary(WORDS));
+
+    @Test
+    void filtersMatchByLengthAndLetters() {
+        assertArrayEquals(new int[]{0, 6}, index.getCandidates(WordFilter.lengthBetween(3, 3)));
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5}, index.getCandidates(WordFilter.lengthBetween(5, 6)));
+        assertArrayEquals(new int[]{3, 4, 7}, index.getCandidates(WordFilter.any().withAnyOf("JQ")));
+        assertArrayEquals(new int[]{1, 5}, index.getCandidates(WordFilter.any().withAllOf("AE").withNoneOf("Y")));
+        assertArrayEquals(new int[]{0, 3, 4, 5, 6, 7}, index.getCandidates(WordFilter.any().withNoRepeatedLetters()));
+        assertArrayEquals(new int[0], index.getCandidates(WordFilter.lengthBetween(20, 30)));
+        assertEquals(WORDS.length, index.countMatches(WordFilter.any()));
+    }
+
+    @Test
+    void difficultyPicksOnlyItsWords() {
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5, 6}, index.getCandidates(Difficulty.EASY.getFilter()));
+        assertArrayEquals(new int[]{7}, index.getCandidates(Difficulty.HARD.getFilter()));
+        SplittableRandom random = new SplittableRandom(1);
+        for (int i = 0; i < 10; i++)
+            assertEquals("JUMBLED", index.randomWord(Difficulty.HARD.getFilter(), random));
+        assertThrows(IllegalStateException.class, () -> index.randomWord(WordFilter.lengthBetween(20, 30), random));
+    }
+
+    @Test
+    void difficultyMatchesAreKeptForGood() {
+        int[] hard = index.getCandidates(Difficulty.HARD.getFilter());
+        for (int i = 0; i < 100; i++)
+            index.getCandidates(WordFilter.any().withAnyOf(String.valueOf((char) ('A' + i % 26))).withNoneOf("Z"));
+        assertSame(hard, index.getCandidates(Difficulty.HARD.getFilter()));
+    }
+
+    @Test
+    void adhocMatchesAreEvictedAfterTheLeastRecentlyUsedFilters() {
+        WordFilter first = WordFilter.any().withAllOf("JK");
+        int[] cached = index.getCandidates(first);
+        assertSame(cached, index.getCandidates(first));
+
+        // 31 more filters fit next to the first one; using the first one keeps it in the cache.
+        // The filters match no word, so only their number bounds the cache
+        for (int i = 1; i < 32; i++)
+            index.getCandidates(WordFilter.lengthBetween(10 + i, 100).withAnyOf("A"));
+        assertSame(cached, index.getCandidates(first));
+
+        // After 32 other filters, the first one is the least recently used and is evicted
+        for (int i = 32; i < 64; i++)
+            index.getCandidates(WordFilter.lengthBetween(10 + i, 100).withAnyOf("A"));
+        int[] evaluatedAgain = index.getCandidates(first);
+        assertNotSame(cached, evaluatedAgain);
+        assertArrayEquals(cached, evaluatedAgain);
+    }
+
+    @Test
+    void adhocMatchesHoldAtMostFourIndicesPerWord() {
+        // Each of these filters matches every word, so four of them fill the cache
+        WordFilter[] filters = new WordFilter[5];
+        int[][] cached = new int[filters.length][];
+        for (int i = 0; i < filters.length; i++) {
+            filters[i] = WordFilter.any().withNoneOf(String.valueOf("FHIVX".charAt(i)));
+            cached[i] = index.getCandidates(filters[i]);
+            assertEquals(WORDS.length, cached[i].length);
+        }
+        // The fifth filter evicted the first, and evaluating the first again evicts the second
+        assertNotSame(cached[0], index.getCandidates(filters[0]));
+        for (int i = 2; i < filters.length; i++)
+            assertSame(cached[i], index.getCandidates(filters[i]));
+        assertNotSame(cached[1], index.getCandidates(filters[1]));
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.hangmanjavafx.engine;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameSessionTest {
+
+    @Test
+    void correctGuessesRevealTheWordAndWin() {
+        GameSession session = new GameSession("APPLE", 6);
+        assertEquals(".....", session.getGuessedWord());
+        assertEquals(GuessResult.CORRECT, session.guess('P'));
+        assertEquals(".PP..", session.getGuessedWord());
+        assertEquals(GuessResult.CORRECT, session.guess('A'));
+        assertEquals(GuessResult.CORRECT, session.guess('L'));
+        assertEquals(GuessResult.WON, session.guess('E'));
+        assertEquals("APPLE", session.getGuessedWord());
+        assertEquals(GameStatus.WON, session.getStatus());
+        assertTrue(session.isFinished());
+        assertEquals(0, session.getMissCount());
+        assertEquals(4, session.getGuessCount());
+    }
+
+    @Test
+    void repeatedGuessChangesNothing() {
+        GameSession session = new GameSession("APPLE", 6);
+        assertEquals(GuessResult.INCORRECT, session.guess('Z'));
+        assertEquals(GuessResult.REPEATED, session.guess('Z'));
+        assertEquals(GuessResult.CORRECT, session.guess('A'));
+        assertEquals(GuessResult.REPEATED, session.guess('A'));
+        assertEquals(1, session.getMissCount());
+        assertEquals(2, session.getGuessCount());
+    }
+
+    @Test
+    void lowerCaseGuessIsTheSameLetter() {
+        GameSession session = new GameSession("APPLE", 6);
+        assertEquals(GuessResult.CORRECT, session.guess('p'));
+        assertEquals(".PP..", session.getGuessedWord());
+        assertTrue(session.isLetterGuessed('P'));
+        assertTrue(session.isLetterGuessed('p'));
+        assertEquals(GuessResult.REPEATED, session.guess('P'));
+    }
+
+    @Test
+    void nonLetterIsRejected() {
+        GameSession session = new GameSession("APPLE", 6);
+        assertEquals(GuessResult.REJECTED, session.guess('1'));
+        assertEquals(GuessResult.REJECTED, session.guess(' '));
+        assertEquals(0, session.getGuessCount());
+        assertFalse(session.isFinished());
+    }
+
+    @Test
+    void gameIsLostOnTheMissAfterTheLastAllowedOne() {
+        GameSession session = new GameSession("APPLE", 2);
+        assertEquals(GuessResult.INCORRECT, session.guess('X'));
+        assertEquals(GuessResult.INCORRECT, session.guess('Y'));
+        assertFalse(session.isMissCountMoreThanMaxMiss());
+        assertEquals(GuessResult.LOST, session.guess('Z'));
+        assertTrue(session.isMissCountMoreThanMaxMiss());
+        assertEquals(GameStatus.LOST, session.getStatus());
+        assertEquals(3, session.getMissCount());
+    }
+
+    @Test
+    void guessesAfterTheEndAreRejected() {
+        GameSession lost = new GameSession("APPLE", 0);
+        assertEquals(GuessResult.LOST, lost.guess('Z'));
+        assertEquals(GuessResult.REJECTED, lost.guess('A'));
+        assertEquals(GuessResult.REJECTED, lost.guess('Z'));
+        assertEquals(".....", lost.getGuessedWord());
+        assertEquals(1, lost.getGuessCount());
+
+        GameSession won = new GameSession("AA", 6);
+        assertEquals(GuessResult.WON, won.guess('A'));
+        assertEquals(GuessResult.REJECTED, won.guess('B'));
+        assertEquals(0, won.getMissCount());
+    }
+}
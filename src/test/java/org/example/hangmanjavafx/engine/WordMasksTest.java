@@ -0,0 +1,48 @@
+package org.example.hangmanjavafx.engine;
+
+import org.example.hangmanjavafx.dictionary.WordFilter;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WordMasksTest {
+
+    @Test
+    void positionsOfEveryLetterAreMasked() {
+        WordMasks masks = new WordMasks("BANANA");
+        assertEquals(0b000001L, masks.getPositionMask('B' - 'A'));
+        assertEquals(0b101010L, masks.getPositionMask('A' - 'A'));
+        assertEquals(0b010100L, masks.getPositionMask('N' - 'A'));
+        assertEquals(0L, masks.getPositionMask('Z' - 'A'));
+        assertEquals(0b111111L, masks.getFullMask());
+        assertEquals(WordFilter.letterMask("ABN"), masks.getLetterMask());
+    }
+
+    @Test
+    void wordOf64LettersUsesTheWholeMask() {
+        String word = "AB".repeat(32);
+        WordMasks masks = new WordMasks(word);
+        assertEquals(WordMasks.MAX_WORD_LENGTH, masks.length());
+        assertEquals(-1L, masks.getFullMask());
+        assertEquals(0x5555_5555_5555_5555L, masks.getPositionMask(0));
+        assertEquals(0xAAAA_AAAA_AAAA_AAAAL, masks.getPositionMask(1));
+
+        GameSession session = new GameSession(masks, 6);
+        assertEquals(GuessResult.CORRECT, session.guess('B'));
+        assertEquals(".B".repeat(32), session.getGuessedWord());
+        assertEquals(GuessResult.WON, session.guess('A'));
+        assertEquals(word, session.getGuessedWord());
+    }
+
+    @Test
+    void wordOf65LettersIsRefused() {
+        assertThrows(IllegalArgumentException.class, () -> new WordMasks("A".repeat(WordMasks.MAX_WORD_LENGTH + 1)));
+    }
+
+    @Test
+    void wordWithOtherCharactersIsRefused() {
+        assertThrows(IllegalArgumentException.class, () -> new WordMasks(""));
+        assertThrows(IllegalArgumentException.class, () -> new WordMasks("apple"));
+        assertThrows(IllegalArgumentException.class, () -> new WordMasks("ICE CREAM"));
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.hangmanjavafx.graphics;
+
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares every frame of {@link SceneSnapshots} with its golden image in {@code src/test/resources/snapshots}.
+ * A frame that differs is written to {@code target/snapshots/name.actual.png}.
+ * After an intended change of the drawing, write the golden images again with
+ * {@code SceneSnapshots src/test/resources/snapshots}.
+ */
+class SceneSnapshotsTest {
+    private static final int TOLERANCE = 2;
+    private static final Path ACTUAL_DIRECTORY = Path.of("target", "snapshots");
+
+    @Test
+    void framesMatchGoldenImages() throws IOException {
+        List<String> frames = new ArrayList<>();
+        List<String> failures = new ArrayList<>();
+        new SceneSnapshots().run((name, surface) -> {
+            frames.add(name);
+            URL golden = SceneSnapshotsTest.class.getResource("/snapshots/" + name + ".png");
+            if (golden == null) {
+                failures.add(name + ": no golden image");
+                return;
+            }
+            int different = surface.countDifferentPixels(toPath(golden), TOLERANCE);
+            if (different > 0) {
+                Files.createDirectories(ACTUAL_DIRECTORY);
+                Path actual = ACTUAL_DIRECTORY.resolve(name + ".actual.png");
+                surface.writePng(actual);
+                failures.add(name + ": " + different + " pixels differ, frame written to " + actual);
+            }
+        });
+
+        assertEquals(List.of("menu", "playing", "playing-guesses", "game-over", "game-won"), frames);
+        assertTrue(failures.isEmpty(), String.join("\n", failures));
+    }
+
+    private static Path toPath(URL url) throws IOException {
+        try {
+            return Path.of(url.toURI());
+        } catch (URISyntaxException e) {
+            throw new IOException(e);
+        }
+    }
+}
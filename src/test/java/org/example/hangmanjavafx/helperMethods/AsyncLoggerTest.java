@@ -0,0 +1,111 @@
+package org.example.hangmanjavafx.helperMethods;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncLoggerTest {
+    private static final int PRODUCERS = 4;
+    private static final int MESSAGES_PER_PRODUCER = 50_000;
+
+    @Test
+    void everyMessageIsPublishedOrCountedAsDropped() throws InterruptedException {
+        String name = AsyncLoggerTest.class.getName() + ".producers";
+        Logger target = Logger.getLogger(name); // Kept in a local variable, so the handler is not collected
+        ConcurrentLinkedQueue<LogRecord> published = new ConcurrentLinkedQueue<>();
+        target.setUseParentHandlers(false);
+        target.addHandler(new CollectingHandler(published));
+
+        AsyncLogger logger = AsyncLogger.getLogger(name);
+        long droppedBefore = AsyncLogger.getDroppedCount();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < PRODUCERS; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < MESSAGES_PER_PRODUCER; i++)
+                    logger.log(Level.INFO, "{0} {1}", producer, i);
+            });
+            thread.start();
+            producers.add(thread);
+        }
+        start.countDown();
+        for (Thread producer : producers)
+            producer.join();
+
+        long total = (long) PRODUCERS * MESSAGES_PER_PRODUCER;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (published.size() + AsyncLogger.getDroppedCount() - droppedBefore < total && System.nanoTime() < deadline)
+            Thread.sleep(10);
+        assertEquals(total, published.size() + AsyncLogger.getDroppedCount() - droppedBefore);
+        assertTrue(published.size() > 0);
+
+        // Messages of one producer are published in the order they were logged
+        int[] lastIndex = new int[PRODUCERS];
+        Arrays.fill(lastIndex, -1);
+        for (LogRecord record : published) {
+            int producer = (Integer) record.getParameters()[0];
+            int index = (Integer) record.getParameters()[1];
+            assertTrue(index > lastIndex[producer], "Producer " + producer + " published " + index + " after " + lastIndex[producer]);
+            lastIndex[producer] = index;
+            assertEquals(name, record.getLoggerName());
+        }
+    }
+
+    @Test
+    void messagesBelowTheLevelAreNotQueued() throws InterruptedException {
+        String name = AsyncLoggerTest.class.getName() + ".level";
+        Logger target = Logger.getLogger(name);
+        ConcurrentLinkedQueue<LogRecord> published = new ConcurrentLinkedQueue<>();
+        target.setLevel(Level.WARNING);
+        target.setUseParentHandlers(false);
+        target.addHandler(new CollectingHandler(published));
+
+        AsyncLogger logger = AsyncLogger.getLogger(name);
+        logger.info("ignored");
+        logger.log(Level.WARNING, "kept");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (published.isEmpty() && System.nanoTime() < deadline)
+            Thread.sleep(10);
+        assertEquals(List.of("kept"), published.stream().map(LogRecord::getMessage).toList());
+    }
+
+    /**
+     * Keeps every published record.
+     */
+    private static final class CollectingHandler extends Handler {
+        private final ConcurrentLinkedQueue<LogRecord> records;
+
+        CollectingHandler(ConcurrentLinkedQueue<LogRecord> records) {
+            this.records = records;
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
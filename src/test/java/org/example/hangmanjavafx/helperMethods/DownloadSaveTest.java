@@ -0,0 +1,32 @@
+package org.example.hangmanjavafx.helperMethods;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class DownloadSaveTest {
+
+    @Test
+    void missingImageIsLoadedAgainOnEveryRequest() {
+        long hits = DownloadSave.getCacheHits();
+        long misses = DownloadSave.getCacheMisses();
+
+        assertNull(DownloadSave.getImage("missing-sync.png"));
+        assertNull(DownloadSave.getImage("missing-sync.png"));
+
+        assertEquals(hits, DownloadSave.getCacheHits());
+        assertEquals(misses + 2, DownloadSave.getCacheMisses());
+    }
+
+    @Test
+    void failedPreloadIsNotCached() {
+        long hits = DownloadSave.getCacheHits();
+        long misses = DownloadSave.getCacheMisses();
+
+        assertNull(DownloadSave.getImageAsync("missing-async.png").join());
+        assertNull(DownloadSave.getImage("missing-async.png"));
+
+        assertEquals(hits, DownloadSave.getCacheHits());
+        assertEquals(misses + 2, DownloadSave.getCacheMisses());
+    }
+}
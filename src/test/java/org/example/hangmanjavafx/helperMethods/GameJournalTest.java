@@ -0,0 +1,94 @@
+package org.example.hangmanjavafx.helperMethods;
+
+import org.example.hangmanjavafx.engine.GameSession;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GameJournalTest {
+    @TempDir
+    Path directory;
+
+    private static GameSession wonGame() {
+        GameSession session = new GameSession("AB", 6);
+        session.guess('Z');
+        session.guess('A');
+        session.guess('B');
+        return session;
+    }
+
+    private static GameSession lostGame() {
+        GameSession session = new GameSession("AB", 1);
+        session.guess('Y');
+        session.guess('Z');
+        return session;
+    }
+
+    @Test
+    void statisticsSurviveReopening() throws IOException {
+        Path path = directory.resolve("journal.bin");
+        try (GameJournal journal = new GameJournal(path)) {
+            journal.append(0, wonGame());
+            journal.append(1, wonGame());
+            journal.append(2, lostGame());
+            journal.append(3, wonGame());
+        }
+        assertEquals(GameJournal.HEADER_SIZE + 4 * GameJournal.RECORD_SIZE, Files.size(path));
+
+        try (GameJournal journal = new GameJournal(path)) {
+            assertEquals(4, journal.getRecordCount());
+            // 3 wins of 3 guesses with 1 miss, 1 loss of 2 guesses with 2 misses; the last win starts a new streak
+            assertEquals(new GameStatistics(4, 3, 11, 5, 1, 2), journal.readStatistics());
+        }
+    }
+
+    @Test
+    void tornRecordIsCutOff() throws IOException {
+        Path path = directory.resolve("journal.bin");
+        try (GameJournal journal = new GameJournal(path)) {
+            journal.append(0, wonGame());
+            journal.append(1, lostGame());
+        }
+        Files.write(path, new byte[GameJournal.RECORD_SIZE / 2], StandardOpenOption.APPEND);
+
+        try (GameJournal journal = new GameJournal(path)) {
+            assertEquals(2, journal.getRecordCount());
+            assertEquals(GameJournal.HEADER_SIZE + 2 * GameJournal.RECORD_SIZE, Files.size(path));
+            journal.append(2, wonGame());
+        }
+        try (GameJournal journal = new GameJournal(path)) {
+            assertEquals(new GameStatistics(3, 2, 8, 4, 1, 1), journal.readStatistics());
+        }
+    }
+
+    @Test
+    void secondJournalOnTheSameFileFails() throws IOException {
+        Path path = directory.resolve("journal.bin");
+        try (GameJournal journal = new GameJournal(path)) {
+            journal.append(0, wonGame());
+            assertThrows(IOException.class, () -> new GameJournal(path));
+        }
+        try (GameJournal journal = new GameJournal(path)) {
+            assertEquals(1, journal.getRecordCount());
+        }
+    }
+
+    @Test
+    void otherFilesAreRejected() throws IOException {
+        Path path = directory.resolve("journal.bin");
+        Files.writeString(path, "not a journal");
+        assertThrows(IOException.class, () -> new GameJournal(path));
+    }
+
+    @Test
+    void unfinishedGameIsRejected() throws IOException {
+        try (GameJournal journal = new GameJournal(directory.resolve("journal.bin"))) {
+            assertThrows(IllegalArgumentException.class, () -> journal.append(0, new GameSession("AB", 6)));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.hangmanjavafx.helperMethods;
+
+import org.example.hangmanjavafx.dictionary.ArrayDictionary;
+import org.example.hangmanjavafx.dictionary.WordDictionary;
+import org.example.hangmanjavafx.engine.GameSession;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GameSnapshotTest {
+    private static final WordDictionary DICTIONARY = new ArrayDictionary(new String[]{"APPLE", "WATER", "HANGMAN"});
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writtenSnapshotIsReadBack() throws IOException {
+        GameSession session = new GameSession("HANGMAN", 6);
+        session.guess('A');
+        session.guess('E');
+        session.guess('N');
+        Path path = directory.resolve("session.bin");
+        GameSnapshot snapshot = GameSnapshot.of(DICTIONARY, 2, session);
+        snapshot.write(path);
+
+        assertEquals(GameSnapshot.SIZE, Files.size(path));
+        assertEquals(snapshot, GameSnapshot.read(path));
+
+        GameSession restored = GameSnapshot.read(path).restore(DICTIONARY);
+        assertNotNull(restored);
+        assertEquals(session.getGuessedWord(), restored.getGuessedWord());
+        assertEquals(session.getGuessedMask(), restored.getGuessedMask());
+        assertEquals(1, restored.getMissCount());
+        assertEquals(6, restored.getMaxMiss());
+    }
+
+    @Test
+    void snapshotOfAnotherDictionaryIsNotRestored() throws IOException {
+        GameSession session = new GameSession("WATER", 6);
+        session.guess('W');
+        Path path = directory.resolve("session.bin");
+        GameSnapshot.of(DICTIONARY, 1, session).write(path);
+
+        GameSnapshot snapshot = GameSnapshot.read(path);
+        assertNull(snapshot.restore(new ArrayDictionary(new String[]{"APPLE", "OTHER", "HANGMAN"})));
+        assertNull(snapshot.restore(new ArrayDictionary(new String[]{"APPLE", "WATER"})));
+    }
+
+    @Test
+    void missingFileIsNoSnapshot() throws IOException {
+        assertNull(GameSnapshot.read(directory.resolve("session.bin")));
+    }
+
+    @Test
+    void otherFilesAreRejected() throws IOException {
+        Path path = directory.resolve("session.bin");
+        Files.write(path, new byte[GameSnapshot.SIZE]);
+        assertThrows(IOException.class, () -> GameSnapshot.read(path));
+        Files.write(path, new byte[3]);
+        assertThrows(IOException.class, () -> GameSnapshot.read(path));
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.hangmanjavafx.replay;
+
+import org.example.hangmanjavafx.Hangman;
+import org.example.hangmanjavafx.graphics.BitmapFont;
+import org.example.hangmanjavafx.inputs.InputQueue;
+import org.example.hangmanjavafx.main.GameStates;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Path;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SessionReplayerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recordedSessionIsReplayedWithoutDivergence() throws IOException {
+        Path path = directory.resolve("session.bin");
+        Hangman hangman = new Hangman(directory.resolve("recorded"), 7, null);
+        hangman.setTextMeasurer(new BitmapFont());
+        int frames;
+        try (ReplayRecorder recorder = startRecording(hangman, path)) {
+            frames = playScriptedSession(hangman);
+            assertEquals(0, recorder.getDroppedCount());
+        } finally {
+            hangman.getGameStore().delete();
+        }
+
+        ReplayRecording recording = ReplayRecording.read(path);
+        assertEquals(7, recording.getSeed());
+        SessionReplayer replayer = new SessionReplayer(recording);
+        Hangman replayed = replayer.createGame();
+        SessionReplayer.Result result;
+        try {
+            result = replayer.replay(replayed);
+        } finally {
+            replayed.getGameStore().delete();
+        }
+
+        assertEquals(0, result.divergences());
+        assertEquals(frames, result.frames());
+        assertEquals(hangman.getPlaying().getWordId(), replayed.getPlaying().getWordId());
+        assertEquals(hangman.getGameStateMachine().getGameState(), replayed.getGameStateMachine().getGameState());
+    }
+
+    private static ReplayRecorder startRecording(Hangman hangman, Path path) throws IOException {
+        hangman.startRecording(path);
+        return hangman.getReplayRecorder();
+    }
+
+    /**
+     * Clicks Play in the menu, then presses one letter per frame until the game is finished.
+     * @return The number of frames played.
+     */
+    private static int playScriptedSession(Hangman hangman) {
+        InputQueue inputQueue = hangman.getInputQueue();
+        inputQueue.mouseMoved(300, 470);
+        inputQueue.mouseClicked(303, 475);
+        int frames = frame(hangman, 0);
+        assertEquals(GameStates.PLAYING, hangman.getGameStateMachine().getGameState());
+
+        for (char letter : "ETAOINSHRDLUCMFWYPVBGKQJXZ".toCharArray()) {
+            if (hangman.getGameStateMachine().getGameState() != GameStates.PLAYING)
+                break;
+            inputQueue.keyPressed(letter);
+            frames = frame(hangman, frames);
+        }
+        assertNotEquals(GameStates.PLAYING, hangman.getGameStateMachine().getGameState());
+        assertTrue(frames > 2);
+        return frames;
+    }
+
+    private static int frame(Hangman hangman, int frames) {
+        hangman.getInputQueue().dispatch();
+        hangman.update();
+        return frames + 1;
+    }
+}
@@ -0,0 +1,157 @@
+package org.example.hangmanjavafx.rooms;
+
+import org.example.hangmanjavafx.engine.GuessResult;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameRoomTest {
+    private static final String[] WORDS = {"HANGMAN", "WATER", "JAVA", "QUIZ", "ALPHABET"};
+
+    @Test
+    void guessesAreAppliedOnce() {
+        GameRoom room = new GameRoom("JAVA", 2, Runnable::run);
+        assertEquals(GuessResult.CORRECT, room.guess('a'));
+        assertEquals(GuessResult.REPEATED, room.guess('A'));
+        assertEquals(GuessResult.REJECTED, room.guess('1'));
+        assertEquals(GuessResult.INCORRECT, room.guess('E'));
+        assertEquals(".A.A", room.getGuessedWord());
+        assertEquals(1, room.getMissCount());
+        assertFalse(room.startRound("WATER"));
+        assertEquals(GuessResult.CORRECT, room.guess('J'));
+        assertEquals(GuessResult.WON, room.guess('V'));
+        assertEquals(GuessResult.REJECTED, room.guess('X'));
+        assertTrue(room.startRound("WATER"));
+        assertEquals(2, room.getRoundNumber());
+    }
+
+    @Test
+    void eventsAreDeliveredInOrderToEverySubscriber() throws InterruptedException {
+        int guessers = 4;
+        int subscriberCount = 3;
+        ExecutorService broadcastThreads = Executors.newFixedThreadPool(2);
+        // Holds the broadcasts back until all subscribers are there, so they all see the start of the first round
+        CountDownLatch subscribed = new CountDownLatch(1);
+        Executor broadcastExecutor = task -> broadcastThreads.execute(() -> {
+            try {
+                subscribed.await();
+            } catch (InterruptedException e) {
+                return;
+            }
+            task.run();
+        });
+        GameRoom room = new GameRoom(WORDS[0], 6, broadcastExecutor);
+        List<List<RoomEvent>> received = new ArrayList<>();
+        AtomicBoolean overlapped = new AtomicBoolean();
+        for (int s = 0; s < subscriberCount; s++) {
+            List<RoomEvent> events = new ArrayList<>();
+            AtomicBoolean delivering = new AtomicBoolean();
+            received.add(events);
+            room.subscribe(batch -> {
+                if (!delivering.compareAndSet(false, true))
+                    overlapped.set(true);
+                events.addAll(batch);
+                delivering.set(false);
+            });
+        }
+        subscribed.countDown();
+
+        AtomicInteger appliedGuesses = new AtomicInteger();
+        AtomicInteger startedRounds = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < guessers; t++) {
+            SplittableRandom random = new SplittableRandom(t);
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 20_000; i++) {
+                    GuessResult result = room.guess((char) ('A' + random.nextInt(26)));
+                    if (result == GuessResult.REJECTED) {
+                        if (room.startRound(WORDS[random.nextInt(WORDS.length)]))
+                            startedRounds.incrementAndGet();
+                    } else if (result != GuessResult.REPEATED)
+                        appliedGuesses.incrementAndGet();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads)
+            thread.join();
+        broadcastThreads.shutdown();
+        assertTrue(broadcastThreads.awaitTermination(30, TimeUnit.SECONDS));
+
+        List<RoomEvent> events = received.get(0);
+        for (List<RoomEvent> other : received)
+            assertEquals(events, other);
+        assertFalse(overlapped.get());
+
+        // Rounds follow each other, every round starts with sequence 0 and its guesses have no gaps
+        int round = 0;
+        int sequence = 0;
+        int guessEvents = 0;
+        boolean finished = true;
+        for (RoomEvent event : events) {
+            if (event.isRoundStart()) {
+                assertTrue(finished, "Round " + round + " ended without a final result");
+                assertEquals(round + 1, event.round());
+                round = event.round();
+                sequence = 0;
+                finished = false;
+            } else {
+                assertEquals(round, event.round());
+                assertEquals(sequence + 1, event.sequence());
+                assertFalse(finished, "Guess after the end of round " + round);
+                sequence = event.sequence();
+                finished = event.result().isFinal();
+                guessEvents++;
+            }
+        }
+        assertEquals(startedRounds.get() + 1, round);
+        assertEquals(room.getRoundNumber(), round);
+        assertEquals(appliedGuesses.get(), guessEvents);
+    }
+
+    @Test
+    void roundsWaitForTheBroadcasts() {
+        Queue<Runnable> pendingBroadcasts = new ArrayDeque<>();
+        GameRoom room = new GameRoom(WORDS[0], 6, pendingBroadcasts::add);
+        List<RoomEvent> events = new ArrayList<>();
+        room.subscribe(events::addAll);
+
+        int rounds = 1;
+        while (true) {
+            for (char letter = 'A'; letter <= 'Z'; letter++)
+                room.guess(letter);
+            if (!room.startRound(WORDS[rounds % WORDS.length]))
+                break;
+            rounds++;
+        }
+        assertTrue(room.getThrottledStarts() > 0);
+        assertEquals(rounds, room.getRoundNumber());
+        assertTrue(rounds > 1 && rounds < 1000, "Rounds in flight: " + rounds);
+
+        while (!pendingBroadcasts.isEmpty())
+            pendingBroadcasts.poll().run();
+        assertEquals(rounds, events.get(events.size() - 1).round());
+        assertTrue(room.startRound(WORDS[0]));
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.hangmanjavafx.server;
+
+import org.example.hangmanjavafx.engine.GameSession;
+import org.junit.jupiter.api.Test;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameProtocolTest {
+
+    @Test
+    void commandsAreMatchedInsideTheBuffer() {
+        byte[] line = "xxNEWxxGUESS Exx".getBytes(StandardCharsets.US_ASCII);
+        assertTrue(GameProtocol.matches(line, 2, 5, GameProtocol.NEW, true));
+        assertFalse(GameProtocol.matches(line, 2, 6, GameProtocol.NEW, true));
+        assertTrue(GameProtocol.matches(line, 2, 6, GameProtocol.NEW, false));
+        assertFalse(GameProtocol.matches(line, 2, 4, GameProtocol.NEW, false));
+        assertTrue(GameProtocol.matches(line, 7, 14, GameProtocol.GUESS, false));
+        assertFalse(GameProtocol.matches(line, 7, 14, GameProtocol.STATE, false));
+        assertFalse(GameProtocol.matches(line, 8, 14, GameProtocol.GUESS, false));
+    }
+
+    @Test
+    void stateIsWrittenAsOneLine() {
+        GameSession session = new GameSession("JAVA", 12);
+        session.guess('A');
+        for (char letter : "BCDEFGHIKLM".toCharArray())
+            session.guess(letter);
+        assertEquals("INCORRECT .A.A 11 12 IN_PROGRESS\n", write(output -> GameProtocol.writeState(output, "INCORRECT", session)));
+
+        session.guess('J');
+        session.guess('V');
+        assertEquals("OK JAVA 11 12 WON JAVA\n", write(output -> GameProtocol.writeState(output, GameProtocol.OK, session)));
+    }
+
+    @Test
+    void longestStateFitsTheResponseLength() {
+        GameSession session = new GameSession("A".repeat(GameProtocol.MAX_LINE_LENGTH), 99);
+        for (char letter : "BCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray())
+            session.guess(letter);
+        session.guess('A');
+        ByteBuffer output = ByteBuffer.allocate(GameProtocol.MAX_RESPONSE_LENGTH);
+        GameProtocol.writeState(output, "REJECTED", session);
+        assertEquals('\n', output.get(output.position() - 1));
+    }
+
+    @Test
+    void errorsAndRequestsEndWithALineBreak() {
+        assertEquals("ERROR No game\n", write(output -> GameProtocol.writeError(output, "No game")));
+        assertEquals("GUESS E\n", write(output -> GameProtocol.writeRequest(output, "GUESS E")));
+    }
+
+    private static String write(Consumer<ByteBuffer> writer) {
+        ByteBuffer output = ByteBuffer.allocate(GameProtocol.MAX_RESPONSE_LENGTH);
+        writer.accept(output);
+        return new String(output.array(), 0, output.position(), StandardCharsets.US_ASCII);
+    }
+}
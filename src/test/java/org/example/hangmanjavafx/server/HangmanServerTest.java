@@ -0,0 +1,98 @@
+package org.example.hangmanjavafx.server;
+
+import org.example.hangmanjavafx.dictionary.ArrayDictionary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class HangmanServerTest {
+    private HangmanServer server;
+    private Socket socket;
+    private OutputStream output;
+    private BufferedReader input;
+
+    @BeforeEach
+    void connect() throws IOException {
+        server = new HangmanServer(new ArrayDictionary(new String[]{"JAVA"}), 3);
+        InetSocketAddress address = server.start(new InetSocketAddress("127.0.0.1", 0), 1);
+        socket = new Socket(address.getAddress(), address.getPort());
+        socket.setSoTimeout(5_000);
+        output = socket.getOutputStream();
+        input = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+    }
+
+    @AfterEach
+    void disconnect() throws IOException {
+        socket.close();
+        server.close();
+    }
+
+    @Test
+    void gameIsPlayedOverTheLoopback() throws IOException {
+        assertEquals("ERROR No game", request("STATE"));
+        assertEquals("OK .... 0 3 IN_PROGRESS", request("NEW"));
+        assertEquals("CORRECT .A.A 0 3 IN_PROGRESS", request("GUESS A"));
+        assertEquals("INCORRECT .A.A 1 3 IN_PROGRESS", request("GUESS E"));
+        assertEquals("REPEATED .A.A 1 3 IN_PROGRESS", request("GUESS A"));
+        assertEquals("CORRECT JA.A 1 3 IN_PROGRESS", request("GUESS J"));
+        assertEquals("WON JAVA 1 3 WON JAVA", request("GUESS V"));
+        assertEquals("OK JAVA 1 3 WON JAVA", request("STATE"));
+        assertEquals("ERROR Unknown command", request("GUESS"));
+
+        send("QUIT\n");
+        assertNull(input.readLine());
+        assertEquals(1, server.getGameCount());
+        assertEquals(1, server.getFinishedGameCount());
+        assertEquals(5, server.getGuessCount());
+    }
+
+    @Test
+    void requestsSplitAcrossPacketsArePutTogether() throws IOException {
+        send("NE");
+        send("W\r\nGUESS");
+        send(" J\nSTA");
+        assertEquals("OK .... 0 3 IN_PROGRESS", input.readLine());
+        assertEquals("CORRECT J... 0 3 IN_PROGRESS", input.readLine());
+        send("TE\n");
+        assertEquals("OK J... 0 3 IN_PROGRESS", input.readLine());
+    }
+
+    @Test
+    void pipelinedRequestsAreAllAnswered() throws IOException {
+        send("NEW\n" + "GUESS X\n".repeat(2) + "GUESS Y\nGUESS Z\nGUESS W\n");
+        assertEquals("OK .... 0 3 IN_PROGRESS", input.readLine());
+        assertEquals("INCORRECT .... 1 3 IN_PROGRESS", input.readLine());
+        assertEquals("REPEATED .... 1 3 IN_PROGRESS", input.readLine());
+        assertEquals("INCORRECT .... 2 3 IN_PROGRESS", input.readLine());
+        assertEquals("INCORRECT .... 3 3 IN_PROGRESS", input.readLine());
+        assertEquals("LOST .... 4 3 LOST JAVA", input.readLine());
+    }
+
+    @Test
+    void oversizedLineClosesTheConnection() throws IOException {
+        assertEquals("OK .... 0 3 IN_PROGRESS", request("NEW"));
+        // Fills the whole input buffer of the connection without a line break
+        send("GUESS " + "A".repeat(GameProtocol.MAX_LINE_LENGTH * 4 - 6));
+        assertEquals("ERROR Line too long", input.readLine());
+        assertNull(input.readLine());
+    }
+
+    private String request(String command) throws IOException {
+        send(command + "\n");
+        return input.readLine();
+    }
+
+    private void send(String text) throws IOException {
+        output.write(text.getBytes(StandardCharsets.US_ASCII));
+        output.flush();
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.hangmanjavafx.solver;
+
+import org.example.hangmanjavafx.dictionary.ArrayDictionary;
+import org.example.hangmanjavafx.dictionary.WordIndex;
+import org.example.hangmanjavafx.engine.GameSession;
+import org.junit.jupiter.api.Test;
+import java.util.SplittableRandom;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CandidateTrackerTest {
+    private static final String[] WORDS = {"CAT", "COT", "CUT", "DOG", "APPLE", "AMPLE", "BANANA", "CABANA", "ANANAS"};
+    private final WordIndex wordIndex = new WordIndex(new ArrayDictionary(WORDS));
+
+    @Test
+    void candidatesAreNarrowedByEveryGuess() {
+        GameSession session = new GameSession("COT");
+        CandidateTracker tracker = new CandidateTracker(wordIndex, 3);
+        assertEquals(4, tracker.getCandidateCount());
+        assertEquals(3, tracker.getLetterCount('C'));
+        assertEquals(2, tracker.getLetterCount('O'));
+
+        guess(session, tracker, 'C');
+        assertEquals(3, tracker.getCandidateCount());
+        assertEquals(0, tracker.getLetterCount('D'));
+
+        guess(session, tracker, 'A');
+        assertEquals(2, tracker.getCandidateCount());
+        assertEquals(1, tracker.getLetterCount('O'));
+        assertEquals(1, tracker.getLetterCount('U'));
+        assertEquals(2, tracker.getLetterCount('T'));
+
+        guess(session, tracker, 'O');
+        assertEquals(1, tracker.getCandidateCount());
+        assertEquals("COT", WORDS[tracker.getCandidate(0)]);
+        assertEquals('T', tracker.bestGuess());
+    }
+
+    @Test
+    void positionsOfARepeatedLetterMustMatch() {
+        GameSession session = new GameSession("BANANA");
+        CandidateTracker tracker = new CandidateTracker(wordIndex, 6);
+        guess(session, tracker, 'N');
+        // CABANA has one N, ANANAS has them at other positions
+        assertEquals(1, tracker.getCandidateCount());
+        assertEquals("BANANA", WORDS[tracker.getCandidate(0)]);
+        // A and B are both in the last candidate; ties go to the first letter
+        assertEquals('A', tracker.bestGuess());
+    }
+
+    @Test
+    void noHintWhenTheWordIsNotInTheDictionary() {
+        GameSession session = new GameSession("BOX");
+        CandidateTracker tracker = new CandidateTracker(wordIndex, 3);
+        guess(session, tracker, 'X');
+        assertEquals(0, tracker.getCandidateCount());
+        assertEquals(0, tracker.bestGuess());
+    }
+
+    @Test
+    void repeatedGuessChangesNothing() {
+        GameSession session = new GameSession("CUT");
+        CandidateTracker tracker = new CandidateTracker(wordIndex, 3);
+        guess(session, tracker, 'U');
+        guess(session, tracker, 'U');
+        assertEquals(1, tracker.getCandidateCount());
+    }
+
+    @Test
+    void trackerOfARunningSessionMatchesOneNarrowedFromTheStart() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (String word : WORDS) {
+            GameSession session = new GameSession(word);
+            CandidateTracker tracker = new CandidateTracker(wordIndex, word.length());
+            for (int i = 0; i < 4 && !session.isFinished(); i++)
+                guess(session, tracker, (char) ('A' + random.nextInt(26)));
+
+            CandidateTracker restored = CandidateTracker.forSession(wordIndex, session);
+            assertArrayEquals(candidates(tracker), candidates(restored), word);
+            for (char letter = 'A'; letter <= 'Z'; letter++)
+                assertEquals(tracker.getLetterCount(letter), restored.getLetterCount(letter));
+            assertEquals(tracker.bestGuess(), restored.bestGuess());
+        }
+    }
+
+    /**
+     * Applies a guess to the session and to the tracker, like the playing scene does.
+     */
+    private static void guess(GameSession session, CandidateTracker tracker, char letter) {
+        session.guess(letter);
+        tracker.update(letter, session.getWordMasks().getPositionMask(letter - 'A'));
+    }
+
+    private static int[] candidates(CandidateTracker tracker) {
+        int[] candidates = new int[tracker.getCandidateCount()];
+        for (int i = 0; i < candidates.length; i++)
+            candidates[i] = tracker.getCandidate(i);
+        return candidates;
+    }
+}
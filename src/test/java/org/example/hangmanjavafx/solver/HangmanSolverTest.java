@@ -0,0 +1,88 @@
+package org.example.hangmanjavafx.solver;
+
+import org.example.hangmanjavafx.dictionary.ArrayDictionary;
+import org.example.hangmanjavafx.dictionary.WordFilter;
+import org.example.hangmanjavafx.dictionary.WordIndex;
+import org.example.hangmanjavafx.engine.GameSession;
+import org.example.hangmanjavafx.engine.GuessResult;
+import org.example.hangmanjavafx.helperMethods.GameData;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HangmanSolverTest {
+    private static final String[] WORDS = {"CAT", "COT", "CUT", "DOG", "APPLE", "AMPLE"};
+    private final HangmanSolver solver = new HangmanSolver(new WordIndex(new ArrayDictionary(WORDS)));
+
+    @Test
+    void candidatesAgreeWithThePatternAndTheMisses() {
+        assertArrayEquals(new int[]{0, 1, 2, 3}, solver.findCandidates("...", 0));
+        assertArrayEquals(new int[]{0, 1, 2}, solver.findCandidates("C..", 0));
+        assertArrayEquals(new int[]{0, 2}, solver.findCandidates("C..", WordFilter.letterMask("O")));
+        // A hidden position cannot hold a letter that was guessed, so COT does not fit .O.
+        assertArrayEquals(new int[]{3}, solver.findCandidates(".O.", WordFilter.letterMask("T")));
+        assertArrayEquals(new int[]{1, 3}, solver.findCandidates(".O.", 0));
+        assertArrayEquals(new int[0], solver.findCandidates("X..", 0));
+    }
+
+    @Test
+    void lettersAreRankedByInformation() {
+        List<LetterScore> scores = solver.rankLetters("A..LE", 0);
+        assertEquals(23, scores.size());
+        // P and M split APPLE from AMPLE, every other letter tells nothing.
+        // P is in both words, so it ranks before M on equal information
+        assertEquals('P', scores.get(0).letter());
+        assertEquals(1.0, scores.get(0).information(), 1e-9);
+        assertEquals(2, scores.get(0).candidatesWithLetter());
+        assertEquals('M', scores.get(1).letter());
+        assertEquals(1.0, scores.get(1).information(), 1e-9);
+        assertEquals(1, scores.get(1).candidatesWithLetter());
+        assertEquals(0.0, scores.get(2).information(), 1e-9);
+
+        for (int i = 1; i < scores.size(); i++)
+            assertTrue(scores.get(i - 1).information() >= scores.get(i).information());
+    }
+
+    @Test
+    void rankingIsTheSameOnManyThreads() {
+        String[] words = new String[20_000];
+        for (int i = 0; i < words.length; i++)
+            words[i] = wordOf(i);
+        WordIndex wordIndex = new WordIndex(new ArrayDictionary(words));
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            List<LetterScore> sequential = new HangmanSolver(wordIndex, single).rankLetters("......", 0);
+            List<LetterScore> parallel = new HangmanSolver(wordIndex, ForkJoinPool.commonPool()).rankLetters("......", 0);
+            assertEquals(sequential, parallel);
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    @Test
+    void solverWinsEveryBuiltInWord() {
+        HangmanSolver builtIn = new HangmanSolver(new WordIndex(new ArrayDictionary()));
+        for (String word : GameData.HIDDEN_WORDS) {
+            GameSession session = new GameSession(word, GameData.MAX_MISS);
+            GuessResult result = GuessResult.CORRECT;
+            while (!result.isFinal())
+                result = session.guess(builtIn.bestGuess(session));
+            assertEquals(GuessResult.WON, result, word);
+        }
+    }
+
+    /**
+     * Spells a number in base 26 with six letters, so every word is different.
+     */
+    private static String wordOf(int number) {
+        char[] letters = new char[6];
+        for (int i = 0; i < letters.length; i++) {
+            letters[i] = (char) ('A' + number % 26);
+            number /= 26;
+        }
+        return new String(letters);
+    }
+}